@@ -30,6 +30,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AiReviewConsumer {
 
+	public static final String LISTENER_ID = "ai-review";
+
 	private final SubscriptionPort subscriptionPort;
 	private final QuizGenerationApplicationService quizGen;
 	private final StringRedisTemplate redis;
@@ -43,6 +45,8 @@ public class AiReviewConsumer {
 	 * @param payload JSON 페이로드
 	 */
 	@KafkaListener(
+		id = LISTENER_ID,
+		idIsGroup = false,
 		topics = "member.ai-review.requested",
 		groupId = "ai-review",
 		concurrency = "3"
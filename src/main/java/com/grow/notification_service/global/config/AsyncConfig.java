@@ -2,6 +2,7 @@ package com.grow.notification_service.global.config;
 
 import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -22,4 +23,25 @@ public class AsyncConfig {
 		ex.initialize();
 		return ex;
 	}
+
+	/**
+	 * SSE 전송 이벤트 리스너(알림 저장, unread 변경, 공지 전파) 전용 실행기.
+	 * 배포 시 실행 중이거나 대기 중인 전송이 끝날 때까지 종료를 기다립니다.
+	 */
+	@Bean(name = "sseEventExecutor")
+	public ThreadPoolTaskExecutor sseEventExecutor(
+		@Value("${sse.event-executor.core-size:4}") int coreSize,
+		@Value("${sse.event-executor.max-size:16}") int maxSize,
+		@Value("${sse.event-executor.queue-capacity:1000}") int queueCapacity,
+		@Value("${sse.event-executor.await-termination-seconds:20}") int awaitTerminationSeconds) {
+		ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+		ex.setCorePoolSize(coreSize);
+		ex.setMaxPoolSize(maxSize);
+		ex.setQueueCapacity(queueCapacity);
+		ex.setThreadNamePrefix("sse-event-");
+		ex.setWaitForTasksToCompleteOnShutdown(true);
+		ex.setAwaitTerminationSeconds(awaitTerminationSeconds);
+		ex.initialize();
+		return ex;
+	}
 }
\ No newline at end of file
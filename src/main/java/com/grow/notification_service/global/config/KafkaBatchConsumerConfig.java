@@ -0,0 +1,58 @@
+package com.grow.notification_service.global.config;
+
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * 알림 요청 배치 리스너 설정 (notification.kafka.consumer-mode=batch 일 때만)
+ * 배치 리스너에는 @RetryableTopic을 쓸 수 없으므로 DefaultErrorHandler로 같은 정책을 맞춥니다.
+ * - 재시도: 총 notification.kafka.batch.retry-attempts회, 1초부터 2배씩 대기
+ * - 재시도 소진 시 기존 DLT 소비자가 받는 "{토픽}.dlt"로 발행
+ * - 역직렬화 실패는 재시도하지 않고 바로 DLT로 보냄
+ */
+@Configuration
+@ConditionalOnProperty(name = "notification.kafka.consumer-mode", havingValue = "batch")
+public class KafkaBatchConsumerConfig {
+
+	public static final String BATCH_LISTENER_FACTORY = "notificationBatchListenerContainerFactory";
+
+	@Bean(name = BATCH_LISTENER_FACTORY)
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> notificationBatchListenerContainerFactory(
+		ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+		ConsumerFactory<Object, Object> consumerFactory,
+		DefaultErrorHandler notificationBatchErrorHandler) {
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(factory, consumerFactory);
+		factory.setBatchListener(true);
+		factory.setCommonErrorHandler(notificationBatchErrorHandler);
+		return factory;
+	}
+
+	@Bean
+	public DefaultErrorHandler notificationBatchErrorHandler(
+		KafkaTemplate<String, String> kafkaTemplate,
+		@Value("${notification.kafka.batch.retry-attempts:5}") int attempts) {
+		DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+			(record, e) -> new TopicPartition(record.topic() + ".dlt", -1));
+
+		ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(Math.max(0, attempts - 1));
+		backOff.setInitialInterval(1000);
+		backOff.setMultiplier(2);
+
+		DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, backOff);
+		errorHandler.addNotRetryableExceptions(JsonProcessingException.class);
+		return errorHandler;
+	}
+}
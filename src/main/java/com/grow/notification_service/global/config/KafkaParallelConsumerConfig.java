@@ -0,0 +1,32 @@
+package com.grow.notification_service.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+
+/**
+ * 알림 요청 병렬 리스너 설정 (notification.kafka.consumer-mode=parallel 일 때만)
+ * - 수동 ack: 키별 워커가 DB 커밋 후 ack
+ * - 비동기 ack: 워커들이 순서와 관계없이 ack해도 파티션별로 앞선 오프셋이 모두 ack된 지점까지만 커밋
+ */
+@Configuration
+@ConditionalOnProperty(name = "notification.kafka.consumer-mode", havingValue = "parallel")
+public class KafkaParallelConsumerConfig {
+
+	public static final String PARALLEL_LISTENER_FACTORY = "notificationParallelListenerContainerFactory";
+
+	@Bean(name = PARALLEL_LISTENER_FACTORY)
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> notificationParallelListenerContainerFactory(
+		ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+		ConsumerFactory<Object, Object> consumerFactory) {
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(factory, consumerFactory);
+		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+		factory.getContainerProperties().setAsyncAcks(true);
+		return factory;
+	}
+}
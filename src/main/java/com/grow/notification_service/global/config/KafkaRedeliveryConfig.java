@@ -0,0 +1,48 @@
+package com.grow.notification_service.global.config;
+
+import java.util.Collection;
+
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ContainerCustomizer;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+
+import com.grow.notification_service.notification.application.idempotency.NotificationIdempotencyGuard;
+
+/**
+ * 알림 요청 리스너의 재수신 신호 설정 (모든 소비 모드 공통)
+ * - 재전달 횟수 헤더(kafka_deliveryAttempt)를 붙여 같은 레코드의 재전달을 알 수 있게 함
+ * - 파티션을 새로 할당받으면 멱등 가드가 잠시 동안 Redis 기록까지 확인하게 함
+ *   (이전 소유 파드가 저장했지만 커밋하지 못한 오프셋이 다시 들어오는 구간)
+ */
+@Configuration
+public class KafkaRedeliveryConfig {
+
+	private static final String NOTIFICATION_REQUESTED = "notification-requested";
+
+	@Bean
+	public ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>> notificationRedeliveryCustomizer(
+		NotificationIdempotencyGuard idempotencyGuard) {
+		return container -> {
+			String listenerId = container.getListenerId();
+			if (listenerId == null || !listenerId.startsWith(NOTIFICATION_REQUESTED)) {
+				return;
+			}
+			container.getContainerProperties().setDeliveryAttemptHeader(true);
+			container.getContainerProperties().setConsumerRebalanceListener(new ConsumerRebalanceListener() {
+				@Override
+				public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+				}
+
+				@Override
+				public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+					if (!partitions.isEmpty()) {
+						idempotencyGuard.expectRedeliveries();
+					}
+				}
+			});
+		};
+	}
+}
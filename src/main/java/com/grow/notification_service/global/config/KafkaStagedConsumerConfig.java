@@ -0,0 +1,32 @@
+package com.grow.notification_service.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+
+/**
+ * 알림 요청 스테이지 리스너 설정 (notification.kafka.consumer-mode=staged 일 때만)
+ * - 수동 ack: 스테이지 워커가 DB 커밋 후 ack
+ * - 비동기 ack: 워커가 순서와 관계없이 ack해도 파티션별로 앞선 오프셋이 모두 ack된 지점까지만 커밋
+ */
+@Configuration
+@ConditionalOnProperty(name = "notification.kafka.consumer-mode", havingValue = "staged")
+public class KafkaStagedConsumerConfig {
+
+	public static final String STAGED_LISTENER_FACTORY = "notificationStagedListenerContainerFactory";
+
+	@Bean(name = STAGED_LISTENER_FACTORY)
+	public ConcurrentKafkaListenerContainerFactory<Object, Object> notificationStagedListenerContainerFactory(
+		ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+		ConsumerFactory<Object, Object> consumerFactory) {
+		ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+		configurer.configure(factory, consumerFactory);
+		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+		factory.getContainerProperties().setAsyncAcks(true);
+		return factory;
+	}
+}
@@ -0,0 +1,35 @@
+package com.grow.notification_service.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import com.grow.notification_service.notification.presentation.websocket.MemberHandshakeInterceptor;
+import com.grow.notification_service.notification.presentation.websocket.NotificationWebSocketHandler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 WebSocket 전송 설정. {@code sse.websocket.enabled=true}일 때만 등록되며 SSE 엔드포인트와 함께 동작합니다.
+ */
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sse.websocket.enabled", havingValue = "true")
+public class WebSocketConfig implements WebSocketConfigurer {
+
+	private final NotificationWebSocketHandler notificationWebSocketHandler;
+
+	@Value("${sse.websocket.allowed-origins:https://www.groow.store}")
+	private String[] allowedOrigins;
+
+	@Override
+	public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+		registry.addHandler(notificationWebSocketHandler, "/api/v1/notification/ws")
+			.addInterceptors(new MemberHandshakeInterceptor())
+			.setAllowedOriginPatterns(allowedOrigins);
+	}
+}
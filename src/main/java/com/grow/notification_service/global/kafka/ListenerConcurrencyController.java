@@ -0,0 +1,239 @@
+package com.grow.notification_service.global.kafka;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리스너 컨테이너 동시성 자동 조절 (kafka.concurrency.auto-scale.enabled=true 일 때만)
+ * kafka.concurrency.listeners에 나열한 리스너 id마다 kafka.concurrency.interval-ms 주기로
+ * 컨슈머 그룹 lag, 오프셋 커밋 속도, 레코드 처리 시간(spring.kafka.listener 타이머)을 보고
+ * {@link ListenerScalingPolicy}가 정한 값으로 동시성을 바꿉니다. 캠페인 발송처럼 lag이 튀면 재배포 없이 늘었다가,
+ * 잠잠해지면 어노테이션의 기본값 쪽으로 천천히 돌아옵니다.
+ *
+ * <p>동시성은 실행 중에 바꿀 수 없으므로 컨테이너를 멈췄다가 새 값으로 다시 시작합니다(리밸런스 1회).
+ * 그래서 바꾼 뒤 kafka.concurrency.cooldown-ms 동안은 다시 바꾸지 않습니다.
+ * 수동 ack로 스테이지와 묶인 리스너(consumer-mode=staged)는 재시작 시 ack 대기 레코드가 재수신되므로 기본 목록에 넣지 않습니다.
+ * 처리를 실행기로 넘기는 리스너(group-join-request-notification의 @Async 저장 등)도 처리 시간이 넘기는 시간만 잡히고
+ * lag도 실제 처리와 무관하게 줄어들므로 넣지 않습니다.
+ *
+ * <p>메트릭: kafka_listener_concurrency{listener}, kafka_listener_lag{listener},
+ * kafka_listener_scale_total{listener, direction="up|down"}
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.concurrency.auto-scale.enabled", havingValue = "true")
+public class ListenerConcurrencyController {
+
+	private static final long ADMIN_TIMEOUT_SECONDS = 10;
+	private static final String LISTENER_TIMER = "spring.kafka.listener";
+
+	private final KafkaListenerEndpointRegistry listenerRegistry;
+	private final KafkaAdmin kafkaAdmin;
+	private final MeterRegistry meterRegistry;
+	private final NotificationMetrics metrics;
+	private final ListenerScalingPolicy policy;
+	private final List<String> listenerIds;
+	private final long cooldownMillis;
+	private final Map<String, Tracked> tracked = new ConcurrentHashMap<>();
+	private AdminClient adminClient;
+
+	public ListenerConcurrencyController(KafkaListenerEndpointRegistry listenerRegistry,
+		KafkaAdmin kafkaAdmin,
+		MeterRegistry meterRegistry,
+		NotificationMetrics metrics,
+		@Value("${kafka.concurrency.listeners:notification-requested,notification-requested-batch,ai-review}") List<String> listenerIds,
+		@Value("${kafka.concurrency.min-concurrency:1}") int minConcurrency,
+		@Value("${kafka.concurrency.max-concurrency:12}") int maxConcurrency,
+		@Value("${kafka.concurrency.scale-up-lag:1000}") long scaleUpLag,
+		@Value("${kafka.concurrency.scale-down-lag:100}") long scaleDownLag,
+		@Value("${kafka.concurrency.target-drain-seconds:60}") double targetDrainSeconds,
+		@Value("${kafka.concurrency.latency-ceiling-ms:0}") double latencyCeilingMillis,
+		@Value("${kafka.concurrency.scale-down-after:4}") int scaleDownAfter,
+		@Value("${kafka.concurrency.cooldown-ms:60000}") long cooldownMillis) {
+		this.listenerRegistry = listenerRegistry;
+		this.kafkaAdmin = kafkaAdmin;
+		this.meterRegistry = meterRegistry;
+		this.metrics = metrics;
+		this.policy = new ListenerScalingPolicy(minConcurrency, maxConcurrency, scaleUpLag, scaleDownLag,
+			targetDrainSeconds, latencyCeilingMillis, scaleDownAfter);
+		this.listenerIds = List.copyOf(listenerIds);
+		this.cooldownMillis = cooldownMillis;
+	}
+
+	@Scheduled(fixedDelayString = "${kafka.concurrency.interval-ms:15000}",
+		initialDelayString = "${kafka.concurrency.interval-ms:15000}")
+	public void adjust() {
+		for (String listenerId : listenerIds) {
+			MessageListenerContainer container = listenerRegistry.getListenerContainer(listenerId);
+			if (!(container instanceof ConcurrentMessageListenerContainer<?, ?> concurrent)) {
+				continue;
+			}
+			try {
+				adjust(listenerId, concurrent);
+			} catch (Exception e) {
+				if (e instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				log.warn("[KAFKA][SCALE] 동시성 조정 실패 - listener: {}", listenerId, e);
+			}
+		}
+	}
+
+	private void adjust(String listenerId, ConcurrentMessageListenerContainer<?, ?> container) throws Exception {
+		Tracked state = tracked.computeIfAbsent(listenerId, id -> register(id, container));
+		String[] topics = container.getContainerProperties().getTopics();
+		if (state.restarting || !container.isRunning() || topics == null || container.getGroupId() == null) {
+			return;
+		}
+
+		AdminClient admin = admin();
+		int partitions = 0;
+		Map<TopicPartition, OffsetSpec> latest = new HashMap<>();
+		for (TopicDescription topic : admin.describeTopics(List.of(topics)).allTopicNames()
+			.get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS).values()) {
+			partitions += topic.partitions().size();
+			topic.partitions().forEach(p -> latest.put(new TopicPartition(topic.name(), p.partition()), OffsetSpec.latest()));
+		}
+		Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(container.getGroupId())
+			.partitionsToOffsetAndMetadata().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		Map<TopicPartition, ListOffsetsResultInfo> ends = admin.listOffsets(latest).all()
+			.get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+		long lag = 0;
+		long committedTotal = 0;
+		for (Map.Entry<TopicPartition, ListOffsetsResultInfo> end : ends.entrySet()) {
+			OffsetAndMetadata offset = committed.get(end.getKey());
+			if (offset == null) {
+				continue;
+			}
+			lag += Math.max(0, end.getValue().offset() - offset.offset());
+			committedTotal += offset.offset();
+		}
+
+		long now = System.currentTimeMillis();
+		double consumedPerSecond = state.sampledAt == 0 || now <= state.sampledAt
+			? 0 : (committedTotal - state.committedTotal) * 1000.0 / (now - state.sampledAt);
+		double latencyMillis = state.latencySince(listenerTimers(listenerId));
+		state.lag = lag;
+		state.committedTotal = committedTotal;
+		state.sampledAt = now;
+		state.calmTicks = policy.calm(lag) ? state.calmTicks + 1 : 0;
+
+		int current = container.getConcurrency();
+		int target = policy.target(current, partitions, lag, consumedPerSecond, latencyMillis, state.calmTicks);
+		if (target == current || now - state.changedAt < cooldownMillis) {
+			return;
+		}
+		log.info("[KAFKA][SCALE] 동시성 변경 - listener: {}, {} -> {}, lag: {}, consumed/s: {}, latencyMs: {}",
+			listenerId, current, target, lag, Math.round(consumedPerSecond), latencyMillis);
+		metrics.result("kafka_listener_scale_total", "listener", listenerId, "direction", target > current ? "up" : "down");
+		state.changedAt = now;
+		state.calmTicks = 0;
+		resize(state, container, target);
+	}
+
+	private void resize(Tracked state, ConcurrentMessageListenerContainer<?, ?> container, int target) {
+		state.restarting = true;
+		container.stop(() -> {
+			try {
+				container.setConcurrency(target);
+				container.start();
+			} catch (Exception e) {
+				log.error("[KAFKA][SCALE] 컨테이너 재시작 실패 - listener: {}", container.getListenerId(), e);
+			} finally {
+				state.restarting = false;
+			}
+		});
+	}
+
+	private Tracked register(String listenerId, ConcurrentMessageListenerContainer<?, ?> container) {
+		Tracked state = new Tracked();
+		Gauge.builder("kafka_listener_concurrency", container, ConcurrentMessageListenerContainer::getConcurrency)
+			.tag("listener", listenerId)
+			.register(meterRegistry);
+		Gauge.builder("kafka_listener_lag", state, s -> s.lag)
+			.tag("listener", listenerId)
+			.register(meterRegistry);
+		return state;
+	}
+
+	/** 자식 컨테이너(빈 이름 "{id}-{n}")의 레코드 처리 타이머 ("{id}-batch-{n}", "{id}-retry-{n}" 등은 제외) */
+	private List<Timer> listenerTimers(String listenerId) {
+		Pattern childName = Pattern.compile(Pattern.quote(listenerId) + "-\\d+");
+		return meterRegistry.find(LISTENER_TIMER).timers().stream()
+			.filter(timer -> {
+				String name = timer.getId().getTag("name");
+				return name != null && childName.matcher(name).matches();
+			})
+			.toList();
+	}
+
+	private synchronized AdminClient admin() {
+		if (adminClient == null) {
+			adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+		}
+		return adminClient;
+	}
+
+	@PreDestroy
+	synchronized void close() {
+		if (adminClient != null) {
+			adminClient.close();
+		}
+	}
+
+	private static final class Tracked {
+
+		private volatile long lag;
+		private volatile boolean restarting;
+		private long committedTotal;
+		private long sampledAt;
+		private long changedAt;
+		private int calmTicks;
+		private long timerCount;
+		private double timerTotalMillis;
+
+		/** 직전 호출 이후 처리한 레코드의 평균 처리 시간, 없으면 NaN */
+		double latencySince(List<Timer> timers) {
+			long count = 0;
+			double totalMillis = 0;
+			for (Timer timer : timers) {
+				count += timer.count();
+				totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+			}
+			long processed = count - timerCount;
+			double latency = processed > 0 ? (totalMillis - timerTotalMillis) / processed : Double.NaN;
+			timerCount = count;
+			timerTotalMillis = totalMillis;
+			return latency;
+		}
+	}
+}
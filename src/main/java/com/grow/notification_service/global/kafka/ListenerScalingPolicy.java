@@ -0,0 +1,69 @@
+package com.grow.notification_service.global.kafka;
+
+/**
+ * 리스너 동시성 목표값 계산 (상태 없음)
+ * - 올림: lag이 scale-up-lag 이상이고, 지금 처리 속도로 lag을 비우는 데 target-drain-seconds보다 오래 걸리면 2배로
+ *   (레코드 처리 시간이 latency-ceiling-ms를 넘으면 하류(DB, 외부 API)가 밀린 것이므로 올리지 않음)
+ * - 내림: lag이 scale-down-lag 이하인 주기가 scale-down-after번 이어지면 1씩
+ * - 범위: min-concurrency ~ min(max-concurrency, 토픽 파티션 수). 파티션보다 많은 컨슈머는 놀기만 합니다.
+ */
+final class ListenerScalingPolicy {
+
+	private final int minConcurrency;
+	private final int maxConcurrency;
+	private final long scaleUpLag;
+	private final long scaleDownLag;
+	private final double targetDrainSeconds;
+	private final double latencyCeilingMillis;
+	private final int scaleDownAfter;
+
+	ListenerScalingPolicy(int minConcurrency, int maxConcurrency, long scaleUpLag, long scaleDownLag,
+		double targetDrainSeconds, double latencyCeilingMillis, int scaleDownAfter) {
+		this.minConcurrency = Math.max(1, minConcurrency);
+		this.maxConcurrency = Math.max(this.minConcurrency, maxConcurrency);
+		this.scaleUpLag = scaleUpLag;
+		this.scaleDownLag = scaleDownLag;
+		this.targetDrainSeconds = targetDrainSeconds;
+		this.latencyCeilingMillis = latencyCeilingMillis;
+		this.scaleDownAfter = Math.max(1, scaleDownAfter);
+	}
+
+	/**
+	 * @param current 현재 동시성
+	 * @param partitions 리스너가 구독하는 토픽들의 파티션 수 합
+	 * @param lag 컨슈머 그룹 lag 합
+	 * @param consumedPerSecond 직전 주기 동안 커밋된 오프셋 증가 속도
+	 * @param latencyMillis 직전 주기의 평균 레코드 처리 시간, 처리한 레코드가 없으면 NaN
+	 * @param calmTicks lag이 scale-down-lag 이하로 이어진 주기 수
+	 * @return 목표 동시성
+	 */
+	int target(int current, int partitions, long lag, double consumedPerSecond, double latencyMillis, int calmTicks) {
+		int upper = Math.max(minConcurrency, Math.min(maxConcurrency, partitions));
+		if (current > upper) {
+			return upper;
+		}
+		if (current < minConcurrency) {
+			return minConcurrency;
+		}
+		if (lag >= scaleUpLag && current < upper && slowToDrain(lag, consumedPerSecond) && !saturated(latencyMillis)) {
+			return Math.min(upper, current * 2);
+		}
+		if (lag <= scaleDownLag && calmTicks >= scaleDownAfter && current > minConcurrency) {
+			return current - 1;
+		}
+		return current;
+	}
+
+	/** 내릴 수 있을 만큼 lag이 작은지 */
+	boolean calm(long lag) {
+		return lag <= scaleDownLag;
+	}
+
+	private boolean slowToDrain(long lag, double consumedPerSecond) {
+		return consumedPerSecond <= 0 || lag / consumedPerSecond > targetDrainSeconds;
+	}
+
+	private boolean saturated(double latencyMillis) {
+		return latencyCeilingMillis > 0 && !Double.isNaN(latencyMillis) && latencyMillis > latencyCeilingMillis;
+	}
+}
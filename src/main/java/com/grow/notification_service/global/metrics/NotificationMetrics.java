@@ -21,6 +21,11 @@ public class NotificationMetrics {
 		registry.counter(name, tags).increment();
 	}
 
+	/** 결과 카운터: 여러 건을 한 번에 집계할 때 사용 */
+	public void result(String name, long amount, String... tags) {
+		registry.counter(name, tags).increment(amount);
+	}
+
 	/** null/blank 라벨 방지 */
 	public static String v(String s) {
 		return (s == null || s.isBlank()) ? "unknown" : s;
@@ -9,11 +9,14 @@ import com.grow.notification_service.note.application.service.NoteApplicationSer
 import com.grow.notification_service.note.presentation.dto.SendNoteRequest;
 import com.grow.notification_service.note.domain.model.Note;
 import com.grow.notification_service.note.domain.repository.NoteRepository;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent.Counter;
 
 import io.micrometer.core.annotation.Counted;
 import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -28,6 +31,7 @@ public class NoteApplicationServiceImpl implements NoteApplicationService {
 	private final MemberPort memberPort;
 	private final NoteNotificationProducer noteNotificationProducer;
 	private final NotificationMetrics metrics;
+	private final ApplicationEventPublisher publisher; // 읽지 않은 쪽지 수 변경 알림
 	/**
 	 * 새 쪽지 생성, 저장
 	 * 도메인 팩토리를 통해 불변 조건을 검증하고 저장
@@ -53,6 +57,7 @@ public class NoteApplicationServiceImpl implements NoteApplicationService {
 
 			log.info("[쪽지] 전송 완료 - senderId={}, recipientId={}, noteId={}",
 				senderId, saved.getRecipientId(), saved.getNoteId());
+			publisher.publishEvent(UnreadCountChangedEvent.add(saved.getRecipientId(), Counter.NOTE, 1));
 
 			metrics.result("note_send_result_total",
 				"result", "success"
@@ -128,6 +133,8 @@ public class NoteApplicationServiceImpl implements NoteApplicationService {
 	@Transactional
 	public void markRead(Long memberId, Long noteId) {
 		noteRepository.markRead(noteId, memberId);
+		// 이미 읽은 쪽지인지 알 수 없으므로 다음 조회 때 다시 셈
+		publisher.publishEvent(UnreadCountChangedEvent.recount(memberId, Counter.NOTE));
 		log.info("[쪽지] 읽음 처리 - memberId={}, noteId={}", memberId, noteId);
 	}
 
@@ -142,6 +149,7 @@ public class NoteApplicationServiceImpl implements NoteApplicationService {
 
 		noteRepository.softDelete(noteId, memberId);
 		noteRepository.deletePhysicallyIfBothDeleted(noteId);
+		publisher.publishEvent(UnreadCountChangedEvent.recount(memberId, Counter.NOTE));
 
 		log.info("[쪽지] 삭제 처리 완료 - memberId={}, noteId={}", memberId, noteId);
 	}
@@ -0,0 +1,29 @@
+package com.grow.notification_service.notice.application.event;
+
+import java.time.LocalDateTime;
+
+import com.grow.notification_service.notice.domain.model.Notice;
+
+/**
+ * 공지 생성 커밋 후 실시간 전파용 이벤트
+ * 본문은 싣지 않고, 클라이언트는 noticeId로 상세를 조회합니다.
+ * @param noticeId 공지사항 ID
+ * @param title 공지사항 제목
+ * @param pinned 공지사항 고정 여부
+ * @param createdAt 공지사항 생성 일시
+ */
+public record NoticeCreatedEvent(
+	Long noticeId,
+	String title,
+	boolean pinned,
+	LocalDateTime createdAt
+) {
+	public static NoticeCreatedEvent from(Notice n) {
+		return new NoticeCreatedEvent(
+			n.getNoticeId(),
+			n.getTitle(),
+			n.isPinned(),
+			n.getCreatedAt()
+		);
+	}
+}
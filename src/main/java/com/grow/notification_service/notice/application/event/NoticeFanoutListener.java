@@ -0,0 +1,37 @@
+package com.grow.notification_service.notice.application.event;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.grow.notification_service.global.util.JsonUtils;
+import com.grow.notification_service.notification.application.sse.SseSendService;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공지 생성이 커밋된 뒤 연결된 모든 SSE 클라이언트에게 공지 이벤트를 전파합니다.
+ * 파드 간 전달과 청크 단위 분할, 전송 속도 제한은 {@link SseSendService#broadcastAll}이 담당합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeFanoutListener {
+
+	private final SseSendService sseSendService;
+
+	@Async("sseEventExecutor")
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onNoticeCreated(NoticeCreatedEvent event) {
+		try {
+			int local = sseSendService.broadcastAll(NotificationType.SERVICE_NOTICE, JsonUtils.toJsonString(event));
+			log.info("[공지][전파][완료] noticeId={} localConnections={}", event.noticeId(), local);
+		} catch (Exception e) {
+			// 공지 저장은 이미 커밋되었고, 클라이언트는 목록 조회로 보완할 수 있으므로 전파 실패는 기록만 한다
+			log.warn("[공지][전파][실패] noticeId={}", event.noticeId(), e);
+		}
+	}
+}
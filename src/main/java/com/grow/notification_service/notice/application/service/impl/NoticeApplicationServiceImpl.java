@@ -2,6 +2,7 @@ package com.grow.notification_service.notice.application.service.impl;
 
 import java.time.Clock;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -9,6 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.grow.notification_service.global.exception.ErrorCode;
 import com.grow.notification_service.global.exception.NoticeException;
+import com.grow.notification_service.notice.application.event.NoticeCreatedEvent;
 import com.grow.notification_service.notice.application.service.NoticeApplicationService;
 import com.grow.notification_service.notice.domain.model.Notice;
 import com.grow.notification_service.notice.domain.repository.NoticeRepository;
@@ -26,6 +28,7 @@ public class NoticeApplicationServiceImpl implements NoticeApplicationService {
 	private final NoticeRepository noticeRepository;
 	private final AuthorityCheckerPort authorityCheckerPort;
 	private final Clock clock;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 공지사항 생성
@@ -43,6 +46,8 @@ public class NoticeApplicationServiceImpl implements NoticeApplicationService {
 
 		Notice notice = Notice.create(title, content, pinned, clock);
 		Notice saved = noticeRepository.save(notice);
+		// 커밋 이후 연결된 클라이언트에게 실시간 전파
+		eventPublisher.publishEvent(NoticeCreatedEvent.from(saved));
 
 		log.info("[공지][생성][완료] noticeId={} title={}", saved.getNoticeId(), saved.getTitle());
 		return saved;
@@ -0,0 +1,40 @@
+package com.grow.notification_service.notification.application.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.grow.notification_service.notification.application.sse.SseFrame;
+
+/**
+ * long-poll 응답. SSE 스트림과 같은 이벤트(id, 이벤트 이름, 데이터)를 담습니다.
+ * 클라이언트는 다음 요청의 {@code cursor}로 이 응답의 cursor를 보내면 SSE의 Last-Event-ID처럼 이어받습니다.
+ *
+ * @param events 받은 이벤트 (오름차순, 시간 초과면 비어 있음)
+ * @param cursor 다음 요청에 보낼 마지막 이벤트 ID (받은 알림이 없으면 요청한 cursor 그대로)
+ * @param retryAfterMillis 서버가 종료 중일 때 다음 요청까지 기다릴 시간
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LongPollResponse(
+	List<SseFrame> events,
+	Long cursor,
+	Long retryAfterMillis
+) {
+
+	public static LongPollResponse of(List<SseFrame> events, Long cursor) {
+		Long last = cursor;
+		for (SseFrame event : events) {
+			if (event.id() != null && (last == null || event.id() > last)) {
+				last = event.id();
+			}
+		}
+		return new LongPollResponse(events, last, null);
+	}
+
+	public static LongPollResponse empty(Long cursor) {
+		return new LongPollResponse(List.of(), cursor, null);
+	}
+
+	public static LongPollResponse retryAfter(Long cursor, long retryAfterMillis) {
+		return new LongPollResponse(List.of(), cursor, retryAfterMillis);
+	}
+}
@@ -0,0 +1,27 @@
+package com.grow.notification_service.notification.application.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * WebSocket으로 클라이언트가 보내는 알림 ack. 여러 알림을 한 메시지에 모아 보냅니다.
+ * 예: {@code {"delivered":[101,102],"read":[99]}}
+ *
+ * @param delivered 받은(화면에 표시한) 알림 ID
+ * @param read 읽은 알림 ID
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NotificationAck(
+	List<Long> delivered,
+	List<Long> read
+) {
+
+	public List<Long> delivered() {
+		return delivered != null ? delivered : List.of();
+	}
+
+	public List<Long> read() {
+		return read != null ? read : List.of();
+	}
+}
@@ -9,6 +9,7 @@ import lombok.Getter;
 @Getter
 public class NotificationListItemResponse {
 	private final Long id;
+	private final NotificationType type;
 	private final String title;       // [GROW], [댓글] 등
 	private final String content;
 	private final boolean read;
@@ -22,6 +23,7 @@ public class NotificationListItemResponse {
 		LocalDateTime createdAt
 	) {
 		this.id = id;
+		this.type = type;
 		this.title = type != null ? type.getTitle() : "[GROW]";
 		this.content = content;
 		this.read = Boolean.TRUE.equals(isRead);
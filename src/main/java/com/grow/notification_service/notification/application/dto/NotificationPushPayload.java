@@ -0,0 +1,32 @@
+package com.grow.notification_service.notification.application.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+/**
+ * SSE 알림 이벤트로 내려가는 데이터. 클라이언트가 목록을 다시 조회하지 않고도
+ * 알림을 그리고 읽음 처리할 수 있도록 저장된 알림의 ID와 생성 시각을 함께 보냅니다.
+ * 값이 없는 필드는 생략합니다.
+ *
+ * @param id 알림 ID (저장하지 않는 일회성 알림은 없음)
+ * @param type 알림 유형
+ * @param content 알림 내용
+ * @param createdAt 알림 생성 시각
+ * @param unreadCount 보내는 시점의 읽지 않은 알림 수 (재전송, 조회 실패 시 없음)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record NotificationPushPayload(
+	Long id,
+	NotificationType type,
+	String content,
+	LocalDateTime createdAt,
+	Long unreadCount
+) {
+
+	/** DB에서 다시 읽은 알림 (재전송용, 읽지 않은 수 없음) */
+	public static NotificationPushPayload of(NotificationListItemResponse item) {
+		return new NotificationPushPayload(item.getId(), item.getType(), item.getContent(), item.getCreatedAt(), null);
+	}
+}
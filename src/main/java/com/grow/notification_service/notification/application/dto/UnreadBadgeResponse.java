@@ -0,0 +1,9 @@
+package com.grow.notification_service.notification.application.dto;
+
+/**
+ * SSE {@code unread} 이벤트로 내려가는 읽지 않은 개수
+ * @param notification 읽지 않은 알림 수
+ * @param note 읽지 않은 쪽지 수
+ */
+public record UnreadBadgeResponse(long notification, long note) {
+}
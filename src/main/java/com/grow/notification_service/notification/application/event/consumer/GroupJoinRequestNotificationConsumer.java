@@ -19,9 +19,13 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class GroupJoinRequestNotificationConsumer {
 
+    public static final String LISTENER_ID = "group-join-request-notification";
+
     private final NotificationService notificationService;
 
     @KafkaListener(
+            id = LISTENER_ID,
+            idIsGroup = false,
             topics = "group.join-request.notification",
             groupId = "group.join.notification-service",
             concurrency = "3"
@@ -0,0 +1,48 @@
+package com.grow.notification_service.notification.application.event.consumer;
+
+import com.grow.notification_service.global.util.JsonUtils;
+import com.grow.notification_service.notification.application.event.dto.StudyNoticeCreatedEvent;
+import com.grow.notification_service.notification.application.sse.SseSendService;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스터디 서비스가 공지 커밋 후 발행한 이벤트를 받아 그룹 멤버의 SSE 연결로만 전파합니다.
+ * 그룹 멤버십은 스터디 서비스가 소유하므로 수신 대상은 이벤트에 실려 옵니다.
+ *
+ * <p>실시간 전파는 최선 노력(best effort)이므로 재시도 토픽을 두지 않습니다.
+ * 놓친 클라이언트는 공지 목록 조회로 보완합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyNoticeNotificationConsumer {
+
+    private final SseSendService sseSendService;
+
+    @KafkaListener(
+            topics = "study.notice.created",
+            groupId = "study.notice.notification-service"
+    )
+    public void consume(String message) {
+        StudyNoticeCreatedEvent event = JsonUtils.fromJsonString(message, StudyNoticeCreatedEvent.class);
+        if (event.getMemberIds() == null || event.getMemberIds().isEmpty()) {
+            log.debug("[Notification] 스터디 공지 수신 대상 없음 - groupId: {}, noticeId: {}",
+                    event.getGroupId(), event.getNoticeId());
+            return;
+        }
+
+        // 본문 없이 식별자와 제목만 보내고, 클라이언트가 상세를 조회한다
+        String payload = JsonUtils.toJsonString(
+                new StudyNoticePush(event.getGroupId(), event.getNoticeId(), event.getTitle()));
+        int local = sseSendService.broadcast(event.getMemberIds(), NotificationType.STUDY_NOTICE, payload);
+        log.info("[Notification] 스터디 공지 전파 - groupId: {}, noticeId: {}, members: {}, localConnections: {}",
+                event.getGroupId(), event.getNoticeId(), event.getMemberIds().size(), local);
+    }
+
+    /** SSE로 내려가는 스터디 공지 요약 */
+    record StudyNoticePush(Long groupId, Long noticeId, String title) {}
+}
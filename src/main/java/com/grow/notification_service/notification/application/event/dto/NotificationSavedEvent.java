@@ -4,13 +4,18 @@ import com.grow.notification_service.notification.presentation.dto.NotificationR
 import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
+import java.time.LocalDateTime;
+
 /**
  * <h2>알림 저장 후 발행되는 커스텀 이벤트 클래스</h2>
  * Spring의 ApplicationEvent를 상속받아 NotificationRequestDto를 포함하며,
  * 이벤트 리스너에서 이를 수신하여 후속 처리(SSE 알림 전송)를 수행합니다.
  *
  * <p>@Getter를 사용하여 dto 필드에 대한 getter 메서드를 제공합니다.
+ * notificationId는 저장 후 생성된 알림 ID로, SSE 이벤트 id로 사용됩니다.
+ * createdAt은 저장된 알림의 생성 시각으로, notificationId와 함께 SSE 데이터에 담겨 클라이언트의 목록 재조회를 줄입니다.
  * 이 이벤트는 NotificationServiceImpl의 processNotification 메서드에서 발행됩니다.
+ * push-first 유형은 저장 전에 발행되므로 notificationId가 null입니다.
  *
  * <p><b>주요 용도:</b> 알림 DB 저장 후 실시간 푸시 알림을 트리거하기 위한 이벤트.
  *
@@ -20,9 +25,22 @@ import org.springframework.context.ApplicationEvent;
 @Getter
 public class NotificationSavedEvent extends ApplicationEvent {
     private final NotificationRequestDto dto;
+    private final Long notificationId;
+    private final LocalDateTime createdAt;
 
     public NotificationSavedEvent(Object source, NotificationRequestDto dto) {
+        this(source, dto, null);
+    }
+
+    public NotificationSavedEvent(Object source, NotificationRequestDto dto, Long notificationId) {
+        this(source, dto, notificationId, null);
+    }
+
+    public NotificationSavedEvent(Object source, NotificationRequestDto dto, Long notificationId,
+                                  LocalDateTime createdAt) {
         super(source);
         this.dto = dto;
+        this.notificationId = notificationId;
+        this.createdAt = createdAt;
     }
 }
\ No newline at end of file
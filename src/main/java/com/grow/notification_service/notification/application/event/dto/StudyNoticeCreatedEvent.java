@@ -0,0 +1,18 @@
+package com.grow.notification_service.notification.application.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyNoticeCreatedEvent {
+
+    private Long groupId; // 공지가 올라온 스터디 그룹 아이디
+    private Long noticeId; // 스터디 공지 아이디
+    private String title; // 스터디 공지 제목
+    private List<Long> memberIds; // 공지를 받을 그룹 멤버 아이디 (스터디 서비스가 채워서 보냄)
+}
@@ -0,0 +1,45 @@
+package com.grow.notification_service.notification.application.event.dto;
+
+/**
+ * <h2>읽지 않은 개수 변경 이벤트</h2>
+ * 알림/쪽지의 읽음 처리, 삭제, 수신 등으로 읽지 않은 개수가 바뀌었을 때 발행합니다.
+ * 커밋 후 카운터에 반영하고 회원의 SSE 연결로 {@code unread} 이벤트를 보냅니다.
+ *
+ * @param memberId 개수가 바뀐 회원 ID
+ * @param counter 바뀐 카운터
+ * @param change 변경 방식
+ * @param delta {@link Change#ADD}일 때 더할 값
+ */
+public record UnreadCountChangedEvent(
+    Long memberId,
+    Counter counter,
+    Change change,
+    long delta
+) {
+
+    public static UnreadCountChangedEvent add(Long memberId, Counter counter, long delta) {
+        return new UnreadCountChangedEvent(memberId, counter, Change.ADD, delta);
+    }
+
+    /** 모두 읽음: 0으로 초기화 */
+    public static UnreadCountChangedEvent reset(Long memberId, Counter counter) {
+        return new UnreadCountChangedEvent(memberId, counter, Change.RESET, 0);
+    }
+
+    /** 변경량을 알 수 없을 때: 다음 조회 시 DB에서 다시 셈 */
+    public static UnreadCountChangedEvent recount(Long memberId, Counter counter) {
+        return new UnreadCountChangedEvent(memberId, counter, Change.RECOUNT, 0);
+    }
+
+    public enum Counter {
+        NOTIFICATION, NOTE;
+
+        public String key() {
+            return name().toLowerCase();
+        }
+    }
+
+    public enum Change {
+        ADD, RESET, RECOUNT
+    }
+}
@@ -8,6 +8,7 @@ import lombok.Getter;
 public enum ErrorCode {
 
     SSE_NOT_CONNECTED("400", "SSE 연결이 되어있지 않습니다."),
+    SSE_CAPACITY_EXCEEDED("503", "SSE 연결 수용 한도를 초과했습니다. 잠시 후 다시 시도해 주세요."),
     ;
 
     private final String code;
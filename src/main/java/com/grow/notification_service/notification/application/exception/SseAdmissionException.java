@@ -0,0 +1,17 @@
+package com.grow.notification_service.notification.application.exception;
+
+import lombok.Getter;
+
+/**
+ * 파드의 SSE 연결 예산을 넘어 구독을 거절할 때 발생합니다.
+ * 클라이언트(게이트웨이)가 다시 시도할 때까지 기다릴 시간을 함께 전달합니다.
+ */
+@Getter
+public class SseAdmissionException extends SseException {
+    private final long retryAfterMillis;
+
+    public SseAdmissionException(long retryAfterMillis) {
+        super(ErrorCode.SSE_CAPACITY_EXCEEDED);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+}
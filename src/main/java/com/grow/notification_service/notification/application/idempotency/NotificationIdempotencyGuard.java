@@ -0,0 +1,202 @@
+package com.grow.notification_service.notification.application.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.notification.application.port.NotificationIdempotencyPort;
+import com.grow.notification_service.notification.presentation.dto.NotificationRequestDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>알림 요청 중복 처리 방지</h2>
+ * 재시도 토픽과 at-least-once 재수신으로 같은 요청이 다시 들어와도 한 번만 저장/푸시되도록 합니다.
+ *
+ * <p>요청의 지문은 프로듀서 키(모든 알림 프로듀서가 memberId를 키로 씀), 알림 유형, 내용, 생성 시각을 섞은 64비트 값입니다.
+ * 생성 시각이 없는 요청은 같은 내용의 정상 알림과 구분할 수 없으므로 검사하지 않습니다.
+ *
+ * <ol>
+ *     <li>파드 내 회전 Bloom filter에 없으면 새 요청입니다. 대부분의 요청은 여기서 끝나며 객체를 만들지 않습니다.
+ *     단, 재수신 신호가 있는 요청은 Redis를 한 번 더 확인합니다 (아래 참고).</li>
+ *     <li>있으면 중복 의심입니다. 아직 기록하지 않은 지문이거나 Redis에 있으면 중복으로 확정해 건너뜁니다.
+ *     둘 다 없으면 오탐이므로 처리합니다.</li>
+ *     <li>처리(커밋 또는 write-behind 버퍼 적재)에 성공한 요청만 {@link #remember}로 기록합니다.
+ *     Redis 기록은 {@code notification.idempotency.flush-ms}마다 파이프라인으로 묶어 보냅니다.</li>
+ * </ol>
+ *
+ * <p>Bloom filter는 {@code notification.idempotency.window-ms}마다 회전하므로 한 요청은 1~2 주기 동안 걸러집니다.
+ * 파드마다 따로 두므로 재시작이나 리밸런스 뒤의 재수신은 필터에 없습니다. 그래서 필터에 없어도 다음 경우에는 Redis를 확인합니다.
+ * <ul>
+ *     <li>요청에 재수신 표시가 있는 경우 ({@link NotificationRequestDto#isRedelivered()}: 재시도 토픽 헤더, 재전달 횟수 2 이상)</li>
+ *     <li>기동 직후와 파티션을 새로 할당받은 뒤 {@code notification.idempotency.recheck-ms} 동안 ({@link #expectRedeliveries()})</li>
+ * </ul>
+ * 다른 파드가 처리했지만 아직 Redis로 보내지 못한 지문(flush-ms 이내)은 여전히 걸러지지 않습니다.
+ *
+ * <p>메트릭: {@code notification_dedupe_total{result="duplicate|false_positive"}},
+ * {@code notification_dedupe_pending}(Redis 기록 대기 지문 수)
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+@Slf4j
+@Component
+public class NotificationIdempotencyGuard {
+
+    /** 지문이 없는 요청 (검사하지 않음) */
+    public static final long NONE = 0L;
+    private static final int MAX_PENDING = 100_000;
+
+    private final RotatingBloomFilter filter;
+    private final NotificationIdempotencyPort idempotencyPort;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final Counter duplicates;
+    private final Counter falsePositives;
+    private final long recheckMillis;
+    private volatile long recheckUntil;
+
+    public NotificationIdempotencyGuard(NotificationIdempotencyPort idempotencyPort,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${notification.idempotency.expected-per-window:1000000}") long expectedPerWindow,
+                                        @Value("${notification.idempotency.false-positive-rate:0.01}") double falsePositiveRate,
+                                        @Value("${notification.idempotency.recheck-ms:60000}") long recheckMillis) {
+        this.idempotencyPort = idempotencyPort;
+        this.filter = new RotatingBloomFilter(expectedPerWindow, falsePositiveRate);
+        this.duplicates = meterRegistry.counter("notification_dedupe_total", "result", "duplicate");
+        this.falsePositives = meterRegistry.counter("notification_dedupe_total", "result", "false_positive");
+        Gauge.builder("notification_dedupe_pending", pending, Set::size).register(meterRegistry);
+        this.recheckMillis = Math.max(0, recheckMillis);
+        expectRedeliveries(); // 기동 직후의 필터는 비어 있음
+    }
+
+    /**
+     * 재수신이 몰릴 수 있는 시점(기동, 파티션 할당)에 호출합니다.
+     * recheck-ms 동안은 필터에 없는 요청도 Redis로 확인합니다.
+     */
+    public void expectRedeliveries() {
+        recheckUntil = System.currentTimeMillis() + recheckMillis;
+    }
+
+    /**
+     * 이미 처리한 요청인지 확인합니다.
+     * @return 중복으로 확정되면 true
+     */
+    public boolean isDuplicate(NotificationRequestDto request) {
+        return isDuplicate(fingerprint(request), request.isRedelivered());
+    }
+
+    /**
+     * 한 번에 받은 요청 목록 안에서 겹치는 요청까지 함께 확인합니다.
+     * @param seenInBatch 같은 목록에서 앞서 확인한 지문 (확인한 지문이 추가됨)
+     * @return 중복으로 확정되면 true
+     */
+    public boolean isDuplicate(NotificationRequestDto request, Set<Long> seenInBatch) {
+        long fingerprint = fingerprint(request);
+        if (fingerprint != NONE && !seenInBatch.add(fingerprint)) {
+            duplicates.increment();
+            return true;
+        }
+        return isDuplicate(fingerprint, request.isRedelivered());
+    }
+
+    private boolean isDuplicate(long fingerprint, boolean redelivered) {
+        if (fingerprint == NONE) {
+            return false;
+        }
+        if (!filter.mightContain(fingerprint)) {
+            // 다른 파드나 재시작 전에 처리했을 수 있는 요청만 Redis로 확인
+            if ((redelivered || System.currentTimeMillis() < recheckUntil) && idempotencyPort.seen(fingerprint)) {
+                duplicates.increment();
+                return true;
+            }
+            return false;
+        }
+        if (pending.contains(fingerprint) || idempotencyPort.seen(fingerprint)) {
+            duplicates.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /** 처리에 성공한 요청을 기록합니다. */
+    public void remember(NotificationRequestDto request) {
+        long fingerprint = fingerprint(request);
+        if (fingerprint == NONE) {
+            return;
+        }
+        filter.put(fingerprint);
+        pending.add(fingerprint);
+    }
+
+    /**
+     * 요청의 64비트 지문. 같은 요청이면 어느 파드에서 계산해도 같은 값입니다.
+     * @return 지문, 생성 시각이 없으면 {@link #NONE}
+     */
+    public static long fingerprint(NotificationRequestDto request) {
+        LocalDateTime timestamp = request.getTimestamp();
+        if (timestamp == null || request.getMemberId() == null) {
+            return NONE;
+        }
+        long h = mix(request.getMemberId());
+        h = mix(h ^ (request.getNotificationType() == null ? -1 : request.getNotificationType().ordinal()));
+        h = mix(h ^ (request.getContent() == null ? 0 : request.getContent().hashCode()));
+        h = mix(h ^ timestamp.toLocalDate().toEpochDay());
+        h = mix(h ^ timestamp.toLocalTime().toNanoOfDay());
+        return h == NONE ? 1 : h;
+    }
+
+    /** 기록 대기 중인 지문을 Redis에 한 번에 기록합니다. 실패하면 다음 주기에 다시 시도합니다. */
+    @Scheduled(fixedDelayString = "${notification.idempotency.flush-ms:200}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Long> batch = new ArrayList<>(pending.size());
+        Iterator<Long> it = pending.iterator();
+        while (it.hasNext()) {
+            batch.add(it.next());
+            it.remove();
+        }
+        try {
+            idempotencyPort.remember(batch);
+        } catch (Exception e) {
+            log.warn("[Notification] 중복 방지 지문 기록 실패 - count: {}", batch.size(), e);
+            if (pending.size() + batch.size() <= MAX_PENDING) {
+                pending.addAll(batch);
+            }
+        }
+    }
+
+    /** 가장 오래된 Bloom filter 세대를 비웁니다. */
+    @Scheduled(fixedRateString = "${notification.idempotency.window-ms:600000}",
+               initialDelayString = "${notification.idempotency.window-ms:600000}")
+    public void rotate() {
+        filter.rotate();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    /** murmur3 fmix64 */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,93 @@
+package com.grow.notification_service.notification.application.idempotency;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <h2>두 세대로 회전하는 Bloom filter</h2>
+ * 현재 세대에 기록하고, 조회는 현재와 직전 세대를 함께 봅니다. {@link #rotate()}가 불릴 때마다
+ * 직전 세대를 비워 새 현재 세대로 쓰므로, 기록은 회전 주기의 1~2배 동안 유지되고 메모리는 고정됩니다.
+ *
+ * <p>키는 이미 섞인 64비트 지문이며, 상위/하위 32비트로 이중 해싱해 k개의 위치를 만듭니다.
+ * 기록과 조회 모두 객체를 만들지 않습니다.
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+class RotatingBloomFilter {
+
+    private final int bits;
+    private final int hashes;
+    private volatile AtomicLongArray current;
+    private volatile AtomicLongArray previous;
+
+    /**
+     * @param expectedPerGeneration 한 세대에 기록될 것으로 예상되는 키 수
+     * @param falsePositiveRate 목표 오탐률 (0 ~ 1)
+     */
+    RotatingBloomFilter(long expectedPerGeneration, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1)");
+        }
+        long n = Math.max(1, expectedPerGeneration);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = (int) Math.min(Integer.MAX_VALUE - 63L, Math.max(64, m));
+        this.hashes = (int) Math.max(1, Math.round((double) bits / n * Math.log(2)));
+        this.current = new AtomicLongArray((bits + 63) / 64);
+        this.previous = new AtomicLongArray((bits + 63) / 64);
+    }
+
+    void put(long key) {
+        AtomicLongArray words = current;
+        int h1 = (int) key;
+        int h2 = (int) (key >>> 32);
+        for (int i = 0; i < hashes; i++) {
+            int bit = index(h1 + i * h2);
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long value;
+            do {
+                value = words.get(word);
+                if ((value & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, value, value | mask));
+        }
+    }
+
+    boolean mightContain(long key) {
+        return contains(current, key) || contains(previous, key);
+    }
+
+    /** 직전 세대를 버리고 빈 세대를 현재로 씁니다. */
+    synchronized void rotate() {
+        AtomicLongArray cleared = previous;
+        for (int i = 0; i < cleared.length(); i++) {
+            cleared.set(i, 0);
+        }
+        previous = current;
+        current = cleared;
+    }
+
+    int bitSize() {
+        return bits;
+    }
+
+    int hashCount() {
+        return hashes;
+    }
+
+    private boolean contains(AtomicLongArray words, long key) {
+        int h1 = (int) key;
+        int h2 = (int) (key >>> 32);
+        for (int i = 0; i < hashes; i++) {
+            int bit = index(h1 + i * h2);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(int hash) {
+        return (hash & Integer.MAX_VALUE) % bits;
+    }
+}
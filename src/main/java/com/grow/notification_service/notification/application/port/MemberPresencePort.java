@@ -0,0 +1,22 @@
+package com.grow.notification_service.notification.application.port;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 회원의 SSE 연결이 어느 파드에 있는지 관리하는 프레즌스 디렉터리
+ */
+public interface MemberPresencePort {
+
+	/** 회원이 해당 파드에 연결됨 */
+	void online(Long memberId, String podId);
+
+	/** 회원의 해당 파드 연결이 모두 끊김 */
+	void offline(Long memberId, String podId);
+
+	/** 해당 파드에 연결된 회원들의 프레즌스 만료 시간 연장 */
+	void refresh(Collection<Long> memberIds, String podId);
+
+	/** 회원이 연결되어 있는 파드 목록 (만료된 항목 제외) */
+	Set<String> podsOf(Long memberId);
+}
@@ -0,0 +1,16 @@
+package com.grow.notification_service.notification.application.port;
+
+import java.util.Collection;
+
+/**
+ * 처리한 알림 요청의 지문을 파드 밖에 보관하는 저장소
+ * 파드 내 Bloom filter가 중복으로 의심한 요청을 확정할 때만 조회합니다.
+ */
+public interface NotificationIdempotencyPort {
+
+	/** 지문이 이미 처리된 요청인지 확인 (조회 실패 시 false) */
+	boolean seen(long fingerprint);
+
+	/** 처리한 요청의 지문을 TTL과 함께 기록 (한 번의 왕복으로 묶어서) */
+	void remember(Collection<Long> fingerprints);
+}
@@ -0,0 +1,30 @@
+package com.grow.notification_service.notification.application.port;
+
+import java.util.List;
+
+import com.grow.notification_service.notification.domain.model.Notification;
+
+/**
+ * 아직 DB에 저장하지 않은 알림(write-behind)을 파드 재시작 후에도 복구할 수 있도록 남기는 로컬 저널
+ * 저널은 세그먼트 단위로 기록되며, 일괄 저장에 성공한 세그먼트만 지웁니다.
+ */
+public interface NotificationJournalPort {
+
+	/** 현재 세그먼트 끝에 알림을 기록. 디스크 반영은 {@link #sync()}에 맡깁니다. (실패 시 UncheckedIOException) */
+	void append(Notification notification);
+
+	/** 지금까지 기록한 알림을 디스크에 한 번에 반영 (group commit, 실패 시 UncheckedIOException) */
+	void sync();
+
+	/**
+	 * 현재 세그먼트를 닫고 새 세그먼트를 엽니다.
+	 * @return 닫은 세그먼트 번호. 이 번호 이하의 세그먼트는 {@link #discard(long)}로 지울 수 있습니다.
+	 */
+	long seal();
+
+	/** sequence 이하의 닫힌 세그먼트 삭제 (해당 알림이 모두 DB에 저장된 뒤 호출) */
+	void discard(long sequence);
+
+	/** 이전 실행에서 남은 세그먼트의 알림을 기록 순서대로 읽습니다. 기동 시 한 번 호출됩니다. */
+	List<Notification> recover();
+}
@@ -0,0 +1,17 @@
+package com.grow.notification_service.notification.application.port;
+
+import com.grow.notification_service.notification.application.sse.SseBroadcastMessage;
+import com.grow.notification_service.notification.application.sse.SseRelayMessage;
+
+/**
+ * 다른 파드에 연결된 회원에게 보낼 SSE 메시지를 해당 파드로만 전달
+ * 브로드캐스트는 대상 회원이 많아 파드를 조회하지 않고 모든 파드로 한 번에 발행합니다.
+ */
+public interface SseRelayPort {
+
+	/** podId 파드의 전용 채널로 메시지 발행 */
+	void publish(String podId, SseRelayMessage message);
+
+	/** 모든 파드가 구독하는 브로드캐스트 채널로 메시지 발행 */
+	void broadcast(SseBroadcastMessage message);
+}
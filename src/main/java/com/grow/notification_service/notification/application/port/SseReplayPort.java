@@ -0,0 +1,23 @@
+package com.grow.notification_service.notification.application.port;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.grow.notification_service.notification.application.sse.SseFrame;
+
+/**
+ * 회원별 최근 SSE 이벤트를 보관하는 고정 크기 재전송 버퍼
+ * 재연결이 어느 파드로 들어오든 같은 버퍼를 보도록 파드 밖에 둡니다.
+ */
+public interface SseReplayPort {
+
+	/** id가 있는 이벤트를 버퍼에 추가 (용량을 넘으면 오래된 이벤트부터 밀려남) */
+	void append(Long memberId, SseFrame frame);
+
+	/**
+	 * lastEventId 이후의 이벤트 조회
+	 * @return 버퍼만으로 빠짐없이 이어줄 수 있으면 이벤트 목록(오름차순),
+	 *         이미 밀려났거나 버퍼가 없으면 empty
+	 */
+	Optional<List<SseFrame>> framesAfter(Long memberId, long lastEventId);
+}
@@ -0,0 +1,26 @@
+package com.grow.notification_service.notification.application.port;
+
+import java.util.OptionalLong;
+
+/**
+ * 회원별 읽지 않은 개수 카운터
+ * 푸시할 때마다 COUNT 쿼리를 하지 않도록 변경분만 반영해 유지합니다.
+ * 카운터가 없으면(처음이거나 만료) 호출 측이 DB에서 한 번 세어 채웁니다.
+ */
+public interface UnreadCounterPort {
+
+	/** 현재 값. 카운터가 없으면 empty */
+	OptionalLong get(String counter, Long memberId);
+
+	/**
+	 * 카운터가 있을 때만 delta를 더합니다. 결과는 0 아래로 내려가지 않습니다.
+	 * @return 더한 뒤의 값, 카운터가 없으면 empty
+	 */
+	OptionalLong add(String counter, Long memberId, long delta);
+
+	/** 카운터 값을 설정합니다. (DB에서 센 값으로 채우거나 0으로 초기화) */
+	void set(String counter, Long memberId, long value);
+
+	/** 카운터를 지웁니다. 다음 조회 시 DB에서 다시 셉니다. */
+	void evict(String counter, Long memberId);
+}
@@ -1,6 +1,7 @@
 package com.grow.notification_service.notification.application.service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -21,6 +22,9 @@ public interface NotificationQueryService {
 	/** 단건 읽음 처리 */
 	boolean markOneRead(Long memberId, Long id);
 
+	/** 여러 건 읽음 처리 (UPDATE 한 번) */
+	int markRead(Long memberId, Collection<Long> ids);
+
 	/** 단건 삭제 */
 	boolean deleteOne(Long memberId, Long id);
 
@@ -2,6 +2,11 @@ package com.grow.notification_service.notification.application.service;
 
 import com.grow.notification_service.notification.presentation.dto.NotificationRequestDto;
 
+import java.util.List;
+
 public interface NotificationService {
     void processNotification(NotificationRequestDto requestDto);
+
+    /** 여러 알림을 한 트랜잭션의 다건 INSERT로 저장하고 알림마다 이벤트를 발행합니다. (동기) */
+    void processNotifications(List<NotificationRequestDto> requests);
 }
\ No newline at end of file
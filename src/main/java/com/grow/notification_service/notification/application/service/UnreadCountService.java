@@ -0,0 +1,16 @@
+package com.grow.notification_service.notification.application.service;
+
+import com.grow.notification_service.notification.application.dto.UnreadBadgeResponse;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent;
+
+public interface UnreadCountService {
+
+	/** 카운터 기준 읽지 않은 개수. 카운터가 없을 때만 DB에서 세어 채움 */
+	long count(UnreadCountChangedEvent.Counter counter, Long memberId);
+
+	/** 읽지 않은 알림/쪽지 수 */
+	UnreadBadgeResponse badge(Long memberId);
+
+	/** 변경 이벤트를 카운터에 반영 */
+	void apply(UnreadCountChangedEvent event);
+}
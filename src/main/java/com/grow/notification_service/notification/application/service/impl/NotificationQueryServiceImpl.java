@@ -1,8 +1,10 @@
 package com.grow.notification_service.notification.application.service.impl;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -11,6 +13,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.grow.notification_service.notification.application.dto.NotificationListItemResponse;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent.Counter;
 import com.grow.notification_service.notification.application.service.NotificationQueryService;
 import com.grow.notification_service.notification.infra.persistence.repository.NotificationJpaRepository;
 
@@ -21,6 +25,7 @@ import lombok.RequiredArgsConstructor;
 public class NotificationQueryServiceImpl implements NotificationQueryService {
 
 	private final NotificationJpaRepository jpa;
+	private final ApplicationEventPublisher publisher; // 읽지 않은 개수 변경 알림
 
 	/**
 	 *  <h2>알림 페이지 조회</h2>
@@ -58,7 +63,11 @@ public class NotificationQueryServiceImpl implements NotificationQueryService {
 	@Override
 	@Transactional
 	public int markAllRead(Long memberId) {
-		return jpa.markAllRead(memberId);
+		int updated = jpa.markAllRead(memberId);
+		if (updated > 0) {
+			publisher.publishEvent(UnreadCountChangedEvent.reset(memberId, Counter.NOTIFICATION));
+		}
+		return updated;
 	}
 
 	/**
@@ -71,7 +80,32 @@ public class NotificationQueryServiceImpl implements NotificationQueryService {
 	@Override
 	@Transactional
 	public boolean markOneRead(Long memberId, Long id) {
-		return jpa.markOneRead(memberId, id) > 0;
+		boolean updated = jpa.markOneRead(memberId, id) > 0;
+		if (updated) {
+			publisher.publishEvent(UnreadCountChangedEvent.add(memberId, Counter.NOTIFICATION, -1));
+		}
+		return updated;
+	}
+
+	/**
+	 * <h2>여러 알림을 읽음으로 표시</h2>
+	 * 클라이언트가 모아 보낸 읽음 ack를 UPDATE 한 번으로 반영합니다.
+	 * 이미 읽었거나 다른 회원의 알림은 갱신되지 않으며, 실제로 바뀐 개수만큼 읽지 않은 수를 줄입니다.
+	 * @param memberId
+	 * @param ids
+	 * @return 읽음 처리된 알림 수
+	 */
+	@Override
+	@Transactional
+	public int markRead(Long memberId, Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		int updated = jpa.markRead(memberId, ids);
+		if (updated > 0) {
+			publisher.publishEvent(UnreadCountChangedEvent.add(memberId, Counter.NOTIFICATION, -updated));
+		}
+		return updated;
 	}
 
 	/**
@@ -84,7 +118,12 @@ public class NotificationQueryServiceImpl implements NotificationQueryService {
 	@Override
 	@Transactional
 	public boolean deleteOne(Long memberId, Long id) {
-		return jpa.deleteByNotificationIdAndMemberId(id, memberId) > 0;
+		boolean unread = jpa.findIsRead(memberId, id).map(read -> !read).orElse(false);
+		boolean deleted = jpa.deleteByNotificationIdAndMemberId(id, memberId) > 0;
+		if (deleted && unread) {
+			publisher.publishEvent(UnreadCountChangedEvent.add(memberId, Counter.NOTIFICATION, -1));
+		}
+		return deleted;
 	}
 
 	/**
@@ -97,7 +136,12 @@ public class NotificationQueryServiceImpl implements NotificationQueryService {
 	@Override
 	@Transactional
 	public int deleteOlderThan(Long memberId, LocalDateTime before) {
-		return jpa.deleteOld(memberId, before);
+		long unread = jpa.countUnreadBefore(memberId, before);
+		int deleted = jpa.deleteOld(memberId, before);
+		if (deleted > 0 && unread > 0) {
+			publisher.publishEvent(UnreadCountChangedEvent.add(memberId, Counter.NOTIFICATION, -unread));
+		}
+		return deleted;
 	}
 
 	/**
@@ -2,7 +2,12 @@ package com.grow.notification_service.notification.application.service.impl;
 
 import com.grow.notification_service.global.metrics.NotificationMetrics;
 import com.grow.notification_service.notification.application.event.dto.NotificationSavedEvent;
+import com.grow.notification_service.notification.application.idempotency.NotificationIdempotencyGuard;
+import com.grow.notification_service.notification.application.port.MemberPresencePort;
 import com.grow.notification_service.notification.application.service.NotificationService;
+import com.grow.notification_service.notification.application.writebehind.NotificationDeliveryPolicy;
+import com.grow.notification_service.notification.application.writebehind.NotificationDeliveryPolicy.DeliveryMode;
+import com.grow.notification_service.notification.application.writebehind.NotificationWriteBehindBuffer;
 import com.grow.notification_service.notification.domain.model.Notification;
 import com.grow.notification_service.notification.domain.repository.NotificationRepository;
 import com.grow.notification_service.notification.presentation.dto.NotificationRequestDto;
@@ -14,18 +19,27 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 /**
  * <h2>알림 서비스의 구현 클래스</h2>
  * 알림 요청을 받아 데이터베이스에 저장하고, 저장 후 이벤트를 발행하여
  * 실시간 알림(예: SSE 푸시)을 트리거하는 역할을 합니다.
  *
- * <p>이 클래스는 @Async를 사용하여 비동기적으로 동작하며, @Transactional로
+ * <p>이 클래스는 @Async를 사용하여 비동기적으로 동작하며, TransactionTemplate으로
  * 데이터베이스 작업의 일관성을 보장합니다. ApplicationEventPublisher를 통해
  * NotificationSavedEvent를 발행하여 다른 서비스(SSE 알림 전송)와 연계됩니다.
  *
+ * <p>{@link NotificationDeliveryPolicy}가 push-first로 지정한 유형은 트랜잭션을 열지 않고
+ * 바로 이벤트를 발행하며, 저장은 {@link NotificationWriteBehindBuffer}가 묶어서 처리합니다.
+ * 연결이 없는 회원의 알림은 바로 저장해 id를 붙이고 미전송으로 남겨 다음 연결 때 재전송합니다.
+ *
  * <p><b>주요 기능:</b>
  * <ul>
  *     <li>알림 DTO를 엔티티로 변환하여 DB 저장</li>
@@ -44,9 +58,14 @@ public class NotificationServiceImpl implements NotificationService {
     private final NotificationRepository notificationRepository;
     private final ApplicationEventPublisher publisher; // 이벤트 발행
     private final NotificationMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationDeliveryPolicy deliveryPolicy;
+    private final NotificationWriteBehindBuffer writeBehindBuffer;
+    private final NotificationIdempotencyGuard idempotencyGuard;
+    private final MemberPresencePort presencePort;
     /**
      * 알림을 처리하는 엔트리 포인트입니다. DB 저장 후 이벤트를 발행합니다.
-     * 이 메서드는 비동기(@Async)로 실행되며, 트랜잭션(@Transactional) 내에서 동작합니다.
+     * 이 메서드는 비동기(@Async)로 실행되며, 저장과 이벤트 발행은 한 트랜잭션(TransactionTemplate) 안에서 동작합니다.
      *
      * <p>처리 순서:
      * <ol>
@@ -55,17 +74,39 @@ public class NotificationServiceImpl implements NotificationService {
      *     <li>INFO 레벨 로그를 기록합니다.</li>
      * </ol>
      *
+     * <p>push-first 유형은 write-behind 버퍼에 넣은 뒤 곧바로 이벤트를 발행합니다.
+     * 버퍼가 가득 찼거나 저널 기록에 실패하면 위의 순서대로 처리합니다.
+     *
+     * <p>재시도/재수신으로 이미 처리한 요청이 다시 들어오면({@link NotificationIdempotencyGuard}) 저장과 푸시 없이 건너뜁니다.
+     *
      * @param request 알림 요청 DTO. memberId, content, notificationType 등의 필드를 포함해야 합니다.
      */
     @Async
     @Override
-    @Transactional
     @Timed(value = "notification_process_latency")
     @Counted(value = "notification_process_total")
     public void processNotification(NotificationRequestDto request) {
+        if (idempotencyGuard.isDuplicate(request)) {
+            log.info("[Notification] 이미 처리한 알림 요청 - 건너뜀 - memberId: {}, type: {}",
+                    request.getMemberId(), request.getNotificationType());
+            return;
+        }
         try {
-            saveNotification(request);
-            publisher.publishEvent(new NotificationSavedEvent(this, request));
+            if (deliveryPolicy.mode(request.getNotificationType()) == DeliveryMode.PUSH_FIRST
+                    && pushFirst(request)) {
+                idempotencyGuard.remember(request);
+                metrics.result("notification_saved_total",
+                    "result", "buffered",
+                    "type", request.getNotificationType().name()
+                );
+                return;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                Notification saved = saveNotification(request);
+                publisher.publishEvent(new NotificationSavedEvent(this, request, saved.getNotificationId(), saved.getCreatedAt()));
+            });
+            idempotencyGuard.remember(request);
 
             metrics.result("notification_saved_total",
                 "result", "success",
@@ -81,6 +122,105 @@ public class NotificationServiceImpl implements NotificationService {
         }
     }
 
+    /**
+     * 여러 알림을 한 번에 처리합니다. Kafka 배치 리스너처럼 한 번에 여러 건을 받는 호출자를 위한 진입점입니다.
+     * 호출 스레드에서 동기로 실행되므로, 반환되면 저장이 커밋된 상태입니다.
+     *
+     * <p>push-first 유형은 processNotification과 같이 write-behind 버퍼로 보내고,
+     * 나머지는 한 트랜잭션 안에서 다건 INSERT로 저장한 뒤 알림마다 NotificationSavedEvent를 발행합니다.
+     * 이벤트는 커밋 후 SSE 전송으로 이어집니다. 이미 처리했거나 같은 목록 안에서 겹치는 요청은 건너뜁니다.
+     *
+     * @param requests 알림 요청 DTO 목록
+     */
+    @Override
+    @Timed(value = "notification_process_batch_latency")
+    public void processNotifications(List<NotificationRequestDto> requests) {
+        List<NotificationRequestDto> persist = new ArrayList<>(requests.size());
+        Set<Long> fingerprints = new HashSet<>();
+        for (NotificationRequestDto request : requests) {
+            if (idempotencyGuard.isDuplicate(request, fingerprints)) {
+                log.info("[Notification] 이미 처리한 알림 요청 - 건너뜀 - memberId: {}, type: {}",
+                        request.getMemberId(), request.getNotificationType());
+                continue;
+            }
+            if (deliveryPolicy.mode(request.getNotificationType()) == DeliveryMode.PUSH_FIRST
+                    && pushFirst(request)) {
+                idempotencyGuard.remember(request);
+                metrics.result("notification_saved_total",
+                    "result", "buffered",
+                    "type", request.getNotificationType().name()
+                );
+                continue;
+            }
+            persist.add(request);
+        }
+        if (persist.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Notification> saved = notificationRepository.saveAll(
+                        persist.stream().map(NotificationServiceImpl::newNotification).toList());
+                for (int i = 0; i < saved.size(); i++) {
+                    publisher.publishEvent(new NotificationSavedEvent(this, persist.get(i),
+                            saved.get(i).getNotificationId(), saved.get(i).getCreatedAt()));
+                }
+            });
+        } catch (Exception e) {
+            for (NotificationRequestDto request : persist) {
+                metrics.result("notification_saved_total",
+                    "result", "error",
+                    "type", request.getNotificationType().name(),
+                    "exception", e.getClass().getSimpleName()
+                );
+            }
+            throw e;
+        }
+
+        for (NotificationRequestDto request : persist) {
+            idempotencyGuard.remember(request);
+            metrics.result("notification_saved_total",
+                "result", "success",
+                "type", request.getNotificationType().name()
+            );
+        }
+        log.info("[Notification] 알림 일괄 저장 완료 - count: {}", persist.size());
+    }
+
+    /**
+     * 알림을 write-behind 버퍼에 넣고 트랜잭션 없이 NotificationSavedEvent를 발행합니다.
+     * 어느 파드에도 연결이 없는 회원은 false를 반환해 일반 경로로 저장합니다.
+     *
+     * <p>쓰기는 비동기이고 연결이 도중에 끊기거나 릴레이가 실패할 수 있으므로 미전송({@code isSent = false})으로 넣습니다.
+     * 이벤트의 notificationId가 null이라 {@link com.grow.notification_service.notification.application.sse.SseDeliveryTracker}가
+     * 전송 완료로 바꿀 수 없고, 저장된 뒤 다음 새 연결 때 ID와 함께 한 번 더 전송될 수 있습니다 (유실 대신 at-least-once).
+     *
+     * @param request 알림 요청 DTO
+     * @return 버퍼에 넣었으면 true, 바로 저장해야 하면 false
+     */
+    private boolean pushFirst(NotificationRequestDto request) {
+        if (presencePort.podsOf(request.getMemberId()).isEmpty()) {
+            return false;
+        }
+        Notification notification = Notification.of(
+                null,
+                request.getMemberId(),
+                request.getContent(),
+                LocalDateTime.now(Clock.systemDefaultZone()),
+                false,
+                request.getNotificationType(),
+                false
+        );
+        if (!writeBehindBuffer.append(notification)) {
+            return false;
+        }
+        publisher.publishEvent(new NotificationSavedEvent(this, request, null, notification.getCreatedAt()));
+        log.info("[Notification] 알림 선전송 - 저장 대기 - memberId: {}, content: {}",
+                request.getMemberId(), request.getContent());
+        return true;
+    }
+
     /**
      * 알림 요청 DTO를 Notification 엔티티로 변환하여 데이터베이스에 저장합니다.
      * 저장 후 INFO 레벨 로그를 기록합니다.
@@ -89,16 +229,21 @@ public class NotificationServiceImpl implements NotificationService {
      * 사용하여 현재 시간을 알림 생성 시점으로 설정합니다.
      *
      * @param request 알림 요청 DTO. 저장에 필요한 필드를 포함합니다.
+     * @return 저장된 알림 (생성된 notificationId 포함)
      */
-    private void saveNotification(NotificationRequestDto request) {
-        notificationRepository.save(
-                Notification.create(
-                        request.getMemberId(),
-                        request.getContent(),
-                        Clock.systemDefaultZone(),
-                        request.getNotificationType()
-                ));
+    private Notification saveNotification(NotificationRequestDto request) {
+        Notification saved = notificationRepository.save(newNotification(request));
         log.info("[Notification] 알림 저장 완료 - memberId: {}, content: {}",
                 request.getMemberId(), request.getContent());
+        return saved;
+    }
+
+    private static Notification newNotification(NotificationRequestDto request) {
+        return Notification.create(
+                request.getMemberId(),
+                request.getContent(),
+                Clock.systemDefaultZone(),
+                request.getNotificationType()
+        );
     }
 }
\ No newline at end of file
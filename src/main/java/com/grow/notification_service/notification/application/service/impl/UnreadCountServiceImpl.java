@@ -0,0 +1,65 @@
+package com.grow.notification_service.notification.application.service.impl;
+
+import java.util.OptionalLong;
+
+import org.springframework.stereotype.Service;
+
+import com.grow.notification_service.note.domain.repository.NoteRepository;
+import com.grow.notification_service.notification.application.dto.UnreadBadgeResponse;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent.Counter;
+import com.grow.notification_service.notification.application.port.UnreadCounterPort;
+import com.grow.notification_service.notification.application.service.UnreadCountService;
+import com.grow.notification_service.notification.infra.persistence.repository.NotificationJpaRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>읽지 않은 개수 카운터 서비스</h2>
+ * 알림 저장, 읽음 처리, 삭제 시 변경분만 {@link UnreadCounterPort}에 반영하고,
+ * 푸시할 때는 카운터 값을 그대로 사용합니다. COUNT 쿼리는 카운터가 없을 때(처음이거나 만료)만 실행합니다.
+ *
+ * <p>카운터를 채우는 사이에 들어온 변경이 중복 반영되는 등 값이 어긋나더라도
+ * 모두 읽음 처리 시 0으로 초기화되고, 그렇지 않아도 카운터 TTL이 지나면 다시 셉니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnreadCountServiceImpl implements UnreadCountService {
+
+	private final UnreadCounterPort counterPort;
+	private final NotificationJpaRepository notificationJpaRepository;
+	private final NoteRepository noteRepository;
+
+	@Override
+	public long count(Counter counter, Long memberId) {
+		OptionalLong cached = counterPort.get(counter.key(), memberId);
+		if (cached.isPresent()) {
+			return cached.getAsLong();
+		}
+		long counted = switch (counter) {
+			case NOTIFICATION -> notificationJpaRepository.countUnread(memberId);
+			case NOTE -> noteRepository.countUnread(memberId);
+		};
+		counterPort.set(counter.key(), memberId, counted);
+		log.debug("[Notification] 미읽음 카운터 초기화 - counter: {}, memberId: {}, count: {}", counter, memberId, counted);
+		return counted;
+	}
+
+	@Override
+	public UnreadBadgeResponse badge(Long memberId) {
+		return new UnreadBadgeResponse(count(Counter.NOTIFICATION, memberId), count(Counter.NOTE, memberId));
+	}
+
+	@Override
+	public void apply(UnreadCountChangedEvent event) {
+		String key = event.counter().key();
+		switch (event.change()) {
+			// 카운터가 없으면 다음 조회 때 변경이 반영된 DB 값으로 채워지므로 건너뜀
+			case ADD -> counterPort.add(key, event.memberId(), event.delta());
+			case RESET -> counterPort.set(key, event.memberId(), 0);
+			case RECOUNT -> counterPort.evict(key, event.memberId());
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서블릿 {@link SseEmitter} 기반 전송 (기본 방식)
+ */
+@Getter
+@RequiredArgsConstructor
+public class EmitterSseSink implements SseSink {
+
+    private final SseEmitter emitter;
+
+    @Override
+    public void send(EncodedSseFrame frame) throws IOException {
+        // 미리 인코딩한 바이트를 그대로 씀 (연결마다 다시 인코딩하지 않음)
+        emitter.send(Set.of(new DataWithMediaType(frame.bytes(), MediaType.TEXT_EVENT_STREAM)));
+    }
+
+    @Override
+    public void complete() {
+        try { emitter.complete(); } catch (Exception ignored) {}
+    }
+
+    @Override
+    public void complete(long retryMillis) {
+        try { emitter.send(SseEmitter.event().reconnectTime(retryMillis)); } catch (Exception ignored) {}
+        complete();
+    }
+}
@@ -0,0 +1,72 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.nio.charset.StandardCharsets;
+
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+/**
+ * 전송 형식(text/event-stream)으로 한 번만 인코딩해 둔 SSE 이벤트
+ * 같은 인스턴스를 여러 연결의 송신 큐에 넣어도 바이트 배열을 공유하므로,
+ * 수신자가 많아도 인코딩은 한 번만 일어납니다. 바이트 배열은 수정하면 안 됩니다.
+ *
+ * @param frame 원본 이벤트 (long-poll 응답 등 구조가 필요한 곳에서 사용)
+ * @param bytes 인코딩된 이벤트 ({@code id:..\nevent:..\ndata:..\n\n}, UTF-8)
+ * @param originAt 알림이 저장된 시각 (epoch millis). 저장부터 쓰기까지의 지연 측정에 쓰며, 모르면 0
+ * @param notificationIds 이 이벤트에 담긴 알림 ID. 쓰기에 성공하면 전송 완료로 기록됩니다. (묶음은 여러 개)
+ * @param typeMask 이 이벤트에 담긴 알림 유형 마스크 ({@link SseTypeFilter}). 알림이 아니면 0
+ */
+public record EncodedSseFrame(
+    SseFrame frame,
+    byte[] bytes,
+    long originAt,
+    long[] notificationIds,
+    long typeMask
+) {
+
+    private static final long[] NO_IDS = new long[0];
+
+    public static final EncodedSseFrame HEARTBEAT = of(SseFrame.HEARTBEAT);
+
+    public static EncodedSseFrame of(SseFrame frame) {
+        return of(frame, 0);
+    }
+
+    /** 유형을 모르는 이벤트는 이벤트 이름(유형 title)으로 유형 마스크를 구합니다. */
+    public static EncodedSseFrame of(SseFrame frame, long originAt) {
+        return of(frame, originAt, idsOf(frame), SseTypeFilter.maskOfEvent(frame.name()));
+    }
+
+    public static EncodedSseFrame of(SseFrame frame, long originAt, NotificationType type) {
+        return of(frame, originAt, idsOf(frame), SseTypeFilter.maskOf(type));
+    }
+
+    public static EncodedSseFrame of(SseFrame frame, long originAt, long[] notificationIds, long typeMask) {
+        return new EncodedSseFrame(frame, encode(frame), originAt, notificationIds, typeMask);
+    }
+
+    private static long[] idsOf(SseFrame frame) {
+        return frame.id() != null ? new long[]{frame.id()} : NO_IDS;
+    }
+
+    /**
+     * SseEmitter와 같은 형식으로 인코딩합니다. 여러 줄 데이터는 줄마다 data: 필드로 나눕니다.
+     */
+    static byte[] encode(SseFrame frame) {
+        if (frame.isHeartbeat()) {
+            return ":\n\n".getBytes(StandardCharsets.UTF_8);
+        }
+        StringBuilder sb = new StringBuilder(64 + (frame.data() != null ? frame.data().length() : 0));
+        if (frame.id() != null) {
+            sb.append("id:").append(frame.id()).append('\n');
+        }
+        if (frame.name() != null) {
+            sb.append("event:").append(frame.name()).append('\n');
+        }
+        String data = frame.data() != null ? frame.data() : "";
+        for (String line : data.split("\r\n|\r|\n", -1)) {
+            sb.append("data:").append(line).append('\n');
+        }
+        sb.append('\n');
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
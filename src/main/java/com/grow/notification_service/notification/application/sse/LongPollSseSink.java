@@ -0,0 +1,50 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.web.context.request.async.DeferredResult;
+
+import com.grow.notification_service.notification.application.dto.LongPollResponse;
+
+/**
+ * <h2>long-poll 전송</h2>
+ * SSE를 버퍼링하는 프록시 뒤의 클라이언트를 위해 요청 하나를 {@link DeferredResult}로 붙잡아 두는 연결입니다.
+ * 스레드를 점유하지 않으며, 레지스트리, 프레즌스, 유형 필터, 송신 큐는 SSE 연결과 같은 경로를 씁니다.
+ *
+ * <p>첫 이벤트가 오면 그 이벤트로 응답을 완료합니다. 완료 후 도착한 이벤트는 전송 실패로 처리되며,
+ * id가 있는 알림은 재전송 버퍼에 남아 있으므로 다음 요청의 cursor로 이어받습니다.
+ * heartbeat와 unread 같은 상태 이벤트(유형 마스크 0)는 응답을 완료하지 않고 무시합니다.
+ * 상태 이벤트로 응답하면 바로 뒤따르는 알림이 완료된 요청에 쓰이다 실패해 연결 정리로 집계되기 때문이며,
+ * 읽지 않은 수는 다음 요청 사이에 목록/개수 조회로 확인합니다.
+ */
+public class LongPollSseSink implements SseSink {
+
+    private final DeferredResult<LongPollResponse> result;
+    private final Long cursor;
+
+    public LongPollSseSink(DeferredResult<LongPollResponse> result, Long cursor) {
+        this.result = result;
+        this.cursor = cursor;
+    }
+
+    @Override
+    public void send(EncodedSseFrame frame) throws IOException {
+        if (frame.frame().isHeartbeat() || frame.typeMask() == 0) {
+            return;
+        }
+        if (!result.setResult(LongPollResponse.of(List.of(frame.frame()), cursor))) {
+            throw new IOException("long-poll already completed");
+        }
+    }
+
+    @Override
+    public void complete() {
+        result.setResult(LongPollResponse.empty(cursor));
+    }
+
+    @Override
+    public void complete(long retryMillis) {
+        result.setResult(LongPollResponse.retryAfter(cursor, retryMillis));
+    }
+}
@@ -0,0 +1,119 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.notification.application.dto.NotificationAck;
+import com.grow.notification_service.notification.application.service.NotificationQueryService;
+import com.grow.notification_service.notification.infra.persistence.repository.NotificationJpaRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>알림 ack 묶음 반영</h2>
+ * WebSocket 클라이언트가 보낸 받음/읽음 ack를 회원별로 모아 두었다가 주기적으로
+ * 회원당 종류별 UPDATE 한 번({@code memberId = ? and notificationId in (...)})으로 반영합니다.
+ * ack마다 REST 호출({@code POST /{id}/read})과 UPDATE를 하던 것을 대신합니다.
+ *
+ * <p>조건에 memberId를 함께 걸어 다른 회원의 알림 ID를 보내도 갱신되지 않습니다.
+ * 읽은 알림은 받은 것으로도 기록하며, 읽음으로 바뀐 개수만큼 읽지 않은 수 이벤트가 발행됩니다.
+ * 반영 전에 파드가 죽으면 ack가 유실될 수 있으며, 클라이언트는 다음 연결에서 다시 보낼 수 있습니다.
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+@Slf4j
+@Component
+public class NotificationAckBuffer {
+
+    private final NotificationJpaRepository notificationJpaRepository;
+    private final NotificationQueryService notificationQueryService;
+    private final NotificationMetrics metrics;
+    private final int maxIdsPerAck;
+    private final ConcurrentHashMap<Long, MemberAcks> pending = new ConcurrentHashMap<>();
+
+    public NotificationAckBuffer(NotificationJpaRepository notificationJpaRepository,
+                                 NotificationQueryService notificationQueryService,
+                                 NotificationMetrics metrics,
+                                 @Value("${sse.ack.max-ids:500}") int maxIdsPerAck) {
+        this.notificationJpaRepository = notificationJpaRepository;
+        this.notificationQueryService = notificationQueryService;
+        this.metrics = metrics;
+        this.maxIdsPerAck = Math.max(1, maxIdsPerAck);
+    }
+
+    /**
+     * ack를 회원의 대기 목록에 더합니다. DB에 접근하지 않습니다.
+     * @return 받아들였으면 true, 한 메시지의 ID 수가 {@code sse.ack.max-ids}를 넘으면 false
+     */
+    public boolean ack(Long memberId, NotificationAck ack) {
+        if (ack.delivered().size() + ack.read().size() > maxIdsPerAck) {
+            metrics.result("sse_ack_total", "result", "rejected");
+            return false;
+        }
+        pending.compute(memberId, (id, acks) -> {
+            MemberAcks merged = acks != null ? acks : new MemberAcks();
+            merged.delivered.addAll(ack.delivered());
+            merged.delivered.addAll(ack.read());
+            merged.read.addAll(ack.read());
+            return merged;
+        });
+        return true;
+    }
+
+    /** ack를 기다리는 회원 수 */
+    public int pendingMembers() {
+        return pending.size();
+    }
+
+    /**
+     * 모인 ack를 회원별로 반영합니다. 실패한 회원의 ack는 다시 넣어 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${sse.ack.flush-ms:1000}")
+    public void flush() {
+        for (Long memberId : List.copyOf(pending.keySet())) {
+            MemberAcks acks = pending.remove(memberId);
+            if (acks == null) {
+                continue;
+            }
+            try {
+                int sent = notificationJpaRepository.markSent(memberId, new ArrayList<>(acks.delivered));
+                int read = notificationQueryService.markRead(memberId, new ArrayList<>(acks.read));
+                metrics.result("sse_ack_total", sent, "result", "success", "kind", "delivered");
+                metrics.result("sse_ack_total", read, "result", "success", "kind", "read");
+            } catch (Exception e) {
+                pending.merge(memberId, acks, MemberAcks::merge);
+                log.warn("[Notification] ack 반영 실패 - memberId: {}, delivered: {}, read: {}",
+                    memberId, acks.delivered.size(), acks.read.size(), e);
+                metrics.result("sse_ack_total",
+                    "result", "error",
+                    "exception", e.getClass().getSimpleName()
+                );
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private static final class MemberAcks {
+        private final Set<Long> delivered = ConcurrentHashMap.newKeySet();
+        private final Set<Long> read = ConcurrentHashMap.newKeySet();
+
+        private MemberAcks merge(MemberAcks other) {
+            delivered.addAll(other.delivered);
+            read.addAll(other.read);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.notification.application.exception.SseAdmissionException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * <h2>파드별 SSE 연결 예산</h2>
+ * 이 파드가 받아들일 연결 수를 {@code sse.admission.max-connections}로 제한합니다.
+ * 예산을 넘는 구독은 Emitter를 만들기 전에 {@link SseAdmissionException}으로 바로 거절하고,
+ * 게이트웨이가 다른 파드로 다시 보낼 수 있도록 재시도 대기 시간을 함께 돌려줍니다.
+ *
+ * <p>재시도 시간은 {@code sse.admission.retry-after-ms}부터 그 두 배 사이에서 무작위로 정해
+ * 거절된 클라이언트가 한꺼번에 다시 몰리지 않게 합니다.
+ *
+ * <p>파드 종료가 시작되면({@link #stopAccepting()}) 예산과 관계없이 모든 구독을 같은 방식으로 거절합니다.
+ *
+ * <p>현재 부하 비율({@code sse_admission_load}, 연결 수 / 예산)과 예산({@code sse_admission_budget})을
+ * 게이지로 노출하여 오토스케일러 지표로 사용할 수 있습니다.
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+@Component
+public class SseAdmission {
+
+    private final SseEmitterRegistry registry;
+    private final int maxConnections;
+    private final long retryAfterMillis;
+    // 예산 확인 후 레지스트리 등록 전까지의 연결. 동시 구독이 예산을 넘지 않도록 함께 센다.
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean accepting = true;
+
+    public SseAdmission(SseEmitterRegistry registry,
+                        MeterRegistry meterRegistry,
+                        @Value("${sse.admission.max-connections:10000}") int maxConnections,
+                        @Value("${sse.admission.retry-after-ms:5000}") long retryAfterMillis) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("sse.admission.max-connections must be >= 1");
+        }
+        this.registry = registry;
+        this.maxConnections = maxConnections;
+        this.retryAfterMillis = Math.max(1_000, retryAfterMillis);
+
+        Gauge.builder("sse_admission_load", this, SseAdmission::load).register(meterRegistry);
+        Gauge.builder("sse_admission_budget", this, a -> a.maxConnections).register(meterRegistry);
+    }
+
+    /**
+     * 연결 한 자리를 예약합니다. 예약에 성공하면 등록 성공/실패와 관계없이 {@link #settle()}을 호출해야 합니다.
+     * @throws SseAdmissionException 예산을 넘었거나 파드가 종료 중인 경우
+     */
+    public void admit() {
+        if (!accepting) {
+            throw new SseAdmissionException(nextRetryAfterMillis());
+        }
+        int reserved = pending.incrementAndGet();
+        if (registry.connectionCount() + reserved > maxConnections) {
+            pending.decrementAndGet();
+            throw new SseAdmissionException(nextRetryAfterMillis());
+        }
+    }
+
+    /** 예약을 정리합니다. 등록된 연결은 이후 레지스트리의 연결 수로 집계됩니다. */
+    public void settle() {
+        pending.decrementAndGet();
+    }
+
+    /** 새 구독을 더 받지 않습니다. 파드 종료 시 {@link SseGracefulDrain}이 호출합니다. */
+    public void stopAccepting() {
+        accepting = false;
+    }
+
+    /** 현재 연결 수 / 예산 */
+    public double load() {
+        return (double) (registry.connectionCount() + pending.get()) / maxConnections;
+    }
+
+    private long nextRetryAfterMillis() {
+        return retryAfterMillis + ThreadLocalRandom.current().nextLong(retryAfterMillis + 1);
+    }
+}
@@ -0,0 +1,28 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+/**
+ * 모든 파드로 전달되는 SSE 브로드캐스트 메시지
+ * 각 파드는 자신에게 연결된 대상에게만 전송합니다.
+ * @param originPodId 브로드캐스트를 시작한 파드 (해당 파드는 이미 로컬 전송을 마쳤으므로 무시)
+ * @param memberIds 대상 회원 ID 목록, 전체 대상이면 null
+ * @param notificationType 알림 타입
+ * @param frame 전송할 SSE 이벤트
+ */
+public record SseBroadcastMessage(
+    String originPodId,
+    List<Long> memberIds,
+    NotificationType notificationType,
+    SseFrame frame
+) {
+
+    @JsonIgnore
+    public boolean isAll() {
+        return memberIds == null;
+    }
+}
@@ -0,0 +1,173 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>이 파드의 연결로 브로드캐스트</h2>
+ * 한 번 인코딩한 {@link EncodedSseFrame}을 대상 연결 전체의 송신 큐에 넣습니다.
+ * 대상 연결은 {@code sse.broadcast.chunk-size} 단위로 나누어 병렬로 처리합니다.
+ *
+ * <p>{@code sse.broadcast.max-rate}(연결/초)를 지정하면 청크 투입 간격을 벌려
+ * 전체 회원 대상 공지처럼 큰 브로드캐스트가 파드의 송신 스레드를 한꺼번에 점유하지 않도록 합니다.
+ * 0이면 제한하지 않습니다.
+ *
+ * <p>브로드캐스트마다 소요 시간({@code sse_broadcast_duration}), 대상 연결 수
+ * ({@code sse_broadcast_recipients}), 처리량({@code sse_broadcast_throughput}, 연결/초)을 기록합니다.
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+@Slf4j
+@Component
+public class SseBroadcaster {
+
+    private final SseEmitterRegistry registry;
+    private final SseConnectionWriter writer;
+    private final MeterRegistry meterRegistry;
+    private final int chunkSize;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final long chunkIntervalNanos;
+
+    @Autowired
+    public SseBroadcaster(SseEmitterRegistry registry,
+                          SseConnectionWriter writer,
+                          MeterRegistry meterRegistry,
+                          @Value("${sse.broadcast.chunk-size:1000}") int chunkSize,
+                          @Value("${sse.broadcast.parallelism:4}") int parallelism,
+                          @Value("${sse.broadcast.max-rate:0}") int maxRate) {
+        this(registry, writer, meterRegistry, chunkSize, newPool(parallelism), maxRate);
+    }
+
+    SseBroadcaster(SseEmitterRegistry registry, SseConnectionWriter writer, MeterRegistry meterRegistry,
+                   int chunkSize, Executor executor) {
+        this(registry, writer, meterRegistry, chunkSize, executor, 0);
+    }
+
+    SseBroadcaster(SseEmitterRegistry registry, SseConnectionWriter writer, MeterRegistry meterRegistry,
+                   int chunkSize, Executor executor, int maxRate) {
+        this.registry = registry;
+        this.writer = writer;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.executor = executor;
+        this.ownedExecutor = executor instanceof ExecutorService es ? es : null;
+        this.chunkIntervalNanos = maxRate > 0 ? this.chunkSize * 1_000_000_000L / maxRate : 0;
+    }
+
+    /**
+     * 대상 회원들의 이 파드 연결로 이벤트를 보냅니다.
+     *
+     * @param memberIds 대상 회원 ID, null이면 이 파드의 모든 연결
+     * @param notificationType 알림 타입 (메트릭 태그)
+     * @param frame 한 번 인코딩한 이벤트. 모든 연결이 공유합니다.
+     * @param evict 송신 큐 초과 등으로 연결을 끊어야 할 때 호출됩니다.
+     * @return 큐에 넣은 연결 수
+     */
+    public int broadcast(Collection<Long> memberIds, NotificationType notificationType,
+                         EncodedSseFrame frame, Consumer<SseConnection> evict) {
+        long start = System.nanoTime();
+        List<SseConnection> targets = targetsOf(memberIds, frame);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        AtomicInteger queued = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(targets.size() / chunkSize + 1);
+        for (int from = 0, i = 0; from < targets.size(); from += chunkSize, i++) {
+            pace(start, i);
+            List<SseConnection> chunk = targets.subList(from, Math.min(from + chunkSize, targets.size()));
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (SseConnection connection : chunk) {
+                    if (writer.enqueue(connection, frame, evict)) {
+                        queued.incrementAndGet();
+                    }
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        long elapsed = System.nanoTime() - start;
+        String type = notificationType.name();
+        Timer.builder("sse_broadcast_duration").tag("type", type)
+            .register(meterRegistry).record(elapsed, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("sse_broadcast_recipients").tag("type", type)
+            .register(meterRegistry).record(targets.size());
+        DistributionSummary.builder("sse_broadcast_throughput").baseUnit("connections/s").tag("type", type)
+            .register(meterRegistry).record(targets.size() * 1e9 / Math.max(1, elapsed));
+
+        log.info("[Notification] 브로드캐스트 완료 - type: {}, connections: {}, queued: {}, bytes: {}, elapsedMs: {}",
+            type, targets.size(), queued.get(), frame.bytes().length, elapsed / 1_000_000);
+        return queued.get();
+    }
+
+    /** max-rate가 설정되어 있으면 i번째 청크의 투입 예정 시각까지 기다립니다. */
+    private void pace(long start, int i) {
+        if (chunkIntervalNanos == 0) {
+            return;
+        }
+        long wait = start + i * chunkIntervalNanos - System.nanoTime();
+        while (wait > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(wait);
+            wait = start + i * chunkIntervalNanos - System.nanoTime();
+        }
+    }
+
+    /** 대상 연결 중 이 유형을 구독한 연결만 모읍니다. */
+    private List<SseConnection> targetsOf(Collection<Long> memberIds, EncodedSseFrame frame) {
+        List<SseConnection> targets = new ArrayList<>(memberIds == null ? registry.connectionCount() : memberIds.size());
+        if (memberIds == null) {
+            registry.forEach(connection -> {
+                if (connection.accepts(frame)) {
+                    targets.add(connection);
+                }
+            });
+            return targets;
+        }
+        for (Long memberId : memberIds) {
+            for (SseConnection connection : registry.connectionsOf(memberId)) {
+                if (connection.accepts(frame)) {
+                    targets.add(connection);
+                }
+            }
+        }
+        return targets;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private static ExecutorService newPool(int parallelism) {
+        AtomicInteger seq = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, parallelism), r -> {
+            Thread t = new Thread(r, "sse-broadcast-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+}
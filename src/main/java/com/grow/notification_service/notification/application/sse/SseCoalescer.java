@@ -0,0 +1,315 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.grow.notification_service.global.util.JsonUtils;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent.Counter;
+import com.grow.notification_service.notification.application.service.UnreadCountService;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>회원별 알림 묶음 전송</h2>
+ * 한 회원에게 짧은 시간에 알림이 몰리면({@code LIKE}, {@code COMMENT} 등) 이벤트마다 프레임을 쓰지 않고
+ * {@code sse.coalesce.window-ms} 동안 모았다가 한 프레임으로 보냅니다.
+ *
+ * <p>묶인 프레임은 {@value #BATCH_EVENT} 이름으로, 각 알림과 현재 읽지 않은 알림 수를 담은 JSON을 데이터로 보냅니다.
+ * 이벤트 id는 묶인 알림 중 가장 큰 id이므로 재연결 시 Last-Event-ID로 그대로 이어받을 수 있습니다.
+ * 창 안에 알림이 하나뿐이면 원래 프레임을 그대로 보냅니다.
+ * 호출하는 쪽이 {@link PayloadKind}로 알린 JSON 데이터({@code NotificationPushPayload})는 묶음의 items에
+ * 다시 감싸지 않고 그대로 넣고, 문자열 데이터는 {@link Item}으로 감쌉니다.
+ * 묶음은 {@link CoalescedBatch}로 넘겨 연결마다 구독한 유형({@code types})의 알림만 골라 프레임을 만듭니다.
+ * 구독하지 않은 알림은 그 연결의 묶음에 담기지 않으며 전송 완료로도 기록되지 않습니다.
+ *
+ * <p>{@code sse.coalesce.urgent-types}(기본 PAYMENT)는 창을 거치지 않고 즉시 보내며,
+ * 순서를 지키기 위해 그 회원에게 모여 있던 알림을 먼저 내보냅니다.
+ *
+ * <p>창의 기본값은 0으로, 이때는 묶지 않고 받은 프레임을 그대로 보냅니다. 묶음 이벤트는 클라이언트가
+ * {@value #BATCH_EVENT}를 처리할 수 있어야 하고 창만큼 전송이 늦어지므로, 필요한 환경에서만 창을 지정해 켭니다.
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+@Slf4j
+@Component
+public class SseCoalescer {
+
+    static final String BATCH_EVENT = "[batch]";
+    static final String BATCH_TYPE = "BATCH";
+
+    private final long windowMillis;
+    private final int maxItems;
+    private final Set<NotificationType> urgentTypes;
+    private final ScheduledExecutorService scheduler;
+    private final UnreadCountService unreadCountService;
+    private final SseMetrics metrics;
+    private final ConcurrentHashMap<Long, Bucket> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SseCoalescer(@Value("${sse.coalesce.window-ms:0}") long windowMillis,
+                        @Value("${sse.coalesce.max-items:50}") int maxItems,
+                        @Value("${sse.coalesce.urgent-types:PAYMENT}") Set<NotificationType> urgentTypes,
+                        UnreadCountService unreadCountService,
+                        SseMetrics metrics) {
+        this(windowMillis, maxItems, urgentTypes, windowMillis > 0 ? newScheduler() : null,
+            unreadCountService, metrics);
+    }
+
+    SseCoalescer(long windowMillis, int maxItems, Set<NotificationType> urgentTypes,
+                 ScheduledExecutorService scheduler, UnreadCountService unreadCountService,
+                 SseMetrics metrics) {
+        this.windowMillis = Math.max(0, windowMillis);
+        this.maxItems = Math.max(1, maxItems);
+        this.urgentTypes = Set.copyOf(urgentTypes);
+        this.scheduler = scheduler;
+        this.unreadCountService = unreadCountService;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 회원에게 보낼 프레임을 넘깁니다. 창 안에서 모았다가, 또는 즉시 sink로 씁니다.
+     *
+     * @param memberId 회원 ID
+     * @param notificationType 알림 유형
+     * @param frame 보낼 이벤트
+     * @param kind 이벤트 데이터 형식. 묶음에 JSON으로 그대로 넣을지, 문자열로 감쌀지를 정합니다.
+     * @param originAt 알림 저장 시각 (epoch millis, 모르면 0). 묶음은 창의 첫 알림 시각을 씁니다.
+     * @param sink 실제로 회원의 연결에 쓰는 함수. 창이 끝나면 스케줄러 스레드에서 호출됩니다.
+     */
+    public void submit(Long memberId, NotificationType notificationType, SseFrame frame, PayloadKind kind,
+                       long originAt, Sink sink) {
+        if (windowMillis == 0) {
+            sink.write(memberId, notificationType.name(), EncodedSseFrame.of(frame, originAt, notificationType));
+            return;
+        }
+        if (urgentTypes.contains(notificationType)) {
+            Bucket earlier = pending.remove(memberId);
+            if (earlier != null) {
+                flush(memberId, earlier);
+            }
+            metrics.coalesceBypassed();
+            sink.write(memberId, notificationType.name(), EncodedSseFrame.of(frame, originAt, notificationType));
+            return;
+        }
+
+        Entry entry = new Entry(frame, notificationType, kind == PayloadKind.JSON
+            ? new RawValue(frame.data())
+            : new Item(frame.id(), notificationType, frame.name(), frame.data()));
+        // 0: 기존 창에 추가, 1: 새 창 시작, 2: 최대 개수 도달
+        int[] state = new int[1];
+        Bucket bucket = pending.compute(memberId, (id, current) -> {
+            Bucket b = current != null ? current : new Bucket(sink, originAt);
+            b.entries.add(entry);
+            state[0] = b.entries.size() >= maxItems ? 2 : current == null ? 1 : 0;
+            return b;
+        });
+
+        if (state[0] == 2) {
+            flushIfPending(memberId, bucket);
+        } else if (state[0] == 1) {
+            scheduler.schedule(() -> flushIfPending(memberId, bucket), windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flushIfPending(Long memberId, Bucket bucket) {
+        if (pending.remove(memberId, bucket)) {
+            flush(memberId, bucket);
+        }
+    }
+
+    /** 모인 알림을 한 프레임으로 씁니다. 맵에서 제거된 버킷에만 호출되므로 추가로 변경되지 않습니다. */
+    private void flush(Long memberId, Bucket bucket) {
+        List<Entry> entries = bucket.entries;
+        try {
+            if (entries.size() == 1) {
+                Entry only = entries.get(0);
+                bucket.sink.write(memberId, only.type().name(),
+                    EncodedSseFrame.of(only.frame(), bucket.originAt, only.type()));
+                return;
+            }
+            metrics.coalesced(entries.size());
+            bucket.sink.writeBatch(memberId, new CoalescedBatch(entries, unreadCount(memberId), bucket.originAt));
+        } catch (Exception e) {
+            log.warn("[Notification] 묶음 전송 실패 - memberId: {}, items: {}", memberId, entries.size(), e);
+        }
+    }
+
+    private Long unreadCount(Long memberId) {
+        try {
+            return unreadCountService.count(Counter.NOTIFICATION, memberId);
+        } catch (Exception e) {
+            log.debug("[Notification] 읽지 않은 알림 수 조회 실패 - memberId: {}", memberId, e);
+            return null; // 클라이언트는 목록 조회로 보완
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdown();
+        // 모여 있던 알림은 종료 전에 내보냄
+        pending.forEach((memberId, bucket) -> flushIfPending(memberId, bucket));
+    }
+
+    private static ScheduledExecutorService newScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "sse-coalesce");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * 회원의 연결로 인코딩된 프레임을 쓰는 함수. type은 메트릭 태그로 쓰이며 묶음은 {@value #BATCH_TYPE}입니다.
+     * 묶음 프레임에는 담긴 알림 ID가 모두 들어 있어 쓰기에 성공하면 함께 전송 완료로 기록됩니다.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        void write(Long memberId, String type, EncodedSseFrame frame);
+
+        /**
+         * 창 안에 모인 알림을 씁니다. 연결마다 구독 유형이 다르면 {@link CoalescedBatch#select(long)}로
+         * 연결별 프레임을 골라 써야 합니다. 기본 구현은 모든 유형을 담은 프레임 하나를 씁니다.
+         */
+        default void writeBatch(Long memberId, CoalescedBatch batch) {
+            Selection all = batch.select(SseTypeFilter.ALL);
+            write(memberId, all.type(), all.frame());
+        }
+    }
+
+    /**
+     * 한 회원의 창 안에 모인 알림 (도착 순서). 연결의 유형 마스크별로 프레임을 한 번만 인코딩해 재사용합니다.
+     * 묶음을 내보내는 스레드 하나에서만 쓰입니다.
+     */
+    public static final class CoalescedBatch {
+        private final List<Entry> entries;
+        private final Long unreadCount;
+        private final long originAt;
+        private final Map<Long, Optional<Selection>> byMask = new HashMap<>();
+
+        private CoalescedBatch(List<Entry> entries, Long unreadCount, long originAt) {
+            this.entries = entries;
+            this.unreadCount = unreadCount;
+            this.originAt = originAt;
+        }
+
+        /**
+         * 연결이 구독한 유형의 알림만 담은 프레임을 반환합니다.
+         * 한 건뿐이면 원래 프레임을, 여러 건이면 {@value SseCoalescer#BATCH_EVENT} 프레임을 만듭니다.
+         *
+         * @param connectionMask 연결의 유형 마스크 ({@link SseTypeFilter})
+         * @return 보낼 프레임. 구독한 유형의 알림이 없으면 null
+         */
+        public Selection select(long connectionMask) {
+            return byMask.computeIfAbsent(connectionMask, mask -> Optional.ofNullable(encode(mask))).orElse(null);
+        }
+
+        private Selection encode(long connectionMask) {
+            List<Entry> accepted = new ArrayList<>(entries.size());
+            for (Entry entry : entries) {
+                if (SseTypeFilter.accepts(connectionMask, SseTypeFilter.maskOf(entry.type()))) {
+                    accepted.add(entry);
+                }
+            }
+            if (accepted.isEmpty()) {
+                return null;
+            }
+            if (accepted.size() == 1) {
+                Entry only = accepted.get(0);
+                return new Selection(only.type().name(), EncodedSseFrame.of(only.frame(), originAt, only.type()));
+            }
+
+            Long lastId = null;
+            long[] ids = new long[accepted.size()];
+            int count = 0;
+            long typeMask = 0;
+            List<Object> items = new ArrayList<>(accepted.size());
+            for (Entry entry : accepted) {
+                typeMask |= SseTypeFilter.maskOf(entry.type());
+                items.add(entry.body());
+                Long id = entry.frame().id();
+                if (id != null) {
+                    ids[count++] = id;
+                    if (lastId == null || id > lastId) {
+                        lastId = id;
+                    }
+                }
+            }
+            String data = JsonUtils.toJsonString(new Batch(items, unreadCount));
+            return new Selection(BATCH_TYPE, EncodedSseFrame.of(new SseFrame(lastId, BATCH_EVENT, data),
+                originAt, Arrays.copyOf(ids, count), typeMask));
+        }
+    }
+
+    /**
+     * 연결에 쓸 프레임
+     * @param type 메트릭 태그 (알림 유형 또는 {@value SseCoalescer#BATCH_TYPE})
+     * @param frame 인코딩된 프레임
+     */
+    public record Selection(String type, EncodedSseFrame frame) {}
+
+    /**
+     * 이벤트 데이터 형식
+     * <ul>
+     *     <li>{@link #JSON}: JSON 객체({@code NotificationPushPayload}). 묶음 items에 그대로 넣습니다.</li>
+     *     <li>{@link #TEXT}: 문자열 메시지. 묶음 items에 {@link Item}으로 감싸 넣습니다.</li>
+     * </ul>
+     */
+    public enum PayloadKind {
+        JSON,
+        TEXT
+    }
+
+    private static final class Bucket {
+        private final Sink sink;
+        private final long originAt;
+        private final List<Entry> entries = new ArrayList<>();
+
+        private Bucket(Sink sink, long originAt) {
+            this.sink = sink;
+            this.originAt = originAt;
+        }
+    }
+
+    /**
+     * 창 안에 모인 알림 한 건
+     * @param frame 원래 프레임 (창에 하나뿐이면 그대로 보냄)
+     * @param type 알림 유형
+     * @param body 묶음 items에 넣을 값
+     */
+    private record Entry(SseFrame frame, NotificationType type, Object body) {}
+
+    /**
+     * 묶음 프레임 데이터
+     * @param items 창 안에 모인 알림 (도착 순서). JSON 알림 데이터 또는 {@link Item}
+     * @param unreadCount 보내는 시점의 읽지 않은 알림 수 (조회 실패 시 null)
+     */
+    record Batch(List<Object> items, Long unreadCount) {}
+
+    /**
+     * 묶음에 담긴 문자열 알림 한 건 ({@link PayloadKind#TEXT})
+     * @param id 알림 ID (일회성 알림은 null)
+     * @param type 알림 유형
+     * @param event 원래 이벤트 이름
+     * @param message 알림 메시지
+     */
+    record Item(Long id, NotificationType type, String event, String message) {}
+}
@@ -0,0 +1,151 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+import lombok.Getter;
+
+/**
+ * <h2>회원의 단일 SSE 연결</h2>
+ * 한 회원은 브라우저 탭, 모바일 앱 등 여러 기기에서 동시에 구독할 수 있으므로
+ * 전송 대상({@link SseSink}) 하나를 연결 단위로 감싸 레지스트리에서 관리합니다.
+ *
+ * <p>연결마다 크기 제한이 있는 송신 큐를 두어, 생산자는 큐에 넣기만 하고
+ * 실제 전송은 {@link SseConnectionWriter}의 writer 스레드가 담당합니다.
+ *
+ * @see SseEmitterRegistry
+ */
+@Getter
+public class SseConnection {
+
+    private final Long memberId;
+    private final SseSink sink;
+    private final long connectedAt; // 연결 시각 (epoch millis)
+    private final long typeMask; // 받을 알림 유형 마스크 (SseTypeFilter)
+    private volatile long lastWriteAt; // 마지막으로 이벤트를 쓴 시각 (epoch millis)
+    private volatile long writeStartedAt; // 진행 중인 전송의 시작 시각 (epoch millis), 전송 중이 아니면 0
+
+    private final Queue<EncodedSseFrame> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger outboundSize = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean evicted = new AtomicBoolean();
+
+    public SseConnection(Long memberId, SseEmitter emitter, long connectedAt) {
+        this(memberId, new EmitterSseSink(emitter), connectedAt);
+    }
+
+    public SseConnection(Long memberId, SseSink sink, long connectedAt) {
+        this(memberId, sink, connectedAt, SseTypeFilter.ALL);
+    }
+
+    public SseConnection(Long memberId, SseSink sink, long connectedAt, long typeMask) {
+        this.memberId = memberId;
+        this.sink = sink;
+        this.connectedAt = connectedAt;
+        this.typeMask = typeMask;
+        this.lastWriteAt = connectedAt;
+    }
+
+    /** 이 연결이 구독한 유형의 프레임인지 여부. 인코딩된 프레임을 큐에 넣기 전에 확인합니다. */
+    public boolean accepts(EncodedSseFrame frame) {
+        return SseTypeFilter.accepts(typeMask, frame.typeMask());
+    }
+
+    /** 이 연결이 해당 유형의 알림을 구독했는지 여부. 프레임을 인코딩하기 전에 확인합니다. */
+    public boolean accepts(NotificationType type) {
+        return SseTypeFilter.accepts(typeMask, SseTypeFilter.maskOf(type));
+    }
+
+    /** 이벤트 전송 성공 시 호출. 최근에 쓴 연결은 heartbeat를 건너뜁니다. */
+    public void markWritten(long writtenAt) {
+        this.lastWriteAt = writtenAt;
+    }
+
+    /** 전송 시작/종료 시 writer가 호출합니다. 전송이 끝나면 0 */
+    void markWriteStarted(long startedAt) {
+        this.writeStartedAt = startedAt;
+    }
+
+    /** 송신 큐에 쌓인 프레임 수 */
+    public int outboundSize() {
+        return outboundSize.get();
+    }
+
+    /**
+     * 송신 큐에 프레임을 넣습니다. 큐가 가득 차 있으면 넣지 않습니다.
+     * @return 큐에 넣었는지 여부
+     */
+    boolean offer(EncodedSseFrame frame, int capacity) {
+        if (outboundSize.incrementAndGet() > capacity) {
+            outboundSize.decrementAndGet();
+            return false;
+        }
+        outbound.offer(frame);
+        return true;
+    }
+
+    /** 송신 큐에서 다음 프레임을 꺼냅니다. 없으면 null */
+    EncodedSseFrame poll() {
+        EncodedSseFrame frame = outbound.poll();
+        if (frame != null) {
+            outboundSize.decrementAndGet();
+        }
+        return frame;
+    }
+
+    /** 송신 큐에 남은 프레임을 버리고 버린 수를 반환합니다. */
+    int clearOutbound() {
+        int dropped = 0;
+        while (poll() != null) {
+            dropped++;
+        }
+        return dropped;
+    }
+
+    /** 이 연결의 drain을 맡을 수 있으면 true (한 번에 writer 하나만 전송) */
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void endDrain() {
+        draining.set(false);
+    }
+
+    boolean hasOutbound() {
+        return !outbound.isEmpty();
+    }
+
+    /**
+     * 느린 소비자로 끊기로 한 연결로 표시합니다. 이후 프레임은 큐에 넣지 않습니다.
+     * @return 처음 표시한 경우에만 true (정리는 한 번만)
+     */
+    boolean markEvicted() {
+        return evicted.compareAndSet(false, true);
+    }
+
+    boolean isEvicted() {
+        return evicted.get();
+    }
+
+    /** 종료가 처음 기록되는 경우에만 true (종료 사유 메트릭을 연결당 한 번만 남기기 위함) */
+    boolean markClosed() {
+        return closed.compareAndSet(false, true);
+    }
+
+    /** 연결 종료 (이미 종료된 경우 무시) */
+    public void close() {
+        sink.complete();
+    }
+
+    /** 재연결 대기 시간을 알리고 연결 종료 */
+    public void close(long retryMillis) {
+        sink.complete(retryMillis);
+    }
+}
@@ -0,0 +1,223 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.notification.application.sse.SseMetrics.Eviction;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>SSE 연결별 송신 큐 writer</h2>
+ * 생산자(알림 이벤트 처리 스레드, heartbeat 등)는 {@link #enqueue}로 연결의 송신 큐에 프레임을 넣고 바로 반환합니다.
+ * 실제 전송({@link SseSink#send})은 가상 스레드에서 연결 단위로 순서대로 수행하므로
+ * 느린 클라이언트 하나가 알림 처리 스레드를 붙잡지 않습니다.
+ * 쓰기에 성공한 알림은 {@link SseDeliveryTracker}에 전송 완료로 기록합니다.
+ *
+ * <p>다음 경우 연결을 느린 소비자로 보고 끊습니다. 클라이언트는 Last-Event-ID로 재연결해 이어 받습니다.
+ * <ul>
+ *     <li>송신 큐가 {@code sse.outbound.queue-capacity}를 넘는 경우</li>
+ *     <li>한 번의 전송이 {@code sse.outbound.max-write-ms}보다 오래 걸린 경우.
+ *     끝나지 않는 전송은 {@link #evictStalled}가 주기적으로 찾아냅니다.</li>
+ *     <li>전송 중 IOException이 발생한 경우</li>
+ * </ul>
+ *
+ * <p>emitter는 전송과 종료에 같은 잠금을 쓰므로, 막힌 전송이 있는 연결을 생산자 스레드에서 종료하면 생산자도 함께 막힙니다.
+ * 그래서 생산자 쪽에서 끊을 때(큐 초과, 감시)는 연결을 끊은 것으로 표시하고 큐만 비운 뒤, 실제 종료는 writer 실행기에 넘깁니다.
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+@Slf4j
+@Component
+public class SseConnectionWriter {
+
+    private final int capacity;
+    private final long maxWriteMillis;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final SseMetrics metrics;
+    private final SseDeliveryTracker deliveryTracker;
+    private final AtomicInteger queuedFrames = new AtomicInteger();
+    private final Set<SseConnection> writing = ConcurrentHashMap.newKeySet(); // drain 중인 연결
+
+    @Autowired
+    public SseConnectionWriter(@Value("${sse.outbound.queue-capacity:128}") int capacity,
+                               @Value("${sse.outbound.max-write-ms:2000}") long maxWriteMillis,
+                               MeterRegistry meterRegistry,
+                               SseMetrics metrics,
+                               SseDeliveryTracker deliveryTracker) {
+        this(capacity, maxWriteMillis, Executors.newVirtualThreadPerTaskExecutor(), metrics, deliveryTracker);
+        meterRegistry.gauge("sse_outbound_queue_depth", queuedFrames, AtomicInteger::get);
+    }
+
+    SseConnectionWriter(int capacity, long maxWriteMillis, Executor executor, SseMetrics metrics,
+                        SseDeliveryTracker deliveryTracker) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("sse.outbound.queue-capacity must be >= 1");
+        }
+        this.capacity = capacity;
+        this.maxWriteMillis = maxWriteMillis;
+        this.executor = executor;
+        this.ownedExecutor = executor instanceof ExecutorService es ? es : null;
+        this.metrics = metrics;
+        this.deliveryTracker = deliveryTracker;
+    }
+
+    /**
+     * 연결의 송신 큐에 프레임을 넣고, 전송 중인 writer가 없으면 새로 시작합니다. 블로킹하지 않습니다.
+     *
+     * @param connection 대상 연결
+     * @param frame 인코딩된 SSE 이벤트. 여러 연결이 같은 인스턴스를 공유해도 됩니다.
+     * @param evict 느린 소비자로 판단되어 연결을 끊어야 할 때 호출됩니다.
+     *              큐 초과로 끊는 경우 생산자 스레드가 아닌 writer 실행기에서 호출됩니다.
+     * @return 큐에 넣었으면 true, 큐가 가득 차 연결을 끊었거나 이미 끊은 연결이면 false
+     */
+    public boolean enqueue(SseConnection connection, EncodedSseFrame frame, Consumer<SseConnection> evict) {
+        if (connection.isEvicted()) {
+            return false;
+        }
+        if (!connection.offer(frame, capacity)) {
+            log.warn("[Notification] SSE 송신 큐 초과로 연결 종료 - memberId: {}, capacity: {}",
+                connection.getMemberId(), capacity);
+            evictLater(connection, evict, Eviction.OVERFLOW);
+            return false;
+        }
+        queuedFrames.incrementAndGet();
+        if (connection.tryStartDrain()) {
+            executor.execute(() -> drain(connection, evict));
+        }
+        return true;
+    }
+
+    /** 연결당 송신 큐 크기 */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 송신 큐를 거치지 않고 응답 본문으로 보낸 알림(long-poll 재전송)을 전송 완료로 기록합니다.
+     */
+    public void delivered(SseFrame frame) {
+        if (frame.id() != null) {
+            deliveryTracker.delivered(frame.id());
+        }
+    }
+
+    /** 전체 연결의 송신 큐에 쌓인 프레임 수 */
+    public int queuedFrames() {
+        return queuedFrames.get();
+    }
+
+    /**
+     * 전송이 max-write-ms를 넘도록 끝나지 않은 연결을 끊습니다. 전송이 돌아오지 않으면 drain에서는 알 수 없으므로
+     * heartbeat tick마다 호출합니다. 종료는 writer 실행기에서 수행하므로 호출 스레드는 막히지 않습니다.
+     *
+     * @param now 현재 시각 (epoch millis)
+     * @param evict 끊을 연결마다 writer 실행기에서 호출됩니다.
+     * @return 끊은 연결 수
+     */
+    public int evictStalled(long now, Consumer<SseConnection> evict) {
+        int stalled = 0;
+        for (SseConnection connection : writing) {
+            long startedAt = connection.getWriteStartedAt();
+            if (startedAt != 0 && now - startedAt > maxWriteMillis && evictLater(connection, evict, Eviction.SLOW)) {
+                log.warn("[Notification] SSE 전송 정지로 연결 종료 - memberId: {}, elapsedMs: {}",
+                    connection.getMemberId(), now - startedAt);
+                stalled++;
+            }
+        }
+        return stalled;
+    }
+
+    private void drain(SseConnection connection, Consumer<SseConnection> evict) {
+        writing.add(connection);
+        try {
+            EncodedSseFrame frame;
+            while ((frame = connection.poll()) != null) {
+                queuedFrames.decrementAndGet();
+                if (connection.isEvicted()) {
+                    // 큐 초과나 감시로 이미 끊은 연결: 남은 프레임만 버림
+                    queuedFrames.addAndGet(-connection.clearOutbound());
+                    return;
+                }
+                long start = System.nanoTime();
+                connection.markWriteStarted(System.currentTimeMillis());
+                try {
+                    connection.getSink().send(frame);
+                } catch (IOException | IllegalStateException e) {
+                    // 끊어진 연결 (IllegalStateException: 이미 완료된 emitter)
+                    log.debug("[Notification] SSE 전송 실패로 연결 종료 - memberId: {}", connection.getMemberId());
+                    metrics.writeFailed(e);
+                    if (evict(connection, Eviction.ERROR)) {
+                        evict.accept(connection);
+                    }
+                    return;
+                } finally {
+                    connection.markWriteStarted(0);
+                }
+                long elapsedNanos = System.nanoTime() - start;
+                long now = System.currentTimeMillis();
+                connection.markWritten(now);
+                metrics.written(frame, elapsedNanos, now);
+                deliveryTracker.delivered(frame);
+                long elapsedMillis = elapsedNanos / 1_000_000;
+                if (elapsedMillis > maxWriteMillis) {
+                    if (evict(connection, Eviction.SLOW)) {
+                        log.warn("[Notification] SSE 전송 지연으로 연결 종료 - memberId: {}, elapsedMs: {}",
+                            connection.getMemberId(), elapsedMillis);
+                        evict.accept(connection);
+                    }
+                    return;
+                }
+            }
+        } finally {
+            writing.remove(connection);
+            connection.endDrain();
+        }
+        // drain 종료와 enqueue 사이에 들어온 프레임이 있으면 다시 시작
+        if (connection.hasOutbound() && connection.tryStartDrain()) {
+            executor.execute(() -> drain(connection, evict));
+        }
+    }
+
+    /**
+     * 연결을 끊은 것으로 표시하고 송신 큐를 비웁니다. 연결당 처음 한 번만 true를 반환합니다.
+     */
+    private boolean evict(SseConnection connection, Eviction eviction) {
+        if (!connection.markEvicted()) {
+            return false;
+        }
+        queuedFrames.addAndGet(-connection.clearOutbound());
+        metrics.evicted(eviction);
+        metrics.closed(connection, eviction.closeReason(), System.currentTimeMillis());
+        return true;
+    }
+
+    /** 생산자 스레드용: 표시와 큐 정리만 하고 종료(emitter complete)는 writer 실행기에 넘깁니다. */
+    private boolean evictLater(SseConnection connection, Consumer<SseConnection> evict, Eviction eviction) {
+        if (!evict(connection, eviction)) {
+            return false;
+        }
+        executor.execute(() -> evict.accept(connection));
+        return true;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.notification.infra.persistence.repository.NotificationJpaRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>SSE 전송 완료 기록</h2>
+ * 소켓 쓰기에 성공한 알림 ID를 모아 두었다가 주기적으로 {@code isSent = true}로 갱신합니다.
+ * 쓰기마다 UPDATE를 날리지 않고 {@code sse.delivery.batch-size}개씩 IN 조건 한 번으로 처리합니다.
+ *
+ * <p>같은 회원의 여러 연결에 쓴 알림은 한 번만 갱신되며, 갱신 전에 파드가 죽어 기록이 유실되면
+ * 다음 연결 시 한 번 더 재전송될 수 있습니다. 클라이언트는 이벤트 id로 중복을 걸러냅니다.
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+@Slf4j
+@Component
+public class SseDeliveryTracker {
+
+    private final NotificationJpaRepository notificationJpaRepository;
+    private final NotificationMetrics metrics;
+    private final int batchSize;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public SseDeliveryTracker(NotificationJpaRepository notificationJpaRepository,
+                              NotificationMetrics metrics,
+                              @Value("${sse.delivery.batch-size:500}") int batchSize) {
+        this.notificationJpaRepository = notificationJpaRepository;
+        this.metrics = metrics;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 쓰기에 성공한 프레임의 알림 ID를 기록합니다. writer 스레드에서 호출되며 DB에 접근하지 않습니다.
+     */
+    public void delivered(EncodedSseFrame frame) {
+        for (long id : frame.notificationIds()) {
+            pending.add(id);
+        }
+    }
+
+    /** 소켓 쓰기 외의 경로(long-poll 응답)로 보낸 알림 ID를 기록합니다. */
+    public void delivered(long notificationId) {
+        pending.add(notificationId);
+    }
+
+    /** 갱신을 기다리는 알림 수 */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 모인 알림 ID를 batch-size씩 나누어 전송 완료로 갱신합니다.
+     * 실패한 묶음은 다시 넣어 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${sse.delivery.flush-ms:1000}")
+    public void flush() {
+        Iterator<Long> it = pending.iterator();
+        while (it.hasNext()) {
+            List<Long> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+            while (it.hasNext() && batch.size() < batchSize) {
+                batch.add(it.next());
+                it.remove();
+            }
+            try {
+                int updated = notificationJpaRepository.markSent(batch);
+                metrics.result("sse_delivery_flush_total", updated, "result", "success");
+            } catch (Exception e) {
+                pending.addAll(batch);
+                log.warn("[Notification] 전송 완료 기록 실패 - count: {}", batch.size(), e);
+                metrics.result("sse_delivery_flush_total", batch.size(),
+                    "result", "error",
+                    "exception", e.getClass().getSimpleName()
+                );
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,202 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <h2>회원별 다중 SSE 연결 레지스트리</h2>
+ * memberId 해시로 나눈 고정 개수의 샤드(stripe)마다 락을 두고,
+ * 각 샤드는 회원별로 작은 연결 배열을 보관합니다.
+ *
+ * <p>배열은 변경 시마다 새로 만들어 교체(copy-on-write)하므로 조회 결과는
+ * 락 밖에서 그대로 순회해도 안전합니다. 회원당 연결 수는 {@code sse.emitter.max-per-member}
+ * 로 제한하며, 초과 시 가장 오래된 연결을 밀어냅니다.
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+@Component
+public class SseEmitterRegistry {
+
+    private static final int STRIPE_COUNT = 64; // 2의 거듭제곱
+    private static final SseConnection[] EMPTY = new SseConnection[0];
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    private final int maxPerMember;
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicInteger memberCount = new AtomicInteger();
+
+    public SseEmitterRegistry(@Value("${sse.emitter.max-per-member:5}") int maxPerMember) {
+        if (maxPerMember < 1) {
+            throw new IllegalArgumentException("sse.emitter.max-per-member must be >= 1");
+        }
+        this.maxPerMember = maxPerMember;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * 연결을 등록합니다. 회원당 최대 연결 수를 넘으면 가장 오래된 연결을 제거해 반환합니다.
+     * @param connection 등록할 연결
+     * @return 한도 초과로 밀려난 연결, 없으면 null
+     */
+    public SseConnection register(SseConnection connection) {
+        Stripe stripe = stripeOf(connection.getMemberId());
+        stripe.lock.lock();
+        try {
+            SseConnection[] current = stripe.members.get(connection.getMemberId());
+            if (current == null) {
+                stripe.members.put(connection.getMemberId(), new SseConnection[] {connection});
+                memberCount.incrementAndGet();
+                connectionCount.incrementAndGet();
+                return null;
+            }
+
+            // 배열은 등록 순서를 유지하므로 0번이 가장 오래된 연결
+            SseConnection evicted = null;
+            SseConnection[] next;
+            if (current.length >= maxPerMember) {
+                evicted = current[0];
+                next = Arrays.copyOfRange(current, 1, current.length + 1);
+            } else {
+                next = Arrays.copyOf(current, current.length + 1);
+                connectionCount.incrementAndGet();
+            }
+            next[next.length - 1] = connection;
+            stripe.members.put(connection.getMemberId(), next);
+            return evicted;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 연결을 제거합니다. 이미 제거된 연결이면 아무 일도 하지 않습니다.
+     * @param connection 제거할 연결
+     * @return 실제로 제거되었는지 여부
+     */
+    public boolean unregister(SseConnection connection) {
+        Stripe stripe = stripeOf(connection.getMemberId());
+        stripe.lock.lock();
+        try {
+            SseConnection[] current = stripe.members.get(connection.getMemberId());
+            if (current == null) {
+                return false;
+            }
+            int idx = indexOf(current, connection);
+            if (idx < 0) {
+                return false;
+            }
+            connectionCount.decrementAndGet();
+            if (current.length == 1) {
+                stripe.members.remove(connection.getMemberId());
+                memberCount.decrementAndGet();
+                return true;
+            }
+            SseConnection[] next = new SseConnection[current.length - 1];
+            System.arraycopy(current, 0, next, 0, idx);
+            System.arraycopy(current, idx + 1, next, idx, current.length - idx - 1);
+            stripe.members.put(connection.getMemberId(), next);
+            return true;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 회원의 현재 연결 스냅샷을 반환합니다. 반환된 배열은 수정하면 안 됩니다.
+     * @param memberId 회원 ID
+     * @return 연결 배열 (없으면 빈 배열)
+     */
+    public SseConnection[] connectionsOf(Long memberId) {
+        Stripe stripe = stripeOf(memberId);
+        stripe.lock.lock();
+        try {
+            SseConnection[] current = stripe.members.get(memberId);
+            return current != null ? current : EMPTY;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /** 회원의 연결이 하나라도 있는지 여부 */
+    public boolean isConnected(Long memberId) {
+        return connectionsOf(memberId).length > 0;
+    }
+
+    /**
+     * 모든 연결을 순회합니다. 샤드 단위로 스냅샷을 뜬 뒤 락 밖에서 action을 호출하므로
+     * action 안에서 {@link #unregister(SseConnection)}를 호출해도 됩니다.
+     */
+    public void forEach(Consumer<SseConnection> action) {
+        for (Stripe stripe : stripes) {
+            List<SseConnection[]> snapshot;
+            stripe.lock.lock();
+            try {
+                if (stripe.members.isEmpty()) {
+                    continue;
+                }
+                snapshot = new ArrayList<>(stripe.members.values());
+            } finally {
+                stripe.lock.unlock();
+            }
+            for (SseConnection[] connections : snapshot) {
+                for (SseConnection connection : connections) {
+                    action.accept(connection);
+                }
+            }
+        }
+    }
+
+    /** 이 레지스트리에 연결이 있는 회원 ID 스냅샷 */
+    public List<Long> memberIds() {
+        List<Long> ids = new ArrayList<>(memberCount.get());
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                ids.addAll(stripe.members.keySet());
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return ids;
+    }
+
+    /** 전체 연결 수 */
+    public int connectionCount() {
+        return connectionCount.get();
+    }
+
+    /** 연결이 하나 이상 있는 회원 수 */
+    public int memberCount() {
+        return memberCount.get();
+    }
+
+    private Stripe stripeOf(Long memberId) {
+        int h = Long.hashCode(memberId) * 0x9E3779B9; // 연속된 ID가 한 샤드에 몰리지 않도록 분산
+        return stripes[(h >>> 16) & (STRIPE_COUNT - 1)];
+    }
+
+    private static int indexOf(SseConnection[] connections, SseConnection target) {
+        for (int i = 0; i < connections.length; i++) {
+            if (connections[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, SseConnection[]> members = new HashMap<>();
+    }
+}
@@ -0,0 +1,40 @@
+package com.grow.notification_service.notification.application.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 클라이언트로 전송되는 SSE 이벤트 한 건
+ * 알림으로 저장된 이벤트는 notificationId를 id로 사용하므로, 재연결 시 브라우저가 보내는
+ * Last-Event-ID로 이어받을 위치를 알 수 있습니다.
+ * 이름과 데이터가 모두 없는 {@link #HEARTBEAT}는 연결 유지용 주석 프레임({@code :})으로 전송됩니다.
+ *
+ * @param id 이벤트 ID (저장되지 않은 일회성 이벤트는 null)
+ * @param name 이벤트 이름
+ * @param data 이벤트 데이터
+ */
+public record SseFrame(
+    Long id,
+    String name,
+    String data
+) {
+
+    public static final SseFrame HEARTBEAT = new SseFrame(null, null, null);
+
+    @JsonIgnore
+    public boolean isHeartbeat() {
+        return name == null && data == null;
+    }
+
+    public SseEmitter.SseEventBuilder toEvent() {
+        if (isHeartbeat()) {
+            return SseEmitter.event().comment(""); // ":\n\n"
+        }
+        SseEmitter.SseEventBuilder event = SseEmitter.event();
+        if (id != null) {
+            event.id(String.valueOf(id));
+        }
+        return event.name(name).data(data);
+    }
+}
@@ -0,0 +1,151 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>배포 시 SSE 연결 단계적 정리</h2>
+ * 파드가 종료될 때 모든 연결을 한 번에 끊으면 클라이언트가 같은 순간 남은 파드로 재연결해
+ * 연결 예산과 재전송 조회가 한꺼번에 몰립니다. 이 컴포넌트는 웹 서버의 graceful shutdown보다 먼저 멈추며
+ * 다음 순서로 연결을 정리합니다.
+ *
+ * <ol>
+ *     <li>새 구독을 거절합니다 ({@link SseAdmission#stopAccepting()}). 게이트웨이는 다른 파드로 보냅니다.</li>
+ *     <li>진행 중인 전송 이벤트({@code sseEventExecutor})와 송신 큐가 빌 때까지 최대 {@code sse.drain.await-ms} 기다립니다.</li>
+ *     <li>연결 순서를 섞은 뒤 {@code sse.drain.duration-ms} 동안 나누어 끊습니다.
+ *     끊을 때 무작위 재연결 대기 힌트({@code retry:})를 함께 보내 재연결 시각을 한 번 더 흩뜨립니다.</li>
+ * </ol>
+ *
+ * <p>정리 중 끊긴 연결은 {@code sse_connection_closed_total{reason="drain"}}으로 집계됩니다.
+ * 쓰지 못한 알림은 미전송으로 남아 재연결 시 재전송됩니다.
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+@Slf4j
+@Component
+public class SseGracefulDrain implements SmartLifecycle {
+
+    private static final long POLL_MILLIS = 50;
+
+    private final SseEmitterRegistry registry;
+    private final SseSendService sseSendService;
+    private final SseAdmission admission;
+    private final SseConnectionWriter writer;
+    private final ThreadPoolTaskExecutor eventExecutor;
+    private final SseReconnectPolicy reconnectPolicy;
+    private final long awaitMillis;
+    private final long drainMillis;
+    private volatile boolean running;
+
+    public SseGracefulDrain(SseEmitterRegistry registry,
+                            SseSendService sseSendService,
+                            SseAdmission admission,
+                            SseConnectionWriter writer,
+                            @Qualifier("sseEventExecutor") ThreadPoolTaskExecutor eventExecutor,
+                            SseReconnectPolicy reconnectPolicy,
+                            @Value("${sse.drain.await-ms:5000}") long awaitMillis,
+                            @Value("${sse.drain.duration-ms:15000}") long drainMillis) {
+        this.registry = registry;
+        this.sseSendService = sseSendService;
+        this.admission = admission;
+        this.writer = writer;
+        this.eventExecutor = eventExecutor;
+        this.reconnectPolicy = reconnectPolicy;
+        this.awaitMillis = Math.max(0, awaitMillis);
+        this.drainMillis = Math.max(0, drainMillis);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        drain();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 새 구독을 막고, 진행 중인 전송을 기다린 뒤 연결을 나누어 끊습니다.
+     * @return 정리한 연결 수
+     */
+    int drain() {
+        admission.stopAccepting();
+        awaitInFlight();
+
+        List<SseConnection> connections = new ArrayList<>(registry.connectionCount());
+        registry.forEach(connections::add);
+        if (connections.isEmpty()) {
+            return 0;
+        }
+        Collections.shuffle(connections);
+        log.info("[Notification] SSE 연결 단계적 정리 시작 - connections: {}, durationMs: {}",
+                connections.size(), drainMillis);
+
+        long start = System.nanoTime();
+        boolean interrupted = false;
+        for (int i = 0; i < connections.size(); i++) {
+            if (!interrupted) {
+                interrupted = !sleepUntil(start, drainMillis * i / connections.size());
+            }
+            sseSendService.disconnect(connections.get(i), reconnectPolicy.nextRetryMillis());
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("[Notification] SSE 연결 단계적 정리 완료 - connections: {}", connections.size());
+        return connections.size();
+    }
+
+    /** 전송 이벤트 실행기와 송신 큐가 빌 때까지 기다립니다. 시간이 지나면 남은 채로 진행합니다. */
+    private void awaitInFlight() {
+        long start = System.nanoTime();
+        while (eventExecutor.getActiveCount() > 0
+                || eventExecutor.getQueueSize() > 0
+                || writer.queuedFrames() > 0) {
+            if (elapsedMillis(start) >= awaitMillis) {
+                log.warn("[Notification] 진행 중인 SSE 전송을 기다리지 못하고 정리 - activeEvents: {}, queuedFrames: {}",
+                        eventExecutor.getActiveCount() + eventExecutor.getQueueSize(), writer.queuedFrames());
+                return;
+            }
+            if (!sleepUntil(System.nanoTime(), POLL_MILLIS)) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /** @return 인터럽트되지 않고 기다렸으면 true */
+    private static boolean sleepUntil(long startNanos, long offsetMillis) {
+        long remaining = offsetMillis - elapsedMillis(startNanos);
+        if (remaining <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(remaining);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
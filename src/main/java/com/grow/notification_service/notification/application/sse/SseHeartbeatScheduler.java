@@ -10,8 +10,13 @@ import lombok.RequiredArgsConstructor;
 public class SseHeartbeatScheduler {
 	private final SseSendService sseSendService;
 
-	@Scheduled(fixedDelay = 25_000) //25초
+	@Scheduled(fixedRate = SseHeartbeatWheel.TICK_MILLIS) // 1초마다 타이밍 휠 한 칸씩 (연결별 주기는 25초)
 	public void heartbeat() {
 		sseSendService.sendHeartbeat();
 	}
-}
\ No newline at end of file
+
+	@Scheduled(fixedDelay = 30_000) // 30초 (프레즌스 TTL보다 충분히 짧게)
+	public void refreshPresence() {
+		sseSendService.refreshPresence();
+	}
+}
@@ -0,0 +1,135 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * <h2>SSE heartbeat 타이밍 휠</h2>
+ * heartbeat 주기를 1초 단위 슬롯으로 나누고, 각 연결을 연결 시각에 해당하는 슬롯에 둡니다.
+ * 매 tick마다 현재 슬롯의 연결만 처리하므로 전체 연결에 대한 ping이 주기 전체에 고르게 퍼지며,
+ * 한 슬롯의 연결은 여러 writer 스레드로 나누어 병렬 전송합니다.
+ *
+ * <p>마지막 전송 후 주기가 지나지 않은 연결은 실제 이벤트가 이미 연결을 살려두고 있으므로 건너뜁니다.
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+@Component
+public class SseHeartbeatWheel {
+
+    public static final long TICK_MILLIS = 1_000L;
+
+    private final long intervalMillis;
+    private final Set<SseConnection>[] slots;
+    private final Executor writers;
+    private final int parallelism;
+    private final ExecutorService ownedExecutor;
+    private long lastTick;
+
+    @Autowired
+    public SseHeartbeatWheel(@Value("${sse.heartbeat.interval-ms:25000}") long intervalMillis,
+                             @Value("${sse.heartbeat.writers:4}") int writers) {
+        this(intervalMillis, writers, newWriterPool(writers));
+    }
+
+    SseHeartbeatWheel(long intervalMillis, int parallelism, Executor writers) {
+        if (intervalMillis < TICK_MILLIS) {
+            throw new IllegalArgumentException("sse.heartbeat.interval-ms must be >= " + TICK_MILLIS);
+        }
+        this.intervalMillis = intervalMillis;
+        this.parallelism = Math.max(1, parallelism);
+        this.writers = writers;
+        this.ownedExecutor = writers instanceof ExecutorService es ? es : null;
+        @SuppressWarnings("unchecked")
+        Set<SseConnection>[] buckets = new Set[(int) (intervalMillis / TICK_MILLIS)];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.slots = buckets;
+        this.lastTick = System.currentTimeMillis() / TICK_MILLIS;
+    }
+
+    /** 연결을 연결 시각에 해당하는 슬롯에 추가합니다. */
+    public void add(SseConnection connection) {
+        slotOf(connection).add(connection);
+    }
+
+    /** 연결을 휠에서 제거합니다. 이미 제거된 연결이면 무시합니다. */
+    public void remove(SseConnection connection) {
+        slotOf(connection).remove(connection);
+    }
+
+    /**
+     * 지난 tick 이후 도래한 슬롯들을 처리합니다. 스케줄러가 밀려 tick을 건너뛰었으면
+     * 건너뛴 슬롯까지 (최대 한 바퀴) 처리하므로 ping이 빠지지 않습니다.
+     *
+     * @param now 현재 시각 (epoch millis)
+     * @param ping heartbeat 대상 연결마다 writer 스레드에서 호출됩니다.
+     * @return ping 대상이었던 연결 수
+     */
+    public synchronized int tick(long now, Consumer<SseConnection> ping) {
+        long currentTick = now / TICK_MILLIS;
+        long from = Math.max(lastTick + 1, currentTick - slots.length + 1);
+        lastTick = currentTick;
+
+        List<SseConnection> due = new ArrayList<>();
+        for (long t = from; t <= currentTick; t++) {
+            for (SseConnection connection : slots[(int) (t % slots.length)]) {
+                if (now - connection.getLastWriteAt() >= intervalMillis) {
+                    due.add(connection);
+                }
+            }
+        }
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        // 슬롯을 writer 수만큼 나누어 병렬 전송하고, 다음 tick 전에 끝나도록 기다림
+        int chunk = (due.size() + parallelism - 1) / parallelism;
+        List<CompletableFuture<Void>> futures = new ArrayList<>(parallelism);
+        for (int start = 0; start < due.size(); start += chunk) {
+            List<SseConnection> part = due.subList(start, Math.min(start + chunk, due.size()));
+            futures.add(CompletableFuture.runAsync(() -> part.forEach(ping), writers));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return due.size();
+    }
+
+    /** heartbeat 주기 (millis) */
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private Set<SseConnection> slotOf(SseConnection connection) {
+        return slots[(int) ((connection.getConnectedAt() / TICK_MILLIS) % slots.length)];
+    }
+
+    private static ExecutorService newWriterPool(int writers) {
+        AtomicInteger seq = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, writers), r -> {
+            Thread t = new Thread(r, "sse-heartbeat-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+}
@@ -0,0 +1,269 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * <h2>SSE 전송 경로 메트릭</h2>
+ * 연결마다, 쓰기마다 호출되는 경로에서 쓰는 메터를 생성 시점에 모두 등록해 둡니다.
+ * 전송 중에는 레지스트리 조회나 태그 배열 생성 없이 필드에 들고 있는 메터만 갱신합니다.
+ *
+ * <ul>
+ *     <li>{@code sse_write_latency}: 소켓 쓰기 한 번의 소요 시간 (SLO 구간 히스토그램)</li>
+ *     <li>{@code sse_frame_bytes}: 쓴 이벤트의 크기 (heartbeat 제외)</li>
+ *     <li>{@code sse_saved_to_write_latency}: 알림 저장(NotificationSavedEvent)부터 이 파드의 소켓 쓰기까지</li>
+ *     <li>{@code sse_connection_lifetime}: 연결 유지 시간 분포</li>
+ *     <li>{@code sse_connection_closed_total}: 종료 사유별 연결 수 (타임아웃 / 클라이언트 끊김 / 서버 정리)</li>
+ *     <li>{@code sse_filtered_total}: 연결의 구독 유형 필터로 보내지 않은 프레임</li>
+ *     <li>{@code sse_subscribe_total}: 구독 수. Last-Event-ID를 보낸 구독은 {@code kind="reconnect"}로 집계</li>
+ *     <li>{@code sse_send_result_total}: 알림 유형별 전송 결과 (queued / evicted / offline / error)</li>
+ *     <li>{@code sse_relay_publish_total}, {@code sse_relay_receive_total}: 다른 파드로 보낸/받은 전달</li>
+ *     <li>{@code sse_coalesce_total}: 묶음으로 합친 알림 수와 묶지 않고 바로 보낸 긴급 알림 수</li>
+ * </ul>
+ *
+ * <p>Prometheus는 같은 이름의 메터가 같은 태그 키를 갖기를 요구하므로,
+ * 실패에만 붙는 {@code exception} 태그는 성공 쪽에도 {@code exception="none"}으로 둡니다.
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+@Component
+public class SseMetrics {
+
+    private final MeterRegistry registry;
+    private final Timer writeLatency;
+    private final Timer savedToWrite;
+    private final DistributionSummary frameBytes;
+    private final Timer connectionLifetime;
+    private final Counter writeSuccess;
+    private final Counter filtered;
+    private final Counter subscribed;
+    private final Counter reconnected;
+    private final Counter relayPublished;
+    private final Counter relayDelivered;
+    private final Counter relayNoConnection;
+    private final Counter coalesceBypassed;
+    private final Counter coalesceMerged;
+    private final Map<CloseReason, Counter> closed = new EnumMap<>(CloseReason.class);
+    private final Map<Eviction, Counter> evictions = new EnumMap<>(Eviction.class);
+    private final Map<String, Counter> sendQueued = new ConcurrentHashMap<>();
+    private final Map<String, Counter> sendEvicted = new ConcurrentHashMap<>();
+    private final Map<NotificationType, Counter> sendOffline = new EnumMap<>(NotificationType.class);
+    private final Map<NotificationType, Counter> sendNotConnected = new EnumMap<>(NotificationType.class);
+
+    public SseMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.writeLatency = Timer.builder("sse_write_latency")
+            .description("SSE 소켓 쓰기 한 번의 소요 시간")
+            .serviceLevelObjectives(millis(1), millis(5), millis(10), millis(25), millis(50), millis(100),
+                millis(250), millis(500), millis(1_000), millis(2_000))
+            .register(registry);
+        this.savedToWrite = Timer.builder("sse_saved_to_write_latency")
+            .description("알림 저장부터 소켓 쓰기까지의 시간")
+            .serviceLevelObjectives(millis(10), millis(50), millis(100), millis(250), millis(500),
+                millis(1_000), millis(2_500), millis(5_000), millis(10_000))
+            .register(registry);
+        this.frameBytes = DistributionSummary.builder("sse_frame_bytes")
+            .description("소켓에 쓴 SSE 이벤트 크기")
+            .baseUnit("bytes")
+            .serviceLevelObjectives(128, 256, 512, 1_024, 2_048, 4_096, 8_192, 16_384, 65_536)
+            .register(registry);
+        this.connectionLifetime = Timer.builder("sse_connection_lifetime")
+            .description("SSE 연결 유지 시간")
+            .serviceLevelObjectives(Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofMinutes(1),
+                Duration.ofMinutes(5), Duration.ofMinutes(15), Duration.ofMinutes(30), Duration.ofHours(1))
+            .register(registry);
+        this.writeSuccess = registry.counter("sse_outbound_write_total", "result", "success", "exception", "none");
+        this.filtered = registry.counter("sse_filtered_total");
+        this.subscribed = registry.counter("sse_subscribe_total", "kind", "new");
+        this.reconnected = registry.counter("sse_subscribe_total", "kind", "reconnect");
+        this.relayPublished = registry.counter("sse_relay_publish_total", "result", "success", "exception", "none");
+        this.relayDelivered = registry.counter("sse_relay_receive_total", "result", "delivered");
+        this.relayNoConnection = registry.counter("sse_relay_receive_total", "result", "no_connection");
+        this.coalesceBypassed = registry.counter("sse_coalesce_total", "result", "bypass");
+        this.coalesceMerged = registry.counter("sse_coalesce_total", "result", "merged");
+        for (CloseReason reason : CloseReason.values()) {
+            closed.put(reason, registry.counter("sse_connection_closed_total", "reason", reason.tag));
+        }
+        for (Eviction eviction : Eviction.values()) {
+            evictions.put(eviction, registry.counter("sse_outbound_evictions_total", "reason", eviction.tag));
+        }
+        for (NotificationType type : NotificationType.values()) {
+            registerSendResult(type.name());
+            sendOffline.put(type, registry.counter("sse_send_result_total", "result", "offline", "type", type.name()));
+            sendNotConnected.put(type, registry.counter("sse_send_result_total", "result", "error", "type", type.name()));
+        }
+        registerSendResult(SseCoalescer.BATCH_TYPE);
+        registerSendResult(SseSendServiceImpl.UNREAD_EVENT);
+    }
+
+    /**
+     * 소켓 쓰기 한 번을 기록합니다. writer 스레드에서 프레임마다 호출됩니다.
+     *
+     * @param frame 쓴 프레임
+     * @param elapsedNanos 쓰기 소요 시간
+     * @param now 쓰기를 마친 시각 (epoch millis)
+     */
+    public void written(EncodedSseFrame frame, long elapsedNanos, long now) {
+        writeSuccess.increment();
+        writeLatency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (frame == EncodedSseFrame.HEARTBEAT) {
+            return;
+        }
+        frameBytes.record(frame.bytes().length);
+        if (frame.originAt() > 0) {
+            savedToWrite.record(Math.max(0, now - frame.originAt()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** 소켓 쓰기 실패. 연결이 끊길 때 한 번만 호출되므로 예외 태그는 이때 만듭니다. */
+    public void writeFailed(Exception e) {
+        registry.counter("sse_outbound_write_total", "result", "error",
+            "exception", e.getClass().getSimpleName()).increment();
+    }
+
+    /** writer가 느린 소비자로 판단해 연결을 끊은 횟수 */
+    public void evicted(Eviction eviction) {
+        evictions.get(eviction).increment();
+    }
+
+    /** 회원 연결 송신 큐에 넣은 결과. type은 알림 유형 이름, 묶음, unread 중 하나입니다. */
+    public void sendResult(String type, boolean queued) {
+        Map<String, Counter> counters = queued ? sendQueued : sendEvicted;
+        Counter counter = counters.get(type);
+        if (counter == null) {
+            registerSendResult(type);
+            counter = counters.get(type);
+        }
+        counter.increment();
+    }
+
+    /** 회원이 어느 파드에도 연결되어 있지 않아 보내지 않은 알림 */
+    public void sendOffline(NotificationType type) {
+        sendOffline.get(type).increment();
+    }
+
+    /** 프레즌스에는 있었지만 이 파드에도, 다른 파드로의 전달에도 성공하지 못한 알림 */
+    public void sendNotConnected(NotificationType type) {
+        sendNotConnected.get(type).increment();
+    }
+
+    /** 다른 파드로의 전달 발행 성공 */
+    public void relayPublished() {
+        relayPublished.increment();
+    }
+
+    /** 다른 파드로의 전달 발행 실패. 예외 태그는 실패할 때만 만듭니다. */
+    public void relayPublishFailed(Exception e) {
+        registry.counter("sse_relay_publish_total", "result", "error",
+            "exception", e.getClass().getSimpleName()).increment();
+    }
+
+    /**
+     * 다른 파드에서 받은 전달을 처리한 결과
+     * @param delivered 이 파드의 연결에 넣었는지 여부. 프레즌스가 늦게 갱신되면 false일 수 있습니다.
+     */
+    public void relayReceived(boolean delivered) {
+        (delivered ? relayDelivered : relayNoConnection).increment();
+    }
+
+    /** 긴급 유형이라 창에 모으지 않고 바로 보낸 알림 */
+    public void coalesceBypassed() {
+        coalesceBypassed.increment();
+    }
+
+    /** 한 묶음으로 합쳐 보낸 알림 수 */
+    public void coalesced(int items) {
+        coalesceMerged.increment(items);
+    }
+
+    /** 연결의 구독 유형 필터로 보내지 않은 프레임 */
+    public void filtered() {
+        filtered.increment();
+    }
+
+    /**
+     * 등록된 구독을 기록합니다. 배포 중 재연결이 몰리는지는 {@code kind="reconnect"}의 증가율로 봅니다.
+     * @param reconnect Last-Event-ID를 보낸 재연결인지 여부
+     */
+    public void subscribed(boolean reconnect) {
+        (reconnect ? reconnected : subscribed).increment();
+    }
+
+    /**
+     * 연결 종료를 기록합니다. 종료 콜백은 여러 번 불릴 수 있으므로 연결마다 처음 기록된 사유만 남깁니다.
+     * 서버가 먼저 끊은 연결은 이후 완료 콜백이 와도 서버 정리로 집계됩니다.
+     *
+     * @param connection 종료된 연결
+     * @param reason 종료 사유
+     * @param now 종료 시각 (epoch millis)
+     */
+    public void closed(SseConnection connection, CloseReason reason, long now) {
+        if (!connection.markClosed()) {
+            return;
+        }
+        closed.get(reason).increment();
+        connectionLifetime.record(Math.max(0, now - connection.getConnectedAt()), TimeUnit.MILLISECONDS);
+    }
+
+    private void registerSendResult(String type) {
+        sendQueued.computeIfAbsent(type,
+            t -> registry.counter("sse_send_result_total", "result", "queued", "type", t));
+        sendEvicted.computeIfAbsent(type,
+            t -> registry.counter("sse_send_result_total", "result", "evicted", "type", t));
+    }
+
+    private static Duration millis(long millis) {
+        return Duration.ofMillis(millis);
+    }
+
+    /** 연결 종료 사유 */
+    public enum CloseReason {
+        /** Emitter 타임아웃 */
+        TIMEOUT("timeout"),
+        /** 클라이언트가 연결을 끊음 (전송 중 IOException 포함) */
+        CLIENT_DISCONNECT("client_disconnect"),
+        /** 서버가 끊음 (송신 큐 초과, 느린 전송, 회원당 연결 수 초과) */
+        SERVER_EVICT("server_evict"),
+        /** 파드 종료 중 단계적 정리 ({@link SseGracefulDrain}) */
+        DRAIN("drain"),
+        /** long-poll 요청 완료 (이벤트 수신 또는 시간 초과) */
+        LONG_POLL("long_poll");
+
+        private final String tag;
+
+        CloseReason(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /** writer가 연결을 끊은 사유 */
+    public enum Eviction {
+        OVERFLOW("overflow", CloseReason.SERVER_EVICT),
+        SLOW("slow", CloseReason.SERVER_EVICT),
+        ERROR("error", CloseReason.CLIENT_DISCONNECT);
+
+        private final String tag;
+        private final CloseReason closeReason;
+
+        Eviction(String tag, CloseReason closeReason) {
+            this.tag = tag;
+            this.closeReason = closeReason;
+        }
+
+        public CloseReason closeReason() {
+            return closeReason;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+
+/**
+ * 현재 파드를 식별하는 ID
+ * {@code sse.pod-id}가 없으면 쿠버네티스가 주입하는 HOSTNAME(파드 이름)을,
+ * 그것도 없으면 기동 시 생성한 UUID를 사용합니다.
+ */
+@Getter
+@Component
+public class SsePodIdentity {
+
+    private final String podId;
+
+    public SsePodIdentity(@Value("${sse.pod-id:${HOSTNAME:}}") String configured) {
+        this.podId = (configured == null || configured.isBlank())
+            ? UUID.randomUUID().toString()
+            : configured;
+    }
+}
@@ -0,0 +1,65 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <h2>SSE 재연결 분산 정책</h2>
+ * 같은 시각에 맺어진 연결이 같은 시각에 끊겨 한꺼번에 재연결하지 않도록 시간을 흩뜨립니다.
+ *
+ * <ul>
+ *     <li>연결 타임아웃: {@code sse.emitter.timeout-ms}에서 최대 {@code sse.emitter.timeout-jitter} 비율만큼 줄인 무작위 값</li>
+ *     <li>long-poll 대기 시간: {@code sse.long-poll.timeout-ms}에서 같은 비율만큼 줄인 무작위 값</li>
+ *     <li>재연결 대기 힌트({@code retry:}): 서버가 먼저 끊는 연결에 1초 ~ {@code sse.drain.retry-spread-ms} 사이의 무작위 값</li>
+ * </ul>
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+@Component
+public class SseReconnectPolicy {
+
+    private static final long MIN_RETRY_MILLIS = 1_000;
+
+    private final long timeoutMillis;
+    private final long timeoutJitterMillis;
+    private final long longPollTimeoutMillis;
+    private final long longPollJitterMillis;
+    private final long retrySpreadMillis;
+
+    public SseReconnectPolicy(@Value("${sse.emitter.timeout-ms:3600000}") long timeoutMillis,
+                              @Value("${sse.emitter.timeout-jitter:0.2}") double timeoutJitter,
+                              @Value("${sse.long-poll.timeout-ms:25000}") long longPollTimeoutMillis,
+                              @Value("${sse.drain.retry-spread-ms:30000}") long retrySpreadMillis) {
+        if (timeoutMillis < 1) {
+            throw new IllegalArgumentException("sse.emitter.timeout-ms must be >= 1");
+        }
+        if (longPollTimeoutMillis < 1) {
+            throw new IllegalArgumentException("sse.long-poll.timeout-ms must be >= 1");
+        }
+        if (timeoutJitter < 0 || timeoutJitter >= 1) {
+            throw new IllegalArgumentException("sse.emitter.timeout-jitter must be in [0, 1)");
+        }
+        this.timeoutMillis = timeoutMillis;
+        this.timeoutJitterMillis = (long) (timeoutMillis * timeoutJitter);
+        this.longPollTimeoutMillis = longPollTimeoutMillis;
+        this.longPollJitterMillis = (long) (longPollTimeoutMillis * timeoutJitter);
+        this.retrySpreadMillis = Math.max(MIN_RETRY_MILLIS, retrySpreadMillis);
+    }
+
+    /** 새 연결의 타임아웃. [timeout × (1 - jitter), timeout] 구간에서 고르게 뽑습니다. */
+    public long nextTimeoutMillis() {
+        return timeoutMillis - ThreadLocalRandom.current().nextLong(timeoutJitterMillis + 1);
+    }
+
+    /** long-poll 요청을 붙잡아 둘 시간. 프록시의 유휴 연결 제한(보통 30초)보다 짧게 둡니다. */
+    public long nextLongPollTimeoutMillis() {
+        return longPollTimeoutMillis - ThreadLocalRandom.current().nextLong(longPollJitterMillis + 1);
+    }
+
+    /** 서버가 끊는 연결에 보낼 재연결 대기 시간 */
+    public long nextRetryMillis() {
+        return ThreadLocalRandom.current().nextLong(MIN_RETRY_MILLIS, retrySpreadMillis + 1);
+    }
+}
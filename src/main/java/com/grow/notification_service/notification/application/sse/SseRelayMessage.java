@@ -0,0 +1,15 @@
+package com.grow.notification_service.notification.application.sse;
+
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+/**
+ * 파드 간 전달되는 SSE 알림 메시지
+ * @param memberId 알림을 받을 회원 ID
+ * @param notificationType 알림 타입 (unread 같은 상태 이벤트는 null)
+ * @param frame 전송할 SSE 이벤트
+ */
+public record SseRelayMessage(
+    Long memberId,
+    NotificationType notificationType,
+    SseFrame frame
+) {}
@@ -0,0 +1,153 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.global.util.JsonUtils;
+import com.grow.notification_service.notification.application.dto.NotificationListItemResponse;
+import com.grow.notification_service.notification.application.dto.NotificationPushPayload;
+import com.grow.notification_service.notification.application.port.SseReplayPort;
+import com.grow.notification_service.notification.infra.persistence.repository.NotificationJpaRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>Last-Event-ID 기반 재전송</h2>
+ * 재연결한 클라이언트가 놓친 이벤트를 회원별 재전송 버퍼에서 찾아 돌려줍니다.
+ * 버퍼가 이미 밀려나 빠짐없이 이어줄 수 없을 때만 notificationId > lastId 조건으로 DB를 조회합니다.
+ *
+ * <p>Last-Event-ID 없이 새로 연결한 회원에게는 오프라인 동안 쌓인 미전송 알림({@code isSent = false})을 돌려줍니다.
+ * 전송 여부를 기록하기 전에 저장된 알림은 모두 {@code isSent = false}이므로,
+ * {@code sse.delivery.tracked-since}(전송 여부 기록을 시작한 배포 시각) 이전 알림은 재전송하지 않습니다.
+ * 이 시각은 배포 환경마다 다르므로 기본값이 없으며, 재전송({@code sse.delivery.redeliver-enabled}, 기본 true)을
+ * 켠 채 지정하지 않으면 기동에 실패합니다.
+ * DB에서 읽은 알림도 실시간 전송과 같은 {@link NotificationPushPayload} 형식으로 보냅니다.
+ */
+@Slf4j
+@Component
+public class SseReplayService {
+
+    private final SseReplayPort replayPort;
+    private final NotificationJpaRepository notificationJpaRepository;
+    private final NotificationMetrics metrics;
+    private final int fallbackLimit;
+    private final long redeliverMaxAgeHours;
+    private final LocalDateTime trackedSince; // 재전송을 끈 경우 null
+
+    public SseReplayService(SseReplayPort replayPort,
+                            NotificationJpaRepository notificationJpaRepository,
+                            NotificationMetrics metrics,
+                            @Value("${sse.replay.fallback-limit:100}") int fallbackLimit,
+                            @Value("${sse.delivery.redeliver-max-age-hours:24}") long redeliverMaxAgeHours,
+                            @Value("${sse.delivery.redeliver-enabled:true}") boolean redeliverEnabled,
+                            @Value("${sse.delivery.tracked-since:}") String trackedSince) {
+        this.replayPort = replayPort;
+        this.notificationJpaRepository = notificationJpaRepository;
+        this.metrics = metrics;
+        this.fallbackLimit = fallbackLimit;
+        this.redeliverMaxAgeHours = redeliverMaxAgeHours;
+        this.trackedSince = redeliverEnabled ? parseTrackedSince(trackedSince) : null;
+    }
+
+    /** 전송 여부 기록을 시작한 시각 (ISO-8601, 예: 2026-10-18T00:00:00). 배포 시 실제 반영 시각으로 지정합니다. */
+    private static LocalDateTime parseTrackedSince(String trackedSince) {
+        if (trackedSince == null || trackedSince.isBlank()) {
+            throw new IllegalStateException(
+                "sse.delivery.tracked-since is required when sse.delivery.redeliver-enabled is true");
+        }
+        try {
+            return LocalDateTime.parse(trackedSince.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalStateException("sse.delivery.tracked-since must be ISO-8601: " + trackedSince, e);
+        }
+    }
+
+    /**
+     * id가 있는 이벤트를 재전송 버퍼에 기록합니다. 일회성 이벤트(id 없음)는 기록하지 않습니다.
+     */
+    public void record(Long memberId, SseFrame frame) {
+        if (frame.id() != null) {
+            replayPort.append(memberId, frame);
+        }
+    }
+
+    /**
+     * lastEventId 이후의 이벤트를 오름차순으로 반환합니다.
+     * @param memberId 회원 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID
+     * @return 재전송할 이벤트 목록
+     */
+    public List<SseFrame> framesAfter(Long memberId, long lastEventId) {
+        Optional<List<SseFrame>> buffered = replayPort.framesAfter(memberId, lastEventId);
+        if (buffered.isPresent()) {
+            metrics.result("sse_replay_total", "source", "buffer");
+            return buffered.get();
+        }
+
+        // 버퍼가 밀려났거나 만료된 경우에만 DB 조회
+        List<SseFrame> frames = notificationJpaRepository
+            .findAfter(memberId, lastEventId, PageRequest.of(0, fallbackLimit))
+            .stream()
+            .map(SseReplayService::toFrame)
+            .toList();
+        log.info("[Notification] 재전송 버퍼 범위 밖 - DB 조회로 대체 - memberId: {}, lastEventId: {}, count: {}",
+            memberId, lastEventId, frames.size());
+        metrics.result("sse_replay_total", "source", "db");
+        return frames;
+    }
+
+    /**
+     * 아직 전송되지 않은 최근 알림을 오름차순으로 반환합니다. (memberId, isSent) 인덱스로 조회합니다.
+     * 너무 오래된 알림과 전송 여부를 기록하기 전에 저장된 알림은 다시 보내지 않고 목록 조회에 맡깁니다.
+     * @param memberId 회원 ID
+     * @return 재전송할 이벤트 목록. 재전송을 끈 경우 빈 목록
+     */
+    public List<SseFrame> undelivered(Long memberId) {
+        if (trackedSince == null) {
+            return List.of();
+        }
+        List<SseFrame> frames = notificationJpaRepository
+            .findUnsent(memberId, redeliverSince(), PageRequest.of(0, fallbackLimit))
+            .stream()
+            .map(SseReplayService::toFrame)
+            .toList();
+        if (!frames.isEmpty()) {
+            metrics.result("sse_replay_total", "source", "undelivered");
+        }
+        return frames;
+    }
+
+    /** 최대 보관 시간과 전송 여부 기록 시작 시각 중 늦은 쪽 이후의 알림만 재전송합니다. */
+    private LocalDateTime redeliverSince() {
+        LocalDateTime since = LocalDateTime.now().minusHours(redeliverMaxAgeHours);
+        return trackedSince.isAfter(since) ? trackedSince : since;
+    }
+
+    /** DB에서 다시 읽은 알림을 실시간 전송과 같은 형식의 프레임으로 만듭니다. */
+    private static SseFrame toFrame(NotificationListItemResponse item) {
+        return new SseFrame(item.getId(), item.getTitle(),
+            JsonUtils.toJsonString(NotificationPushPayload.of(item)));
+    }
+
+    /**
+     * Last-Event-ID 헤더 값을 파싱합니다.
+     * @return 숫자가 아니거나 비어 있으면 null
+     */
+    public static Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
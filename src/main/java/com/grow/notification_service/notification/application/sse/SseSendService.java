@@ -1,14 +1,43 @@
 package com.grow.notification_service.notification.application.sse;
 
+import com.grow.notification_service.notification.application.dto.LongPollResponse;
 import com.grow.notification_service.notification.application.event.dto.NotificationSavedEvent;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent;
 import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface SseSendService {
-    SseEmitter subscribe(Long memberId);
+    default SseEmitter subscribe(Long memberId) {
+        return subscribe(memberId, null);
+    }
+    default SseEmitter subscribe(Long memberId, String lastEventId) {
+        return subscribe(memberId, lastEventId, null);
+    }
+    SseEmitter subscribe(Long memberId, String lastEventId, Set<NotificationType> types);
+    SseConnection subscribe(Long memberId, SseSink sink, String lastEventId, Set<NotificationType> types);
+    void unsubscribe(SseConnection connection);
+    DeferredResult<LongPollResponse> poll(Long memberId, Long cursor, Set<NotificationType> types);
+    void sendNotification(Long memberId,
+                          NotificationType notificationType,
+                          String message);
     void sendNotification(Long memberId,
+                          Long notificationId,
                           NotificationType notificationType,
                           String message);
+    int broadcast(Collection<Long> memberIds,
+                  NotificationType notificationType,
+                  String message);
+    int broadcastAll(NotificationType notificationType, String message);
+    void deliverLocally(SseRelayMessage message);
+    void deliverBroadcast(SseBroadcastMessage message);
+    void sendUnreadCount(Long memberId);
     void handleNotificationSavedEvent(NotificationSavedEvent event);
+    void handleUnreadCountChangedEvent(UnreadCountChangedEvent event);
     void sendHeartbeat();
-}
\ No newline at end of file
+    void refreshPresence();
+    void disconnect(SseConnection connection, long retryMillis);
+}
@@ -1,25 +1,42 @@
 package com.grow.notification_service.notification.application.sse;
 
 import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.global.util.JsonUtils;
+import com.grow.notification_service.notification.application.dto.LongPollResponse;
+import com.grow.notification_service.notification.application.dto.NotificationPushPayload;
+import com.grow.notification_service.notification.application.dto.UnreadBadgeResponse;
 import com.grow.notification_service.notification.application.event.dto.NotificationSavedEvent;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent.Counter;
+import com.grow.notification_service.notification.application.exception.SseAdmissionException;
 import com.grow.notification_service.notification.application.exception.SseException;
+import com.grow.notification_service.notification.application.port.MemberPresencePort;
+import com.grow.notification_service.notification.application.port.SseRelayPort;
+import com.grow.notification_service.notification.application.service.UnreadCountService;
+import com.grow.notification_service.notification.application.sse.SseMetrics.CloseReason;
 import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
 import com.grow.notification_service.notification.presentation.dto.NotificationRequestDto;
 
 import io.micrometer.core.annotation.Timed;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.grow.notification_service.notification.application.exception.ErrorCode.SSE_NOT_CONNECTED;
 
@@ -28,19 +45,36 @@ import static com.grow.notification_service.notification.application.exception.E
  * 사용자 ID별로 SSE Emitter를 관리하며, 클라이언트의 구독 요청을 처리하고
  * 실시간 알림을 전송하는 역할을 담당합니다.
  *
- * <p>이 클래스는 ConcurrentHashMap을 사용하여 멀티스레드 환경에서 안전하게
- * Emitter를 저장합니다. 연결이 많아질 경우 서버 리소스 소비를 고려하여
- * Redis Pub/Sub 구조로 확장하는 것을 고려합니다.
+ * <p>Emitter는 {@link SseEmitterRegistry}에 회원별 다중 연결로 저장되므로
+ * 같은 회원이 여러 탭/기기에서 구독해도 기존 연결이 끊기지 않습니다.
+ *
+ * <p>여러 파드로 운영할 때는 회원이 어느 파드에 연결되어 있는지를
+ * {@link MemberPresencePort}(Redis)에 기록하고, 다른 파드에 연결된 회원에게는
+ * {@link SseRelayPort}로 해당 파드의 전용 채널에만 메시지를 전달합니다.
+ *
+ * <p>알림 이벤트에는 notificationId를 SSE id로 붙이고 {@link SseReplayService}에 기록해 두어,
+ * 재연결한 클라이언트가 보낸 Last-Event-ID 이후의 이벤트를 다시 보내줍니다.
  *
  * <p><b>주요 기능:</b>
  * <ul>
- *     <li>사용자 ID 기반 SSE 연결 구독</li>
+ *     <li>사용자 ID 기반 SSE 연결 구독 (회원당 최대 연결 수 제한)</li>
  *     <li>초기 연결 확인을 위한 더미 이벤트 전송</li>
- *     <li>알림 메시지 전송</li>
+ *     <li>회원의 모든 연결로 알림 메시지 전송 (다른 파드 연결 포함)</li>
+ *     <li>연결별 송신 큐를 통한 비동기 전송 및 느린 소비자 정리 ({@link SseConnectionWriter})</li>
+ *     <li>서블릿 SseEmitter, WebSocket 등 전송 방식과 무관한 연결 처리 ({@link SseSink})</li>
+ *     <li>한 번 인코딩한 이벤트를 여러 회원에게 보내는 브로드캐스트 ({@link SseBroadcaster})</li>
+ *     <li>회원별로 몰린 알림을 한 프레임으로 묶어 전송 ({@link SseCoalescer})</li>
+ *     <li>읽지 않은 알림/쪽지 수 푸시 ({@code unread} 이벤트, {@link UnreadCountService})</li>
+ *     <li>쓰기 지연, 연결 수명, 종료 사유 등 전송 경로 메트릭 ({@link SseMetrics})</li>
+ *     <li>전송 완료 기록과 새 연결 시 미전송 알림 재전송 ({@link SseDeliveryTracker})</li>
+ *     <li>알림 ID, 생성 시각, 읽지 않은 수를 담은 JSON 알림 데이터 ({@link NotificationPushPayload})</li>
+ *     <li>SSE를 쓸 수 없는 클라이언트를 위한 long-poll ({@link LongPollSseSink})</li>
+ *     <li>ack를 주고받는 WebSocket 전송 ({@link WebSocketSseSink}, {@link NotificationAckBuffer})</li>
  * </ul>
  *
- * <p><b>주의:</b> Emitter의 타임아웃은 기본적으로 1시간으로 설정되어 있으며,
- * 필요에 따라 조정할 수 있습니다. 연결 실패 시 커스텀 예외(SseException)를 발생시킵니다.
+ * <p><b>주의:</b> Emitter의 타임아웃은 기본적으로 1시간에서 최대 20% 줄인 무작위 값이며
+ * ({@link SseReconnectPolicy}), 같은 시각에 맺은 연결이 같은 시각에 재연결하지 않도록 합니다.
+ * 연결 실패 시 커스텀 예외(SseException)를 발생시킵니다.
  *
  * @see SseEmitter
  * @see SseException
@@ -51,57 +85,115 @@ import static com.grow.notification_service.notification.application.exception.E
 @RequiredArgsConstructor
 public class SseSendServiceImpl implements SseSendService {
 
-    private final Map<Long, SseEmitter> sseEmitters = new ConcurrentHashMap<>();
+    private static final SseFrame CONNECT = new SseFrame(null, "[connect]", "연결이 성공했습니다!");
+    static final String UNREAD_EVENT = "unread";
+
+    private final SseEmitterRegistry registry;
+    private final MemberPresencePort presencePort;
+    private final SseRelayPort relayPort;
+    private final SsePodIdentity podIdentity;
+    private final SseReplayService replayService;
+    private final SseHeartbeatWheel heartbeatWheel;
+    private final SseConnectionWriter writer;
+    private final SseBroadcaster broadcaster;
+    private final SseAdmission admission;
+    private final SseReconnectPolicy reconnectPolicy;
+    private final SseCoalescer coalescer;
+    private final UnreadCountService unreadCountService;
     private final MeterRegistry meterRegistry;
     private final NotificationMetrics metrics;
+    private final SseMetrics sseMetrics;
+
+    /** 묶음은 연결마다 구독한 유형의 알림만 골라 쓰는 sink */
+    private final SseCoalescer.Sink localSink = new SseCoalescer.Sink() {
+        @Override
+        public void write(Long memberId, String type, EncodedSseFrame frame) {
+            enqueueLocal(memberId, type, frame);
+        }
+
+        @Override
+        public void writeBatch(Long memberId, SseCoalescer.CoalescedBatch batch) {
+            enqueueBatch(memberId, batch);
+        }
+    };
 
     @PostConstruct
     void bindSseGauge() {
-        meterRegistry.gauge("sse_active_emitters", sseEmitters, Map::size);
+        meterRegistry.gauge("sse_active_emitters", Tags.of("scope", "connection"),
+            registry, SseEmitterRegistry::connectionCount);
+        meterRegistry.gauge("sse_active_emitters", Tags.of("scope", "member"),
+            registry, SseEmitterRegistry::memberCount);
+    }
+
+    /**
+     * 파드 종료 시 이 파드에 연결된 회원들의 프레즌스를 정리합니다.
+     * 정리하지 못해도 프레즌스 TTL이 지나면 자동으로 무시됩니다.
+     */
+    @PreDestroy
+    void releasePresence() {
+        registry.memberIds().forEach(memberId -> presencePort.offline(memberId, podIdentity.getPodId()));
     }
 
     /**
      * 클라이언트가 SSE 연결을 구독할 때 호출되는 메서드입니다.
-     * 주어진 memberId에 해당하는 SseEmitter를 생성하고 Map에 저장한 후,
+     * 주어진 memberId에 해당하는 SseEmitter를 생성하고 레지스트리에 추가한 후,
      * 초기 연결 확인을 위한 더미 이벤트를 전송합니다.
      *
-     * <p>타임아웃은 1시간(60분)으로 설정되어 있으며, 연결 성공 시 "[connect]" 이름의
+     * <p>같은 회원의 기존 연결은 유지되며, 회원당 최대 연결 수를 넘으면
+     * 가장 오래된 연결만 종료됩니다. 연결 후 프레즌스 디렉터리에 현재 파드를 기록합니다.
+     *
+     * <p>Last-Event-ID가 있으면 연결을 등록한 뒤 그 이후의 이벤트를 이 연결로 먼저 재전송합니다.
+     * 등록 후 재전송하므로 그 사이 도착한 알림이 중복될 수는 있지만 유실되지는 않으며,
+     * 클라이언트는 이벤트 id로 중복을 걸러낼 수 있습니다.
+     *
+     * <p>타임아웃은 {@link SseReconnectPolicy}가 정한 무작위 값(기본 48~60분)이며, 연결 성공 시 "[connect]" 이름의
      * 이벤트와 "연결이 성공했습니다!" 메시지를 전송합니다. 실패 시 SseException을 발생시킵니다.
      *
      * <p><b>로그:</b> 연결 성공 시 INFO 레벨 로그를 기록하며, 실패 시 ERROR 레벨 로그를 기록합니다.
      *
+     * <p>파드의 연결 예산({@link SseAdmission})을 넘으면 Emitter를 만들지 않고 바로 거절합니다.
+     *
+     * <p>types를 주면 그 유형의 알림만 이 연결로 보냅니다({@link SseTypeFilter}).
+     * 다른 유형은 인코딩이나 송신 큐를 거치지 않고 걸러지며, 연결 확인과 unread 같은 상태 이벤트는 항상 보냅니다.
+     *
      * @param memberId 구독하는 사용자의 ID. Long 타입으로, null이 아닌 유효한 값이어야 합니다.
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (Last-Event-ID 헤더). 없으면 null
+     * @param types 받을 알림 유형. null이거나 비어 있으면 모든 유형
      * @return 생성된 SseEmitter 객체. 이를 통해 SSE 연결이 유지됩니다.
      * @throws SseException 연결 중 IOException 발생 시 예외를 감싸서 던집니다.
+     * @throws SseAdmissionException 파드의 연결 예산을 넘은 경우
      */
     @Override
-    public SseEmitter subscribe(Long memberId) {
-
-        // 기존 연결이 있으면 먼저 종료
-        SseEmitter old = sseEmitters.remove(memberId);
-        if (old != null) {
-            try { old.complete(); } catch (Exception ignored) {}
+    public SseEmitter subscribe(Long memberId, String lastEventId, Set<NotificationType> types) {
+        admit(memberId);
+        try {
+            return openEmitter(memberId, lastEventId, SseTypeFilter.maskOf(types));
+        } finally {
+            admission.settle();
         }
+    }
 
-        SseEmitter emitter = new SseEmitter(60L * 1000 * 60); // 타임아웃 1시간 (더 늘려야 할 수도 있음... 몰라서 일단 한 시간 함)
+    private SseEmitter openEmitter(Long memberId, String lastEventId, long typeMask) {
+        // 타임아웃을 연결마다 흩뜨려 한꺼번에 맺은 연결(배포 직후 등)이 한꺼번에 만료되지 않게 함
+        SseEmitter emitter = new SseEmitter(reconnectPolicy.nextTimeoutMillis());
+        SseConnection connection = new SseConnection(memberId, new EmitterSseSink(emitter),
+            System.currentTimeMillis(), typeMask);
 
-        // 연결 종료, 타임아웃, 에러 발생 시 Emitter를 Map에서 제거
-        emitter.onCompletion(() -> sseEmitters.remove(memberId, emitter));
+        // 연결 종료, 타임아웃, 에러 발생 시 해당 연결만 레지스트리에서 제거
+        // 서버가 먼저 끊은 연결은 그 사유가 이미 기록되어 있으므로 완료 콜백은 클라이언트 끊김으로만 집계됨
+        emitter.onCompletion(() -> release(connection, CloseReason.CLIENT_DISCONNECT));
         emitter.onTimeout(() -> {
-            sseEmitters.remove(memberId, emitter);
-            try { emitter.complete(); } catch (Exception ignored) {}
+            release(connection, CloseReason.TIMEOUT);
+            connection.close();
         });
         emitter.onError((ex) -> {
-            sseEmitters.remove(memberId, emitter);
+            release(connection, CloseReason.CLIENT_DISCONNECT);
             try { emitter.completeWithError(ex); } catch (Exception ignored) {}
         });
 
         // 연결이 되었을 시에 더미 이벤트 전송 (연결 유지 테스트)
         try {
-            emitter.send(SseEmitter.event().name("[connect]").data("연결이 성공했습니다!"));
-            sseEmitters.put(memberId, emitter);
-            log.info("[Notification] SSE 연결 성공 - memberId: {}", memberId);
-            metrics.result("sse_subscribe_result_total", "result", "success");
+            emitter.send(CONNECT.toEvent());
         } catch (IOException e) {
             log.error("[Notification] SSE 연결 실패 - memberId: {}", memberId);
             metrics.result("sse_subscribe_result_total",
@@ -111,108 +203,594 @@ public class SseSendServiceImpl implements SseSendService {
             throw new SseException(SSE_NOT_CONNECTED, e); // 예외 감싸서 전파
         }
 
+        open(connection, lastEventId);
         return emitter;
     }
 
+    /**
+     * 전송 방식이 직접 만든 {@link SseSink}(WebSocket 등)로 구독합니다. 연결 확인 이벤트를 보낸 뒤
+     * 레지스트리에 등록하고 놓친 이벤트를 재전송하며, 이후 처리는 SSE 연결과 같습니다.
+     * 전송 방식은 연결이 끊기면 {@link #unsubscribe(SseConnection)}를 호출해야 합니다.
+     *
+     * @param memberId 구독하는 사용자의 ID
+     * @param sink 이벤트를 보낼 대상
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID. 없으면 null
+     * @param types 받을 알림 유형. null이거나 비어 있으면 모든 유형
+     * @return 등록된 연결
+     * @throws SseAdmissionException 파드의 연결 예산을 넘은 경우
+     */
+    @Override
+    public SseConnection subscribe(Long memberId, SseSink sink, String lastEventId, Set<NotificationType> types) {
+        admit(memberId);
+        try {
+            SseConnection connection = new SseConnection(memberId, sink, System.currentTimeMillis(),
+                SseTypeFilter.maskOf(types));
+
+            try {
+                sink.send(EncodedSseFrame.of(CONNECT));
+            } catch (IOException e) {
+                metrics.result("sse_subscribe_result_total",
+                    "result", "error",
+                    "exception", e.getClass().getSimpleName()
+                );
+                throw new SseException(SSE_NOT_CONNECTED, e);
+            }
+
+            open(connection, lastEventId);
+            return connection;
+        } finally {
+            admission.settle();
+        }
+    }
+
+    /** 전송 방식이 감지한 연결 종료를 반영합니다. 이미 정리된 연결이면 무시됩니다. */
+    @Override
+    public void unsubscribe(SseConnection connection) {
+        release(connection, CloseReason.CLIENT_DISCONNECT);
+    }
+
+    /**
+     * 파드의 연결 예산을 확인합니다. 초과하면 Emitter를 만들기 전에 바로 거절합니다.
+     * @throws SseAdmissionException 연결 예산을 넘은 경우
+     */
+    private void admit(Long memberId) {
+        try {
+            admission.admit();
+        } catch (SseAdmissionException e) {
+            log.warn("[Notification] SSE 연결 예산 초과로 구독 거절 - memberId: {}, retryAfterMs: {}",
+                memberId, e.getRetryAfterMillis());
+            metrics.result("sse_subscribe_result_total", "result", "rejected");
+            throw e;
+        }
+    }
+
+    /**
+     * SSE를 쓸 수 없는 클라이언트(스트림을 버퍼링하는 프록시 뒤)를 위한 long-poll입니다.
+     * cursor 이후 놓친 알림이 있으면 바로 돌려주고, 없으면 요청을 {@link DeferredResult}로 붙잡아 둔 채
+     * 레지스트리에 연결로 등록해 다음 이벤트가 오거나 시간이 지나면 응답합니다. 대기 중에는 스레드를 점유하지 않습니다.
+     *
+     * <p>cursor는 SSE의 Last-Event-ID와 같으며, 재전송 버퍼({@link SseReplayService})를 먼저 조회하므로
+     * 요청마다 목록 조회를 하지 않습니다. cursor가 없으면 미전송 알림을 돌려줍니다.
+     * 버퍼 확인과 등록 사이에 도착한 알림은 이번 응답에서 빠질 수 있지만, 다음 요청에서 cursor로 이어받습니다.
+     *
+     * @param memberId 회원 ID
+     * @param cursor 마지막으로 받은 이벤트 ID. 없으면 null
+     * @param types 받을 알림 유형. null이거나 비어 있으면 모든 유형
+     * @return 이벤트가 오거나 시간이 지나면 완료되는 응답
+     * @throws SseAdmissionException 파드의 연결 예산을 넘은 경우
+     */
+    @Override
+    public DeferredResult<LongPollResponse> poll(Long memberId, Long cursor, Set<NotificationType> types) {
+        long typeMask = SseTypeFilter.maskOf(types);
+        List<SseFrame> missed = accepted(cursor != null
+            ? replayService.framesAfter(memberId, cursor)
+            : replayService.undelivered(memberId), typeMask);
+        if (!missed.isEmpty()) {
+            missed.forEach(writer::delivered);
+            DeferredResult<LongPollResponse> result = new DeferredResult<>();
+            result.setResult(LongPollResponse.of(missed, cursor));
+            metrics.result("sse_long_poll_total", "result", "replay");
+            return result;
+        }
+
+        admit(memberId);
+        try {
+            DeferredResult<LongPollResponse> result = new DeferredResult<>(
+                reconnectPolicy.nextLongPollTimeoutMillis(), () -> LongPollResponse.empty(cursor));
+            SseConnection connection = new SseConnection(memberId, new LongPollSseSink(result, cursor),
+                System.currentTimeMillis(), typeMask);
+            result.onCompletion(() -> release(connection, CloseReason.LONG_POLL));
+            result.onError(ex -> release(connection, CloseReason.CLIENT_DISCONNECT));
+            register(connection);
+            metrics.result("sse_long_poll_total", "result", "parked");
+            return result;
+        } finally {
+            admission.settle();
+        }
+    }
+
+    private static List<SseFrame> accepted(List<SseFrame> frames, long typeMask) {
+        if (typeMask == SseTypeFilter.ALL || frames.isEmpty()) {
+            return frames;
+        }
+        return frames.stream()
+            .filter(frame -> SseTypeFilter.accepts(typeMask, SseTypeFilter.maskOfEvent(frame.name())))
+            .toList();
+    }
+
+    /**
+     * 연결을 레지스트리, heartbeat 휠, 프레즌스에 등록하고 Last-Event-ID 이후 이벤트를 재전송합니다.
+     * 전송 방식(서블릿/WebSocket)과 관계없이 공통으로 사용합니다.
+     */
+    private void open(SseConnection connection, String lastEventId) {
+        Long memberId = connection.getMemberId();
+        register(connection);
+
+        log.info("[Notification] SSE 연결 성공 - memberId: {}", memberId);
+        metrics.result("sse_subscribe_result_total", "result", "success");
+
+        Long lastId = SseReplayService.parseLastEventId(lastEventId);
+        sseMetrics.subscribed(lastId != null);
+        if (lastId != null) {
+            replay(connection, replayService.framesAfter(memberId, lastId), "lastEventId " + lastId);
+        } else {
+            // 새 연결이면 오프라인 동안 쌓인 미전송 알림을 먼저 보냄
+            replay(connection, replayService.undelivered(memberId), "undelivered");
+        }
+    }
+
+    /**
+     * 연결을 레지스트리, heartbeat 휠, 프레즌스에 등록합니다.
+     * 회원당 최대 연결 수를 넘으면 가장 오래된 연결을 종료합니다.
+     */
+    private void register(SseConnection connection) {
+        Long memberId = connection.getMemberId();
+        SseConnection evicted = registry.register(connection);
+        if (evicted != null) {
+            heartbeatWheel.remove(evicted);
+            sseMetrics.closed(evicted, CloseReason.SERVER_EVICT, System.currentTimeMillis());
+            evicted.close();
+            log.info("[Notification] 최대 연결 수 초과로 오래된 연결 종료 - memberId: {}", memberId);
+        }
+        heartbeatWheel.add(connection);
+        presencePort.online(memberId, podIdentity.getPodId());
+    }
+
     /**
      * 특정 사용자에게 알림을 전송하는 메서드입니다.
-     * 주어진 memberId에 해당하는 SseEmitter를 조회하여 이벤트를 보냅니다.
-     * 이벤트 이름은 NotificationType의 title로 설정되며, 메시지를 데이터로 전송합니다.
+     * 이 파드에 있는 회원의 모든 연결(탭, 기기)에 이벤트를 보내고,
+     * 프레즌스 디렉터리에 기록된 다른 파드에는 해당 파드 채널로 메시지를 전달합니다.
+     * 이벤트 이름은 NotificationType의 title로 설정되며, 메시지는 {@link NotificationPushPayload} JSON의 content로 전송합니다.
      *
-     * <p>Emitter가 존재하지 않으면 연결 실패로 간주하고 SseException을 발생시킵니다.
+     * <p>어느 파드에도 연결이 없으면 연결 실패로 간주하고 SseException을 발생시킵니다.
      * <p><b>로그:</b> 전송 성공 시 INFO 로그를, 실패 시 ERROR 로그를 기록합니다. </p>
      *
      * <p><b>주의:</b> 이 메서드는 SSE 연결이 이미 subscribe를 통해 설정되어 있어야 동작합니다.
-     * IOException 발생 시 로그만 기록하고 예외를 재throw하지 않으나, 필요에 따라 처리 로직을 추가할 수 있습니다.
+     * 전송은 연결별 송신 큐에 넣은 뒤 writer 스레드에서 이루어지므로 이 메서드는 블로킹하지 않으며,
+     * 전송에 실패하거나 느린 연결만 정리되고 나머지 연결로는 계속 전송됩니다.
      *
      * @param memberId 알림을 받을 사용자의 ID. Long 타입으로, null이 아닌 유효한 값이어야 합니다.
      * @param notificationType 알림 유형. 이벤트 이름으로 사용됩니다.
      * @param message 전송할 알림 메시지. 문자열 형식입니다.
-     * @throws SseException Emitter가 null인 경우 (연결되지 않음) 발생합니다.
+     * @throws SseException 어느 파드에도 연결이 없는 경우 발생합니다.
      */
     @Override
     @Timed(value="sse_send_latency")
     public void sendNotification(Long memberId,
                                  NotificationType notificationType,
                                  String message) {
-        SseEmitter emitter = sseEmitters.get(memberId);
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event().name(notificationType.getTitle()).data(message));
-                log.info("[Notification] 알림 메시지 전송 완료 - memberId: {}, title: {}, message: {}",
-                        memberId, notificationType.getTitle(), message);
-                metrics.result("sse_send_result_total",
-                    "result", "success",
-                    "type", notificationType.name()
-                );
-            } catch (IOException e) {
-                log.error("[Notification] 알림 메시지 전송 실패 - memberId: {}, title: {}, message: {}",
-                        memberId, notificationType.getTitle(), message);
-                metrics.result("sse_send_result_total",
-                    "result", "error",
-                    "type", notificationType.name(),
-                    "exception", e.getClass().getSimpleName()
-                );
-            }
+        NotificationPushPayload payload = new NotificationPushPayload(null, notificationType, message,
+            LocalDateTime.now(), null);
+        dispatch(memberId, notificationType, toFrame(payload), 0);
+    }
+
+    /**
+     * 저장된 알림을 notificationId를 이벤트 id로 붙여 전송합니다.
+     * 회원의 연결 여부와 관계없이 재전송 버퍼에 먼저 기록하므로,
+     * 잠시 끊겼던 클라이언트도 재연결 시 Last-Event-ID로 이어 받을 수 있습니다.
+     *
+     * @param memberId 알림을 받을 사용자의 ID
+     * @param notificationId 저장된 알림 ID. SSE 이벤트 id로 사용됩니다.
+     * @param notificationType 알림 유형. 이벤트 이름으로 사용됩니다.
+     * @param message 전송할 알림 메시지
+     * @throws SseException 어느 파드에도 연결이 없는 경우 발생합니다.
+     */
+    @Override
+    @Timed(value="sse_send_latency")
+    public void sendNotification(Long memberId,
+                                 Long notificationId,
+                                 NotificationType notificationType,
+                                 String message) {
+        sendNotification(memberId, new NotificationPushPayload(notificationId, notificationType, message,
+            LocalDateTime.now(), null), 0);
+    }
+
+    /**
+     * 저장 시각을 알고 있는 알림을 전송합니다. 저장부터 소켓 쓰기까지의 지연({@code sse_saved_to_write_latency})은
+     * 이 파드의 연결에 쓴 경우에만 기록합니다.
+     *
+     * @param payload 전송할 알림 데이터. id가 SSE 이벤트 id, type의 title이 이벤트 이름이 됩니다.
+     * @param savedAt 알림 저장 시각 (epoch millis, 모르면 0)
+     */
+    void sendNotification(Long memberId, NotificationPushPayload payload, long savedAt) {
+        SseFrame frame = toFrame(payload);
+        replayService.record(memberId, frame);
+        dispatch(memberId, payload.type(), frame, savedAt);
+    }
+
+    private static SseFrame toFrame(NotificationPushPayload payload) {
+        return new SseFrame(payload.id(), payload.type().getTitle(), JsonUtils.toJsonString(payload));
+    }
+
+    private void dispatch(Long memberId, NotificationType notificationType, SseFrame frame, long originAt) {
+        int local = writeLocal(memberId, notificationType, frame, originAt);
+        int relayed = relayToOtherPods(new SseRelayMessage(memberId, notificationType, frame));
+        if (local > 0 || relayed > 0) {
             return;
         }
 
         log.warn("[Notification] SSE 연결 실패 - memberId: {}", memberId);
-        metrics.result("sse_send_result_total",
-            "result", "error",
-            "type", notificationType.name(),
-            "exception", "EmitterNotFound"
-        );
+        sseMetrics.sendNotConnected(notificationType);
         throw new SseException(SSE_NOT_CONNECTED);
     }
 
+    /**
+     * 다른 파드에서 전달된 메시지를 이 파드의 연결로만 전송합니다.
+     * 프레즌스 정보가 늦게 갱신되어 이미 연결이 끊긴 경우에는 조용히 무시합니다.
+     *
+     * @param message 다른 파드가 발행한 메시지
+     */
+    @Override
+    public void deliverLocally(SseRelayMessage message) {
+        int local = writeLocal(message.memberId(), message.notificationType(), message.frame(), 0);
+        if (local == 0) {
+            log.debug("[Notification] 전달받은 회원의 연결이 이 파드에 없음 - memberId: {}", message.memberId());
+            sseMetrics.relayReceived(false);
+            return;
+        }
+        sseMetrics.relayReceived(true);
+    }
+
+    /**
+     * 여러 회원에게 같은 메시지를 보냅니다. 이벤트는 한 번만 인코딩해 모든 대상 연결이 공유하며,
+     * 다른 파드에는 브로드캐스트 채널로 한 번만 발행해 각 파드가 자신의 연결로 보냅니다.
+     * 연결이 없는 회원은 조용히 건너뜁니다.
+     *
+     * @param memberIds 대상 회원 ID 목록
+     * @param notificationType 알림 유형. 이벤트 이름으로 사용됩니다.
+     * @param message 전송할 메시지
+     * @return 이 파드에서 송신 큐에 넣은 연결 수
+     */
+    @Override
+    public int broadcast(Collection<Long> memberIds, NotificationType notificationType, String message) {
+        return broadcast(List.copyOf(memberIds), notificationType, message);
+    }
+
+    /**
+     * 모든 연결된 회원에게 메시지를 보냅니다. (SERVICE_NOTICE 등 서비스 공지)
+     * @see #broadcast(Collection, NotificationType, String)
+     */
+    @Override
+    public int broadcastAll(NotificationType notificationType, String message) {
+        return broadcast((List<Long>) null, notificationType, message);
+    }
+
+    private int broadcast(List<Long> memberIds, NotificationType notificationType, String message) {
+        SseFrame frame = new SseFrame(null, notificationType.getTitle(), message);
+        int local = broadcaster.broadcast(memberIds, notificationType,
+            EncodedSseFrame.of(frame, 0, notificationType), this::evict);
+        try {
+            relayPort.broadcast(new SseBroadcastMessage(podIdentity.getPodId(), memberIds, notificationType, frame));
+            sseMetrics.relayPublished();
+        } catch (Exception e) {
+            log.warn("[Notification] 브로드캐스트 발행 실패 - type: {}", notificationType, e);
+            sseMetrics.relayPublishFailed(e);
+        }
+        return local;
+    }
+
+    /**
+     * 다른 파드가 시작한 브로드캐스트를 이 파드의 연결로 보냅니다. 자신이 발행한 메시지는 무시합니다.
+     *
+     * @param message 다른 파드가 발행한 브로드캐스트 메시지
+     */
+    @Override
+    public void deliverBroadcast(SseBroadcastMessage message) {
+        if (podIdentity.getPodId().equals(message.originPodId())) {
+            return;
+        }
+        broadcaster.broadcast(message.memberIds(), message.notificationType(),
+            EncodedSseFrame.of(message.frame(), 0, message.notificationType()), this::evict);
+    }
+
     /**
      * 이벤트 리스너: SSE로 알림 전송 (비동기)
-     * NotificationSavedEvent를 수신하여 이벤트에 포함된 DTO를 추출한 후,
-     * sendNotification 메서드를 호출하여 SSE 알림을 전송합니다.
+     * NotificationSavedEvent를 수신하여 저장된 알림의 ID, 유형, 내용, 생성 시각과
+     * 현재 읽지 않은 알림 수를 담은 {@link NotificationPushPayload}를 만들어 전송합니다.
+     * 클라이언트는 이 데이터만으로 알림을 그리고 읽음 처리할 수 있어 목록을 다시 조회하지 않아도 됩니다.
+     *
+     * <p>이 메서드는 @Async로 SSE 전용 실행기({@code sseEventExecutor})에서 비동기 처리되며, @EventListener로 이벤트를 리스닝합니다.
      *
-     * <p>이 메서드는 @Async로 비동기 처리되며, @EventListener로 이벤트를 리스닝합니다.
+     * <p>어느 파드에도 연결이 없는 회원은 예외 없이 건너뜁니다. 알림은 미전송({@code isSent = false})으로 남아
+     * 다음 연결 시 재전송됩니다.
+     *
+     * <p>push-first 유형은 트랜잭션 밖에서 notificationId 없이 발행되므로({@code fallbackExecution}) 바로 전송되며,
+     * 이벤트 id가 없어 재전송 버퍼에는 남지 않습니다.
      *
      * @param event 저장된 알림 이벤트 (NotificationSavedEvent). dto를 포함합니다.
      */
-    @Async
+    @Async("sseEventExecutor")
     @Override
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleNotificationSavedEvent(NotificationSavedEvent event) {
         NotificationRequestDto dto = event.getDto();
+        Long memberId = dto.getMemberId();
+        LocalDateTime createdAt = event.getCreatedAt() != null ? event.getCreatedAt() : LocalDateTime.now();
+
+        // 묶음 전송과 unread 이벤트가 새 알림을 포함한 개수를 보도록 먼저 반영
+        unreadCountService.apply(UnreadCountChangedEvent.add(memberId, Counter.NOTIFICATION, 1));
+        if (!isOnline(memberId)) {
+            // Last-Event-ID 재연결이 버퍼만으로 이어받을 수 있도록 재전송 버퍼에는 기록
+            replayService.record(memberId, toFrame(new NotificationPushPayload(event.getNotificationId(),
+                    dto.getNotificationType(), dto.getContent(), createdAt, null)));
+            log.debug("[Notification] 연결이 없어 전송 생략 - memberId: {}, notificationId: {}",
+                    memberId, event.getNotificationId());
+            sseMetrics.sendOffline(dto.getNotificationType());
+            return;
+        }
 
-        sendNotification(
-                dto.getMemberId(),
-                dto.getNotificationType(),
-                dto.getContent()
-        );
+        UnreadBadgeResponse badge = unreadCountService.badge(memberId);
+        sendNotification(memberId, new NotificationPushPayload(event.getNotificationId(),
+                dto.getNotificationType(), dto.getContent(), createdAt, badge.notification()),
+                event.getTimestamp());
+        sendUnreadCount(memberId, badge);
     }
 
     /**
-     * 정기적으로 실행되는 메서드로, 모든 SSE Emitter에 대해
-     * "ping" 이벤트를 전송하여 연결 상태를 확인합니다.
-     * <p>이 메서드는 25초마다 실행되며, 각 Emitter에 대해
-     * "💚" 이모지를 데이터로 전송합니다.
-     * <p>전송 중 IOException이 발생하면 해당 Emitter를 Map에서 제거하고
-     * 완료 상태로 설정합니다. 이로 인해 연결이 끊어진 Emitter는
-     * 다음 heartbeat에서 제외됩니다.
+     * 이벤트 리스너: 읽음 처리, 삭제 등으로 바뀐 읽지 않은 개수를 카운터에 반영하고 푸시합니다. (비동기)
+     *
+     * @param event 읽지 않은 개수 변경 이벤트
      */
+    @Async("sseEventExecutor")
+    @Override
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleUnreadCountChangedEvent(UnreadCountChangedEvent event) {
+        unreadCountService.apply(event);
+        sendUnreadCount(event.memberId());
+    }
+
+    /**
+     * 회원의 모든 연결로 현재 읽지 않은 알림/쪽지 수를 {@value #UNREAD_EVENT} 이벤트로 보냅니다.
+     * 개수는 카운터 값을 사용하며, 어느 파드에도 연결이 없으면 조회하지 않고 건너뜁니다.
+     * 상태 스냅샷이므로 재전송 버퍼에 기록하지 않고 묶음 전송도 거치지 않습니다.
+     *
+     * @param memberId 회원 ID
+     */
+    @Override
+    public void sendUnreadCount(Long memberId) {
+        boolean local = registry.isConnected(memberId);
+        Set<String> pods = presencePort.podsOf(memberId);
+        if (!local && pods.isEmpty()) {
+            return;
+        }
+
+        pushUnreadCount(memberId, unreadCountService.badge(memberId), local, pods);
+    }
+
+    /** 이미 조회한 개수로 unread 이벤트를 보냅니다. 알림 전송과 같은 조회 결과를 쓰기 위해 사용합니다. */
+    private void sendUnreadCount(Long memberId, UnreadBadgeResponse badge) {
+        pushUnreadCount(memberId, badge, registry.isConnected(memberId), presencePort.podsOf(memberId));
+    }
+
+    private void pushUnreadCount(Long memberId, UnreadBadgeResponse badge, boolean local, Set<String> pods) {
+        SseFrame frame = new SseFrame(null, UNREAD_EVENT, JsonUtils.toJsonString(badge));
+        if (local) {
+            enqueueLocal(memberId, UNREAD_EVENT, EncodedSseFrame.of(frame));
+        }
+        relayToOtherPods(new SseRelayMessage(memberId, null, frame), pods);
+    }
+
+    /**
+     * 타이밍 휠의 현재 슬롯에 있는 연결에 heartbeat를 전송합니다.
+     * <p>스케줄러가 1초마다 호출하며, 각 연결은 연결 시각 기준 슬롯에 있으므로
+     * 전체 연결에 대한 ping이 heartbeat 주기(기본 25초) 동안 고르게 나뉘어 전송됩니다.
+     * 주기 안에 실제 알림을 받은 연결은 건너뛰고, ping은 이벤트 대신 최소 크기의
+     * 주석 프레임({@code :})으로 보냅니다.
+     * <p>ping도 알림과 같은 송신 큐를 거치므로 전송 실패 시 정리는 {@link SseConnectionWriter}가 담당합니다.
+     * 같은 tick에서 전송이 max-write-ms를 넘도록 끝나지 않은 연결도 끊습니다({@link SseConnectionWriter#evictStalled}).
+     */
+    @Override
     public void sendHeartbeat() {
-        sseEmitters.forEach((memberId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event().name("ping").data("💚"));
-                log.info("[Notification] heartbeat 전송 성공 - memberId: {}", memberId);
-                metrics.result("sse_heartbeat_send_total", "result", "success");
-            } catch (IOException e) {
-                // 전송 실패하면 정리
-                sseEmitters.remove(memberId);
-                try { emitter.complete(); } catch (Exception ignored) {}
-                log.debug("[Notification] heartbeat 실패로 emitter 제거 - memberId: {}", memberId);
-                metrics.result("sse_heartbeat_send_total",
-                    "result", "error",
-                    "exception", e.getClass().getSimpleName()
-                );
+        sendHeartbeat(System.currentTimeMillis());
+    }
+
+    void sendHeartbeat(long now) {
+        writer.evictStalled(now, this::evict);
+        AtomicInteger queued = new AtomicInteger();
+        heartbeatWheel.tick(now, connection -> {
+            // 보낼 프레임이 이미 쌓여 있으면 그 자체로 연결이 유지되므로 건너뜀
+            if (!connection.hasOutbound() && writer.enqueue(connection, EncodedSseFrame.HEARTBEAT, this::evict)) {
+                queued.incrementAndGet();
             }
         });
+
+        // 연결마다 기록하지 않고 tick 단위로 집계 (전송 실패는 writer가 집계)
+        if (queued.get() > 0) {
+            metrics.result("sse_heartbeat_send_total", queued.get(), "result", "queued");
+        }
+    }
+
+    /**
+     * 이 파드 또는 다른 파드에 회원의 연결이 있는지 확인합니다. 로컬 연결이 있으면 Redis를 조회하지 않습니다.
+     */
+    private boolean isOnline(Long memberId) {
+        return registry.isConnected(memberId) || !presencePort.podsOf(memberId).isEmpty();
+    }
+
+    /**
+     * 이 파드에 연결된 회원들의 프레즌스 만료 시간을 연장합니다.
+     * 만료 시간 안에 갱신되지 않은 파드는 죽은 것으로 보고 조회 시 제외됩니다.
+     */
+    @Override
+    public void refreshPresence() {
+        presencePort.refresh(registry.memberIds(), podIdentity.getPodId());
+    }
+
+    /**
+     * 이 파드에 있는 회원의 연결로 메시지를 씁니다.
+     * 짧은 시간에 몰린 알림은 {@link SseCoalescer}가 모았다가 한 프레임으로 보냅니다.
+     * @return 이 파드에 있던 회원의 연결 수
+     */
+    private int writeLocal(Long memberId, NotificationType notificationType, SseFrame frame, long originAt) {
+        SseConnection[] connections = registry.connectionsOf(memberId);
+        if (connections.length == 0) {
+            return 0;
+        }
+        if (notificationType == null) {
+            // 알림이 아닌 상태 이벤트(unread)는 묶지 않고 바로 보냄
+            enqueueLocal(memberId, frame.name(), EncodedSseFrame.of(frame, originAt));
+            return connections.length;
+        }
+        if (!acceptsAny(connections, notificationType)) {
+            // 이 유형을 구독한 연결이 없으면 인코딩도 하지 않음 (미전송으로 남아 다음 연결 시 재전송)
+            sseMetrics.filtered();
+            return connections.length;
+        }
+        // 알림 프레임은 모두 toFrame으로 만든 NotificationPushPayload JSON (다른 파드에서 전달된 것도 같음)
+        coalescer.submit(memberId, notificationType, frame, SseCoalescer.PayloadKind.JSON, originAt, localSink);
+        return connections.length;
+    }
+
+    private static boolean acceptsAny(SseConnection[] connections, NotificationType notificationType) {
+        for (SseConnection connection : connections) {
+            if (connection.accepts(notificationType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 회원의 현재 연결 송신 큐에 프레임을 넣습니다. 묶음 전송은 창이 끝난 시점의 연결로 보냅니다.
+     */
+    private void enqueueLocal(Long memberId, String type, EncodedSseFrame encoded) {
+        SseConnection[] connections = registry.connectionsOf(memberId);
+
+        // 회원의 연결들은 같은 인코딩 결과를 공유
+        for (SseConnection connection : connections) {
+            if (!connection.accepts(encoded)) {
+                sseMetrics.filtered();
+                continue;
+            }
+            // 실제 전송은 writer 스레드가 수행하므로 여기서는 큐에 넣기만 함
+            boolean queued = writer.enqueue(connection, encoded, this::evict);
+            sseMetrics.sendResult(type, queued);
+        }
+        log.info("[Notification] 알림 메시지 전송 요청 - memberId: {}, title: {}, connections: {}",
+                memberId, encoded.frame().name(), connections.length);
+    }
+
+    /**
+     * 모인 알림을 회원의 현재 연결 송신 큐에 넣습니다. 연결마다 구독한 유형의 알림만 담은 프레임을 쓰므로,
+     * 구독하지 않은 알림은 그 연결로 가지 않고 전송 완료로도 기록되지 않습니다.
+     */
+    private void enqueueBatch(Long memberId, SseCoalescer.CoalescedBatch batch) {
+        SseConnection[] connections = registry.connectionsOf(memberId);
+
+        for (SseConnection connection : connections) {
+            SseCoalescer.Selection selection = batch.select(connection.getTypeMask());
+            if (selection == null) {
+                sseMetrics.filtered();
+                continue;
+            }
+            boolean queued = writer.enqueue(connection, selection.frame(), this::evict);
+            sseMetrics.sendResult(selection.type(), queued);
+        }
+        log.info("[Notification] 묶음 알림 전송 요청 - memberId: {}, connections: {}", memberId, connections.length);
+    }
+
+    /**
+     * 새 연결에 놓친 이벤트를 순서대로 송신 큐에 넣습니다.
+     * 큐가 넘쳐 연결이 끊기면 중단합니다. 클라이언트는 마지막으로 받은 id로 다시 재연결합니다.
+     *
+     * @param frames 재전송할 이벤트 (오름차순)
+     * @param from 로그용 재전송 기준 (Last-Event-ID 또는 미전송 알림)
+     */
+    private void replay(SseConnection connection, List<SseFrame> frames, String from) {
+        if (frames.isEmpty()) {
+            return;
+        }
+        for (SseFrame frame : frames) {
+            EncodedSseFrame encoded = EncodedSseFrame.of(frame);
+            if (!connection.accepts(encoded)) {
+                continue;
+            }
+            if (!writer.enqueue(connection, encoded, this::evict)) {
+                log.warn("[Notification] 재전송 중 연결 끊김 - memberId: {}, from: {}",
+                        connection.getMemberId(), from);
+                return;
+            }
+        }
+        log.info("[Notification] 놓친 알림 재전송 완료 - memberId: {}, from: {}, count: {}",
+                connection.getMemberId(), from, frames.size());
+    }
+
+    /**
+     * 프레즌스 디렉터리에서 회원이 연결된 다른 파드를 찾아 해당 파드 채널로만 전달합니다.
+     * @return 메시지를 전달한 파드 수
+     */
+    private int relayToOtherPods(SseRelayMessage message) {
+        return relayToOtherPods(message, presencePort.podsOf(message.memberId()));
+    }
+
+    private int relayToOtherPods(SseRelayMessage message, Set<String> pods) {
+        int relayed = 0;
+        for (String podId : pods) {
+            if (podId.equals(podIdentity.getPodId())) {
+                continue;
+            }
+            try {
+                relayPort.publish(podId, message);
+                relayed++;
+                sseMetrics.relayPublished();
+            } catch (Exception e) {
+                log.warn("[Notification] 다른 파드로 전달 실패 - memberId: {}, podId: {}", message.memberId(), podId, e);
+                sseMetrics.relayPublishFailed(e);
+            }
+        }
+        return relayed;
+    }
+
+    /**
+     * 파드 종료 중 연결을 정리하고, 재연결 대기 시간을 알린 뒤 종료합니다. ({@link SseGracefulDrain})
+     *
+     * @param connection 정리할 연결
+     * @param retryMillis 클라이언트에 보낼 재연결 대기 시간 ({@code retry:})
+     */
+    @Override
+    public void disconnect(SseConnection connection, long retryMillis) {
+        release(connection, CloseReason.DRAIN);
+        connection.close(retryMillis);
+    }
+
+    /**
+     * 느린 소비자로 판단된 연결을 정리하고 종료합니다.
+     */
+    private void evict(SseConnection connection) {
+        release(connection, CloseReason.SERVER_EVICT);
+        connection.close();
+    }
+
+    /**
+     * 연결을 레지스트리에서 제거하고, 이 파드에 회원의 연결이 더 이상 없으면 프레즌스에서도 제거합니다.
+     * 종료 사유와 연결 유지 시간은 연결당 처음 한 번만 기록됩니다.
+     */
+    private void release(SseConnection connection, CloseReason reason) {
+        sseMetrics.closed(connection, reason, System.currentTimeMillis());
+        heartbeatWheel.remove(connection);
+        Long memberId = connection.getMemberId();
+        if (registry.unregister(connection) && !registry.isConnected(memberId)) {
+            presencePort.offline(memberId, podIdentity.getPodId());
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.io.IOException;
+
+/**
+ * <h2>SSE 연결의 전송 대상</h2>
+ * 레지스트리, 송신 큐, heartbeat는 이 인터페이스만 알고 있으므로
+ * 서블릿 {@code SseEmitter}, WebSocket, long-poll 전송 방식을 같은 경로로 다룰 수 있습니다.
+ *
+ * @see EmitterSseSink
+ * @see WebSocketSseSink
+ * @see LongPollSseSink
+ */
+public interface SseSink {
+
+    /**
+     * 이벤트 하나를 전송합니다. {@link SseConnectionWriter}의 writer 스레드에서 연결당 하나씩 순서대로 호출됩니다.
+     * @throws IOException 연결이 끊겼거나 더 이상 받을 수 없는 경우
+     */
+    void send(EncodedSseFrame frame) throws IOException;
+
+    /** 스트림 종료 (이미 종료된 경우 무시) */
+    void complete();
+
+    /**
+     * 재연결 대기 시간({@code retry:})을 알린 뒤 스트림을 종료합니다. 서버가 먼저 끊는 경우에 사용합니다.
+     * @param retryMillis 클라이언트가 재연결 전에 기다릴 시간
+     */
+    void complete(long retryMillis);
+}
@@ -0,0 +1,66 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+/**
+ * <h2>구독 알림 유형 필터</h2>
+ * 연결이 받을 {@link NotificationType}을 ordinal 위치의 비트로 표현한 마스크를 다룹니다.
+ * 프레임에도 같은 형식의 마스크를 붙여 두면 전송 직전에 비트 AND 한 번으로 걸러낼 수 있습니다.
+ *
+ * <p>프레임 마스크가 0이면 알림이 아닌 이벤트(연결 확인, heartbeat, unread 등)로 보고 항상 보냅니다.
+ * 유형을 모르는 프레임(재전송 버퍼 등)은 이벤트 이름(유형 title)으로 마스크를 구하며,
+ * 같은 title을 쓰는 유형({@code MESSAGE}, {@code NOTE})은 함께 통과합니다.
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+public final class SseTypeFilter {
+
+    /** 모든 유형을 받는 연결의 마스크 */
+    public static final long ALL = -1L;
+
+    private static final Map<String, Long> MASK_BY_TITLE = new HashMap<>();
+
+    static {
+        if (NotificationType.values().length > Long.SIZE) {
+            throw new IllegalStateException("NotificationType은 64개 이하여야 합니다.");
+        }
+        for (NotificationType type : NotificationType.values()) {
+            MASK_BY_TITLE.merge(type.getTitle(), maskOf(type), (a, b) -> a | b);
+        }
+    }
+
+    private SseTypeFilter() {}
+
+    public static long maskOf(NotificationType type) {
+        return 1L << type.ordinal();
+    }
+
+    /**
+     * 구독 요청의 유형 목록을 마스크로 바꿉니다.
+     * @param types 받을 유형. null이거나 비어 있으면 모든 유형
+     */
+    public static long maskOf(Collection<NotificationType> types) {
+        if (types == null || types.isEmpty()) {
+            return ALL;
+        }
+        long mask = 0;
+        for (NotificationType type : types) {
+            mask |= maskOf(type);
+        }
+        return mask;
+    }
+
+    /** 이벤트 이름(유형 title)에 해당하는 마스크. 알림 유형이 아니면 0 */
+    static long maskOfEvent(String eventName) {
+        return eventName == null ? 0 : MASK_BY_TITLE.getOrDefault(eventName, 0L);
+    }
+
+    /** 연결 마스크가 프레임 마스크를 받는지 여부 */
+    static boolean accepts(long connectionMask, long frameMask) {
+        return frameMask == 0 || (connectionMask & frameMask) != 0;
+    }
+}
@@ -0,0 +1,64 @@
+package com.grow.notification_service.notification.application.sse;
+
+import java.io.IOException;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import com.grow.notification_service.global.util.JsonUtils;
+
+/**
+ * <h2>WebSocket 전송 ({@code sse.websocket.enabled=true})</h2>
+ * SSE와 같은 이벤트를 {@code {"id":..,"name":..,"data":..}} JSON 텍스트 메시지로 보냅니다.
+ * heartbeat는 WebSocket ping으로 보내며, 클라이언트는 같은 소켓으로 받음/읽음 ack를 묶어 보냅니다.
+ *
+ * <p>세션은 송신 시간과 버퍼 크기를 제한하는 데코레이터로 감싸서 넘겨야 합니다.
+ * 제한을 넘으면 전송 실패로 처리되어 느린 소비자로 정리됩니다.
+ */
+public class WebSocketSseSink implements SseSink {
+
+    static final String RETRY_EVENT = "retry";
+
+    private final WebSocketSession session;
+
+    public WebSocketSseSink(WebSocketSession session) {
+        this.session = session;
+    }
+
+    @Override
+    public void send(EncodedSseFrame frame) throws IOException {
+        if (!session.isOpen()) {
+            throw new IOException("WebSocket session closed");
+        }
+        try {
+            if (frame.frame().isHeartbeat()) {
+                session.sendMessage(new PingMessage());
+            } else {
+                session.sendMessage(new TextMessage(JsonUtils.toJsonString(frame.frame())));
+            }
+        } catch (RuntimeException e) {
+            // 송신 버퍼/시간 제한 초과 (SessionLimitExceededException)
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void complete() {
+        close(CloseStatus.NORMAL);
+    }
+
+    @Override
+    public void complete(long retryMillis) {
+        try {
+            session.sendMessage(new TextMessage(JsonUtils.toJsonString(
+                new SseFrame(null, RETRY_EVENT, String.valueOf(retryMillis)))));
+        } catch (Exception ignored) {}
+        close(CloseStatus.GOING_AWAY);
+    }
+
+    private void close(CloseStatus status) {
+        try { session.close(status); } catch (Exception ignored) {}
+    }
+}
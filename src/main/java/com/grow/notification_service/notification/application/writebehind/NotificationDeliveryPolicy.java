@@ -0,0 +1,48 @@
+package com.grow.notification_service.notification.application.writebehind;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+/**
+ * <h2>알림 유형별 전송 정책</h2>
+ * 알림을 저장한 뒤 푸시할지(기본), 먼저 푸시하고 나중에 묶어서 저장할지를 유형마다 정합니다.
+ *
+ * <ul>
+ *     <li>{@link DeliveryMode#PERSIST_FIRST}: INSERT/커밋 후 SSE 전송. 이벤트 id가 붙어 재연결 시 이어 받을 수 있습니다.</li>
+ *     <li>{@link DeliveryMode#PUSH_FIRST}: SSE를 바로 보내고 행은 {@link NotificationWriteBehindBuffer}가 나중에 저장합니다.
+ *     저장 전이라 이벤트 id가 없어 Last-Event-ID로 이어 받을 수 없고, 행은 미전송으로 저장되어
+ *     다음 새 연결 때 한 번 더 전송될 수 있습니다. 좋아요처럼 중복되어도 괜찮은 유형에만 씁니다.
+ *     회원이 어느 파드에도 연결되어 있지 않으면 PERSIST_FIRST처럼 저장해 다음 연결 때 재전송합니다.</li>
+ * </ul>
+ *
+ * <p>{@code notification.delivery.push-first-types}(예: {@code LIKE})에 나열한 유형만 push-first로 동작합니다.
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+@Component
+public class NotificationDeliveryPolicy {
+
+    private final Set<NotificationType> pushFirstTypes;
+
+    public NotificationDeliveryPolicy(
+            @Value("${notification.delivery.push-first-types:}") Set<NotificationType> pushFirstTypes) {
+        this.pushFirstTypes = pushFirstTypes == null || pushFirstTypes.isEmpty()
+                ? EnumSet.noneOf(NotificationType.class)
+                : EnumSet.copyOf(pushFirstTypes);
+    }
+
+    public DeliveryMode mode(NotificationType type) {
+        return pushFirstTypes.contains(type) ? DeliveryMode.PUSH_FIRST : DeliveryMode.PERSIST_FIRST;
+    }
+
+    /** 알림 저장과 푸시의 순서 */
+    public enum DeliveryMode {
+        PERSIST_FIRST,
+        PUSH_FIRST
+    }
+}
@@ -0,0 +1,155 @@
+package com.grow.notification_service.notification.application.writebehind;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.notification.application.port.NotificationJournalPort;
+import com.grow.notification_service.notification.domain.model.Notification;
+import com.grow.notification_service.notification.domain.repository.NotificationRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>push-first 알림의 write-behind 버퍼</h2>
+ * 먼저 푸시한 알림을 메모리에 모아 두었다가 {@code notification.write-behind.flush-ms}마다
+ * 한 트랜잭션으로 묶어 저장합니다. 알림마다 INSERT/커밋하지 않으므로 전송 경로에서 DB가 빠집니다.
+ *
+ * <p>버퍼에 넣기 전에 로컬 저널({@link NotificationJournalPort})에 먼저 기록하고,
+ * 저장에 성공한 뒤에야 저널 세그먼트를 지웁니다. 재시작하면 남은 세그먼트를 읽어 다시 저장합니다.
+ * 저장 커밋과 세그먼트 삭제 사이에 죽으면 같은 알림이 한 번 더 저장될 수 있습니다 (at-least-once).
+ * 저널의 디스크 반영(fsync)은 알림마다 하지 않고 flush 주기마다 대기열 락 밖에서 한 번 묶어 합니다.
+ *
+ * <p>대기 중인 알림이 {@code notification.write-behind.max-pending}에 이르거나 저널 기록에 실패하면
+ * {@link #append(Notification)}이 false를 돌려주고, 호출자는 기존처럼 저장 후 푸시로 처리합니다.
+ * 대기 건수는 {@code notification_write_behind_pending} 게이지로 노출합니다.
+ *
+ * @since 26.10.18 - 1.0.0
+ */
+@Slf4j
+@Component
+public class NotificationWriteBehindBuffer {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationJournalPort journal;
+    private final NotificationMetrics metrics;
+    private final int maxPending;
+    private final Deque<Notification> pending = new ArrayDeque<>();
+
+    public NotificationWriteBehindBuffer(NotificationRepository notificationRepository,
+                                         NotificationJournalPort journal,
+                                         NotificationMetrics metrics,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${notification.write-behind.max-pending:10000}") int maxPending) {
+        this.notificationRepository = notificationRepository;
+        this.journal = journal;
+        this.metrics = metrics;
+        this.maxPending = Math.max(1, maxPending);
+
+        Gauge.builder("notification_write_behind_pending", this, NotificationWriteBehindBuffer::pendingCount)
+            .register(meterRegistry);
+    }
+
+    /** 이전 실행에서 저장하지 못하고 저널에 남은 알림을 버퍼로 되돌립니다. */
+    @PostConstruct
+    void recover() {
+        List<Notification> recovered = journal.recover();
+        if (recovered.isEmpty()) {
+            return;
+        }
+        synchronized (pending) {
+            pending.addAll(recovered);
+        }
+        log.info("[Notification] 저널에서 저장 대기 알림 복구 - count: {}", recovered.size());
+        metrics.result("notification_write_behind_recovered_total", recovered.size());
+    }
+
+    /**
+     * 저널에 기록한 뒤 저장 대기열에 넣습니다.
+     * @return 대기열에 넣었으면 true. false면 호출자가 바로 저장해야 합니다.
+     */
+    public boolean append(Notification notification) {
+        synchronized (pending) {
+            if (pending.size() >= maxPending) {
+                metrics.result("notification_write_behind_append_total", "result", "full");
+                return false;
+            }
+            try {
+                journal.append(notification);
+            } catch (RuntimeException e) {
+                log.warn("[Notification] 알림 저널 기록 실패 - 저장 후 전송으로 처리 - memberId: {}",
+                    notification.getMemberId(), e);
+                metrics.result("notification_write_behind_append_total", "result", "journal_error");
+                return false;
+            }
+            pending.addLast(notification);
+        }
+        metrics.result("notification_write_behind_append_total", "result", "buffered");
+        return true;
+    }
+
+    /** 저장을 기다리는 알림 수 */
+    public int pendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * 저널을 디스크에 반영한 뒤, 대기 중인 알림을 한 트랜잭션으로 저장하고 해당 저널 세그먼트를 지웁니다.
+     * 실패하면 알림을 대기열 앞에 되돌리고 세그먼트도 남겨 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.write-behind.flush-ms:500}")
+    public synchronized void flush() {
+        try {
+            journal.sync();
+        } catch (RuntimeException e) {
+            log.warn("[Notification] 알림 저널 동기화 실패", e);
+        }
+
+        List<Notification> batch;
+        long sealed;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            // 세그먼트를 닫는 시점과 대기열을 비우는 시점을 맞춰, 닫힌 세그먼트의 알림이 모두 이번 묶음에 들어가도록 함
+            sealed = journal.seal();
+            batch = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        try {
+            notificationRepository.saveAll(batch);
+        } catch (Exception e) {
+            synchronized (pending) {
+                for (int i = batch.size() - 1; i >= 0; i--) {
+                    pending.addFirst(batch.get(i));
+                }
+            }
+            log.warn("[Notification] write-behind 알림 저장 실패 - count: {}", batch.size(), e);
+            metrics.result("notification_write_behind_flush_total", batch.size(),
+                "result", "error",
+                "exception", e.getClass().getSimpleName()
+            );
+            return;
+        }
+        journal.discard(sealed);
+        metrics.result("notification_write_behind_flush_total", batch.size(), "result", "success");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
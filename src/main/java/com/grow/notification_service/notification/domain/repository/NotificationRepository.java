@@ -2,6 +2,11 @@ package com.grow.notification_service.notification.domain.repository;
 
 import com.grow.notification_service.notification.domain.model.Notification;
 
+import java.util.List;
+
 public interface NotificationRepository {
     Notification save(Notification notification);
+
+    /** 여러 알림을 한 트랜잭션으로 저장 (생성된 ID를 담아 입력 순서대로 반환) */
+    List<Notification> saveAll(List<Notification> notifications);
 }
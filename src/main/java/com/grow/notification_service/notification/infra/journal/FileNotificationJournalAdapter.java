@@ -0,0 +1,207 @@
+package com.grow.notification_service.notification.infra.journal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.global.util.JsonUtils;
+import com.grow.notification_service.notification.application.port.NotificationJournalPort;
+import com.grow.notification_service.notification.domain.model.Notification;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 디스크 append-only 파일 저널
+ * 디렉터리: notification.write-behind.journal.dir, 세그먼트: notification-{번호}.journal (알림 1건 = JSON 1줄)
+ *
+ * <p>기록은 OS 페이지 캐시까지만 쓰므로 프로세스 재시작은 견딥니다.
+ * notification.write-behind.journal.fsync=true(기본)이면 {@link #sync()} 때 한 번에 디스크까지 내려 쓰며(group commit),
+ * 버퍼가 flush 주기마다 호출하므로 노드 장애 시 마지막 한 주기 안에 기록된 알림만 유실될 수 있습니다.
+ * false이면 디스크 반영을 OS에 맡깁니다.
+ * 디렉터리는 재시작 후에도 같은 파드가 다시 붙는 볼륨(StatefulSet PVC 등)이어야 합니다.
+ */
+@Slf4j
+@Component
+public class FileNotificationJournalAdapter implements NotificationJournalPort {
+
+	private static final String PREFIX = "notification-";
+	private static final String SUFFIX = ".journal";
+
+	private final Path directory;
+	private final boolean fsync;
+	private final long recoverBelow;
+	private long sequence;
+	private FileChannel channel;
+	private boolean dirty;
+
+	public FileNotificationJournalAdapter(
+		@Value("${notification.write-behind.journal.dir:./data/notification-journal}") String directory,
+		@Value("${notification.write-behind.journal.fsync:true}") boolean fsync) {
+		this.directory = Path.of(directory);
+		this.fsync = fsync;
+		try {
+			Files.createDirectories(this.directory);
+			this.sequence = segments().stream().mapToLong(FileNotificationJournalAdapter::sequenceOf).max().orElse(0) + 1;
+		} catch (IOException e) {
+			throw new UncheckedIOException("알림 저널 디렉터리 준비 실패: " + directory, e);
+		}
+		this.recoverBelow = sequence;
+	}
+
+	@Override
+	public synchronized void append(Notification notification) {
+		ByteBuffer line = ByteBuffer.wrap((JsonUtils.toJsonString(Entry.of(notification)) + "\n").getBytes(UTF_8));
+		try {
+			FileChannel current = current();
+			while (line.hasRemaining()) {
+				current.write(line);
+			}
+			dirty = true;
+		} catch (IOException e) {
+			throw new UncheckedIOException("알림 저널 기록 실패", e);
+		}
+	}
+
+	@Override
+	public void sync() {
+		FileChannel current;
+		synchronized (this) {
+			if (!fsync || !dirty || channel == null) {
+				return;
+			}
+			current = channel;
+			dirty = false;
+		}
+		// force는 락 밖에서 호출해 디스크에 내려 쓰는 동안에도 append가 막히지 않게 함
+		try {
+			current.force(false);
+		} catch (IOException e) {
+			synchronized (this) {
+				dirty = true;
+			}
+			throw new UncheckedIOException("알림 저널 동기화 실패", e);
+		}
+	}
+
+	@Override
+	public synchronized long seal() {
+		closeCurrent();
+		return sequence++;
+	}
+
+	@Override
+	public synchronized void discard(long upTo) {
+		try {
+			for (Path segment : segments()) {
+				if (sequenceOf(segment) <= upTo) {
+					Files.deleteIfExists(segment);
+				}
+			}
+		} catch (IOException e) {
+			// 지우지 못한 세그먼트는 다음 기동 때 한 번 더 저장될 수 있음 (at-least-once)
+			log.warn("[Notification] 알림 저널 세그먼트 삭제 실패 - upTo: {}", upTo, e);
+		}
+	}
+
+	@Override
+	public synchronized List<Notification> recover() {
+		List<Notification> recovered = new ArrayList<>();
+		try {
+			List<Path> segments = segments().stream()
+				.filter(segment -> sequenceOf(segment) < recoverBelow)
+				.sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+				.toList();
+			for (Path segment : segments) {
+				for (String line : Files.readAllLines(segment, UTF_8)) {
+					if (line.isBlank()) {
+						continue;
+					}
+					try {
+						recovered.add(JsonUtils.fromJsonString(line, Entry.class).toNotification());
+					} catch (RuntimeException e) {
+						// 기록 도중 죽어 잘린 마지막 줄
+						log.warn("[Notification] 알림 저널의 손상된 줄 건너뜀 - segment: {}", segment.getFileName());
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("알림 저널 복구 실패", e);
+		}
+		return recovered;
+	}
+
+	@PreDestroy
+	void close() {
+		sync();
+		synchronized (this) {
+			closeCurrent();
+		}
+	}
+
+	private FileChannel current() throws IOException {
+		if (channel == null) {
+			channel = FileChannel.open(directory.resolve(PREFIX + sequence + SUFFIX),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		}
+		return channel;
+	}
+
+	private void closeCurrent() {
+		if (channel == null) {
+			return;
+		}
+		try {
+			channel.close();
+		} catch (IOException e) {
+			log.warn("[Notification] 알림 저널 세그먼트 닫기 실패", e);
+		}
+		channel = null;
+		dirty = false;
+	}
+
+	private List<Path> segments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(FileNotificationJournalAdapter::isSegment).toList();
+		}
+	}
+
+	private static boolean isSegment(Path path) {
+		String name = path.getFileName().toString();
+		return name.startsWith(PREFIX) && name.endsWith(SUFFIX)
+			&& name.length() > PREFIX.length() + SUFFIX.length()
+			&& name.substring(PREFIX.length(), name.length() - SUFFIX.length()).chars().allMatch(Character::isDigit);
+	}
+
+	private static long sequenceOf(Path segment) {
+		String name = segment.getFileName().toString();
+		return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+	}
+
+	/** 저널 한 줄. 저장 전이므로 notificationId는 없습니다. */
+	record Entry(Long memberId, String content, LocalDateTime createdAt, NotificationType type, Boolean isSent) {
+
+		static Entry of(Notification notification) {
+			return new Entry(notification.getMemberId(), notification.getContent(), notification.getCreatedAt(),
+				notification.getNotificationType(), notification.getIsSent());
+		}
+
+		Notification toNotification() {
+			return Notification.of(null, memberId, content, createdAt, false, type, isSent);
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package com.grow.notification_service.notification.infra.kafka;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.grow.notification_service.notification.infra.kafka.NotificationPriorityPolicy.Priority;
+
+/**
+ * 우선순위별 레인과 가중 공정 스케줄러
+ * 레인마다 큐와 처리 중인 워커 수를 두고, {@link #take}가 smooth weighted round-robin으로 다음 레인을 고릅니다.
+ * 비어 있거나 워커 예산을 다 쓴 레인은 건너뛰므로, 한가한 레인의 몫은 나머지 레인이 나눠 씁니다.
+ * 가중치가 6:3:1이면 세 레인이 모두 밀려 있을 때 배치 10개 중 6/3/1개를 각 레인에서 꺼냅니다.
+ */
+final class NotificationIngestLanes<T> {
+
+	private final NotificationPriorityPolicy policy;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition ready = lock.newCondition();
+	private final Lane<T>[] lanes;
+
+	@SuppressWarnings("unchecked")
+	NotificationIngestLanes(NotificationPriorityPolicy policy) {
+		this.policy = policy;
+		this.lanes = new Lane[Priority.values().length];
+		for (Priority priority : Priority.values()) {
+			lanes[priority.ordinal()] = new Lane<>();
+		}
+	}
+
+	/**
+	 * @return 넣은 뒤 레인의 크기
+	 */
+	int add(Priority priority, T item) {
+		lock.lock();
+		try {
+			Lane<T> lane = lanes[priority.ordinal()];
+			lane.queue.addLast(item);
+			ready.signal();
+			return lane.queue.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 다음 차례의 레인에서 최대 maxItems건을 꺼냅니다. 처리를 마치면 반드시 {@link #done(Priority)}를 호출해야 합니다.
+	 * @param waitMillis 꺼낼 레인이 없을 때 기다릴 시간
+	 * @return 꺼낸 배치, 시간 안에 꺼낼 레인이 없으면 null
+	 */
+	Batch<T> take(int maxItems, long waitMillis) throws InterruptedException {
+		long remaining = TimeUnit.MILLISECONDS.toNanos(waitMillis);
+		lock.lockInterruptibly();
+		try {
+			Priority next;
+			while ((next = next()) == null) {
+				if (remaining <= 0) {
+					return null;
+				}
+				remaining = ready.awaitNanos(remaining);
+			}
+			Lane<T> lane = lanes[next.ordinal()];
+			List<T> items = new ArrayList<>(Math.min(maxItems, lane.queue.size()));
+			while (items.size() < maxItems && !lane.queue.isEmpty()) {
+				items.add(lane.queue.pollFirst());
+			}
+			lane.inFlight++;
+			return new Batch<>(next, items);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** {@link #take}로 꺼낸 배치의 처리를 마쳤음을 알려 워커 예산을 돌려줍니다. */
+	void done(Priority priority) {
+		lock.lock();
+		try {
+			lanes[priority.ordinal()].inFlight--;
+			ready.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	int size() {
+		lock.lock();
+		try {
+			int size = 0;
+			for (Lane<T> lane : lanes) {
+				size += lane.queue.size();
+			}
+			return size;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	int size(Priority priority) {
+		lock.lock();
+		try {
+			return lanes[priority.ordinal()].queue.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** 모든 레인의 크기가 limit 이하인지 */
+	boolean allAtMost(int limit) {
+		lock.lock();
+		try {
+			for (Lane<T> lane : lanes) {
+				if (lane.queue.size() > limit) {
+					return false;
+				}
+			}
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** smooth weighted round-robin: 후보마다 가중치만큼 점수를 올리고, 가장 높은 레인을 고른 뒤 후보 가중치 합만큼 깎음 */
+	private Priority next() {
+		Priority best = null;
+		int total = 0;
+		for (Priority priority : Priority.values()) {
+			Lane<T> lane = lanes[priority.ordinal()];
+			if (lane.queue.isEmpty()) {
+				// 쉬는 동안 쌓인 점수로 다시 들어왔을 때 몰아서 처리하지 않도록 초기화
+				lane.credit = 0;
+				continue;
+			}
+			if (lane.inFlight >= policy.maxWorkers(priority)) {
+				continue;
+			}
+			int weight = policy.weight(priority);
+			lane.credit += weight;
+			total += weight;
+			if (best == null || lane.credit > lanes[best.ordinal()].credit) {
+				best = priority;
+			}
+		}
+		if (best != null) {
+			lanes[best.ordinal()].credit -= total;
+		}
+		return best;
+	}
+
+	record Batch<T>(Priority priority, List<T> items) {
+	}
+
+	private static final class Lane<T> {
+
+		private final ArrayDeque<T> queue = new ArrayDeque<>();
+		private int inFlight;
+		private int credit;
+	}
+}
@@ -0,0 +1,155 @@
+package com.grow.notification_service.notification.infra.kafka;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.notification.application.service.NotificationService;
+import com.grow.notification_service.notification.infra.kafka.NotificationPriorityPolicy.Priority;
+import com.grow.notification_service.notification.presentation.dto.NotificationRequestDto;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 알림 요청 수신과 저장 사이의 고정 크기 스테이지 (notification.kafka.consumer-mode=staged 일 때만)
+ * 리스너는 레코드를 역직렬화해 알림 유형의 우선순위 레인({@link NotificationPriorityPolicy})에 넣기만 하고,
+ * 워커(notification.kafka.stage.workers개)가 가중치 차례에 따라 한 레인에서 최대 batch-size건씩 꺼내 다건 INSERT로 저장합니다.
+ * 좋아요/포인트 알림이 몰려도 결제/그룹 승인 알림은 자기 레인에서 바로 워커를 받습니다.
+ * 오프셋은 DB 커밋 후에만 ack하므로(비동기 ack), 파드가 죽으면 커밋되지 않은 레코드는 다시 수신됩니다.
+ *
+ * <p>흐름 제어 (pause/resume과 종료 시 drain은 {@link NotificationWorkerStage}):
+ * - 어느 레인이든 깊이가 notification.kafka.stage.capacity에 이르면 리스너 컨테이너의 모든 파티션을 pause
+ * - 모든 레인이 capacity의 절반 이하로 비면 resume
+ * - 비동기 ack 컨테이너는 앞선 poll의 레코드가 모두 ack되어야 다음 poll을 하므로, 스테이지에 들어와 있는
+ *   레코드는 max.poll.records x 리스너 concurrency(기본 500 x 3)를 넘지 않습니다. capacity가 이보다 크면
+ *   pause는 일어나지 않으므로 기본값은 max.poll.records(한 레인에 한 소비자의 poll 하나분)로 둡니다.
+ * - 유형은 레코드 안에 있어 파티션 단위로 나눠 멈출 수 없으므로, pause 중에는 급한 알림도 새로 받지 못합니다.
+ *   이미 레인에 들어온 급한 알림은 그동안에도 먼저 처리됩니다.
+ *
+ * <p>실패 처리는 {@link NotificationRecordWriter}를 따릅니다.
+ * (notification.kafka.stage.retry-attempts / retry-backoff-ms)
+ *
+ * <p>메트릭: notification_ingest_queue_depth(전체), notification_ingest_lane_depth{lane},
+ * notification_ingest_lane_wait{lane}(레인에 들어와 워커가 꺼낼 때까지), notification_ingest_paused(0/1),
+ * notification_ingest_pause_duration(pause부터 resume까지), notification_ingest_total{result, lane}
+ */
+@Component
+@ConditionalOnProperty(name = "notification.kafka.consumer-mode", havingValue = "staged")
+public class NotificationIngestStage extends NotificationWorkerStage {
+
+	private final NotificationRecordWriter writer;
+	private final Map<Priority, Timer> laneWait = new EnumMap<>(Priority.class);
+	private final NotificationPriorityPolicy priorityPolicy;
+	private final NotificationIngestLanes<Staged> lanes;
+	private final int batchSize;
+
+	public NotificationIngestStage(NotificationService notificationService,
+		KafkaTemplate<String, String> kafkaTemplate,
+		KafkaListenerEndpointRegistry listenerRegistry,
+		NotificationMetrics metrics,
+		MeterRegistry meterRegistry,
+		NotificationPriorityPolicy priorityPolicy,
+		@Value("${notification.kafka.stage.capacity:${spring.kafka.consumer.max-poll-records:500}}") int capacity,
+		@Value("${notification.kafka.stage.workers:2}") int workers,
+		@Value("${notification.kafka.stage.batch-size:200}") int batchSize,
+		@Value("${notification.kafka.stage.retry-attempts:3}") int retryAttempts,
+		@Value("${notification.kafka.stage.retry-backoff-ms:1000}") long retryBackoffMillis,
+		@Value("${notification.kafka.stage.drain-timeout-ms:10000}") long drainTimeoutMillis) {
+		super("STAGE", "notification_ingest", listenerRegistry, NotificationRequestedStagedConsumer.LISTENER_ID,
+			meterRegistry, workers, capacity, drainTimeoutMillis);
+		this.writer = new NotificationRecordWriter(notificationService, kafkaTemplate, metrics,
+			"notification_ingest_total", retryAttempts, retryBackoffMillis);
+		this.priorityPolicy = priorityPolicy;
+		this.lanes = new NotificationIngestLanes<>(priorityPolicy);
+		this.batchSize = Math.max(1, batchSize);
+
+		Gauge.builder("notification_ingest_queue_depth", lanes, NotificationIngestLanes::size).register(meterRegistry);
+		for (Priority priority : Priority.values()) {
+			String lane = priority.name().toLowerCase();
+			Gauge.builder("notification_ingest_lane_depth", lanes, l -> l.size(priority))
+				.tag("lane", lane)
+				.register(meterRegistry);
+			laneWait.put(priority, Timer.builder("notification_ingest_lane_wait")
+				.description("알림 요청이 레인에서 워커를 기다린 시간")
+				.tag("lane", lane)
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry));
+		}
+	}
+
+	/**
+	 * 리스너 스레드에서 호출됩니다. 알림 유형의 레인에 넣고, 레인이 가득 찼으면 컨테이너를 멈춥니다.
+	 * 역직렬화에 실패한 레코드는 NORMAL 레인에 넣어 워커가 DLT로 보냅니다.
+	 */
+	public void offer(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+		NotificationRequestDto request = NotificationRecordWriter.parse(record);
+		Priority priority = priorityPolicy.priorityOf(request == null ? null : request.getNotificationType());
+		Staged staged = new Staged(new NotificationRecordWriter.Entry(record, acknowledgment, request), System.nanoTime());
+		pauseIfFull(lanes.add(priority, staged));
+	}
+
+	@Override
+	public int depth() {
+		return lanes.size();
+	}
+
+	@Override
+	int drainOnce(int worker, long waitMillis) throws InterruptedException {
+		return drainOnce(waitMillis);
+	}
+
+	/**
+	 * 다음 차례의 레인에서 최대 batch-size건을 꺼내 저장하고 ack합니다. 워커 스레드가 반복 호출합니다.
+	 * @param waitMillis 꺼낼 레인이 없을 때 기다릴 시간
+	 * @return 처리한 레코드 수
+	 */
+	int drainOnce(long waitMillis) throws InterruptedException {
+		NotificationIngestLanes.Batch<Staged> batch = lanes.take(batchSize, waitMillis);
+		resumeIfDrained();
+		if (batch == null) {
+			return 0;
+		}
+		String lane = batch.priority().name().toLowerCase();
+		long now = System.nanoTime();
+		Timer wait = laneWait.get(batch.priority());
+		try {
+			List<NotificationRecordWriter.Entry> entries = new ArrayList<>(batch.items().size());
+			for (Staged staged : batch.items()) {
+				wait.record(now - staged.enqueuedAt(), TimeUnit.NANOSECONDS);
+				entries.add(staged.entry());
+			}
+			writer.write(entries, "lane", lane);
+		} finally {
+			lanes.done(batch.priority());
+		}
+		return batch.items().size();
+	}
+
+	/** 레인 하나만 차도 pause하므로 모든 레인이 threshold 이하로 비어야 resume합니다. */
+	@Override
+	boolean drainedTo(int threshold) {
+		return lanes.allAtMost(threshold);
+	}
+
+	@Override
+	String describeDepth() {
+		return "urgent: " + lanes.size(Priority.URGENT) + ", normal: " + lanes.size(Priority.NORMAL)
+			+ ", bulk: " + lanes.size(Priority.BULK);
+	}
+
+	private record Staged(NotificationRecordWriter.Entry entry, long enqueuedAt) {
+	}
+}
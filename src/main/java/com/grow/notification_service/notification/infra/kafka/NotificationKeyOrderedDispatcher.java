@@ -0,0 +1,124 @@
+package com.grow.notification_service.notification.infra.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.notification.application.service.NotificationService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 파티션 안에서 키 단위로 순서를 지키는 병렬 처리 (notification.kafka.consumer-mode=parallel 일 때만)
+ * 프로듀서가 memberId를 키로 보내므로 파티션 수만큼만 병렬로 처리되던 것을, 레코드 키의 해시로
+ * notification.kafka.parallel.workers개 워커 중 하나에 고정 배정해 워커 수만큼 병렬로 처리합니다.
+ * 같은 키는 항상 같은 워커의 FIFO 큐로 가므로 회원별 순서는 그대로 유지되고, 키가 없는 레코드는 파티션 단위로 배정합니다.
+ *
+ * <p>오프셋: 워커는 DB 커밋 후 레코드마다 ack하고, 컨테이너의 비동기 ack가 파티션별로
+ * 아직 끝나지 않은 가장 낮은 오프셋 바로 앞까지만 커밋합니다. 파드가 죽거나 리밸런스되면 그 뒤의 레코드는
+ * (이미 저장한 것까지) 다시 수신됩니다. NotificationIdempotencyGuard는 파티션 할당 직후 recheck-ms 동안 Redis 기록으로
+ * 이를 거르지만, 이전 파드가 저장만 하고 Redis에 기록하기 전(flush-ms 이내)에 죽은 요청은 한 번 더 저장될 수 있습니다.
+ *
+ * <p>흐름 제어({@link NotificationWorkerStage}): 모든 워커 큐의 대기 레코드 합이 notification.kafka.parallel.capacity에 이르면 컨테이너를 pause하고,
+ * 절반 이하로 비면 resume합니다. 비동기 ack 컨테이너는 앞선 poll의 레코드가 모두 ack되어야 다음 poll을 하므로
+ * 대기 레코드는 max.poll.records x 리스너 concurrency(기본 500 x 3)를 넘지 않습니다. 그래서 capacity 기본값을
+ * max.poll.records로 두어 리스너 스레드 하나가 넘는 분량이 쌓이면 멈추게 하며, 이 곱보다 크게 잡으면 pause는 일어나지 않습니다.
+ * 실패 처리는 {@link NotificationRecordWriter}를 따르며,
+ * 재시도하는 동안 그 워커에 배정된 키들은 뒤에서 기다리므로 순서가 뒤바뀌지 않습니다.
+ *
+ * <p>메트릭: notification_parallel_queue_depth, notification_parallel_paused(0/1),
+ * notification_parallel_pause_duration(pause부터 resume까지), notification_parallel_total{result}
+ */
+@Component
+@ConditionalOnProperty(name = "notification.kafka.consumer-mode", havingValue = "parallel")
+public class NotificationKeyOrderedDispatcher extends NotificationWorkerStage {
+
+	private final NotificationRecordWriter writer;
+	private final LinkedBlockingQueue<NotificationRecordWriter.Entry>[] queues;
+	private final int batchSize;
+
+	@SuppressWarnings("unchecked")
+	public NotificationKeyOrderedDispatcher(NotificationService notificationService,
+		KafkaTemplate<String, String> kafkaTemplate,
+		KafkaListenerEndpointRegistry listenerRegistry,
+		NotificationMetrics metrics,
+		MeterRegistry meterRegistry,
+		@Value("${notification.kafka.parallel.workers:16}") int workers,
+		@Value("${notification.kafka.parallel.capacity:${spring.kafka.consumer.max-poll-records:500}}") int capacity,
+		@Value("${notification.kafka.parallel.batch-size:50}") int batchSize,
+		@Value("${notification.kafka.parallel.retry-attempts:3}") int retryAttempts,
+		@Value("${notification.kafka.parallel.retry-backoff-ms:1000}") long retryBackoffMillis,
+		@Value("${notification.kafka.parallel.drain-timeout-ms:10000}") long drainTimeoutMillis) {
+		super("PARALLEL", "notification_parallel", listenerRegistry, NotificationRequestedParallelConsumer.LISTENER_ID,
+			meterRegistry, workers, capacity, drainTimeoutMillis);
+		this.writer = new NotificationRecordWriter(notificationService, kafkaTemplate, metrics,
+			"notification_parallel_total", retryAttempts, retryBackoffMillis);
+		this.queues = new LinkedBlockingQueue[Math.max(1, workers)];
+		for (int i = 0; i < queues.length; i++) {
+			queues[i] = new LinkedBlockingQueue<>();
+		}
+		this.batchSize = Math.max(1, batchSize);
+
+		Gauge.builder("notification_parallel_queue_depth", this, NotificationKeyOrderedDispatcher::depth)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 리스너 스레드에서 호출됩니다. 키의 워커 큐에 넣고, 대기 레코드가 capacity에 이르면 컨테이너를 멈춥니다.
+	 */
+	public void offer(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+		queues[workerOf(record)].add(
+			new NotificationRecordWriter.Entry(record, acknowledgment, NotificationRecordWriter.parse(record)));
+		pauseIfFull(depth());
+	}
+
+	/** 같은 키는 항상 같은 워커로, 키가 없으면 같은 파티션은 같은 워커로 */
+	int workerOf(ConsumerRecord<String, String> record) {
+		int hash = record.key() != null
+			? record.key().hashCode()
+			: (record.topic().hashCode() * 31 + record.partition());
+		return Math.floorMod(hash ^ (hash >>> 16), queues.length);
+	}
+
+	@Override
+	public int depth() {
+		int depth = 0;
+		for (LinkedBlockingQueue<NotificationRecordWriter.Entry> queue : queues) {
+			depth += queue.size();
+		}
+		return depth;
+	}
+
+	/**
+	 * 워커 큐에서 최대 batch-size건을 순서대로 꺼내 저장하고 ack합니다. 워커 스레드가 반복 호출합니다.
+	 * @param worker 워커 번호
+	 * @param waitMillis 큐가 비었을 때 기다릴 시간
+	 * @return 처리한 레코드 수
+	 */
+	@Override
+	int drainOnce(int worker, long waitMillis) throws InterruptedException {
+		LinkedBlockingQueue<NotificationRecordWriter.Entry> queue = queues[worker];
+		NotificationRecordWriter.Entry first = queue.poll(waitMillis, TimeUnit.MILLISECONDS);
+		if (first == null) {
+			resumeIfDrained();
+			return 0;
+		}
+		List<NotificationRecordWriter.Entry> batch = new ArrayList<>(batchSize);
+		batch.add(first);
+		queue.drainTo(batch, batchSize - 1);
+		resumeIfDrained();
+		writer.write(batch);
+		return batch.size();
+	}
+}
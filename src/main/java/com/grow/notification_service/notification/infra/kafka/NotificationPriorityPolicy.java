@@ -0,0 +1,81 @@
+package com.grow.notification_service.notification.infra.kafka;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+/**
+ * 알림 유형별 수신 우선순위 (notification.kafka.consumer-mode=staged 일 때만)
+ * {@link NotificationIngestStage}는 우선순위마다 레인을 따로 두고, 가중치 비율대로 워커를 나눠 줍니다.
+ *
+ * <p>설정:
+ * - notification.kafka.priority.urgent-types / bulk-types: 레인에 넣을 유형 (나머지는 NORMAL)
+ * - notification.kafka.priority.{urgent,normal,bulk}-weight: 레인 가중치
+ * - notification.kafka.priority.{normal,bulk}-max-workers: 레인을 동시에 처리할 수 있는 최대 워커 수 (0이면 제한 없음)
+ *   BULK 레인이 워커를 모두 차지하지 못하게 해, 급한 알림이 들어오면 바로 처리할 워커가 남도록 합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.kafka.consumer-mode", havingValue = "staged")
+public class NotificationPriorityPolicy {
+
+	private final Set<NotificationType> urgentTypes;
+	private final Set<NotificationType> bulkTypes;
+	private final int[] weights = new int[Priority.values().length];
+	private final int[] maxWorkers = new int[Priority.values().length];
+
+	public NotificationPriorityPolicy(
+		@Value("${notification.kafka.priority.urgent-types:PAYMENT,GROUP_JOIN_APPROVAL,GROUP_JOIN_REJECTION}") Set<NotificationType> urgentTypes,
+		@Value("${notification.kafka.priority.bulk-types:LIKE,POINT}") Set<NotificationType> bulkTypes,
+		@Value("${notification.kafka.priority.urgent-weight:6}") int urgentWeight,
+		@Value("${notification.kafka.priority.normal-weight:3}") int normalWeight,
+		@Value("${notification.kafka.priority.bulk-weight:1}") int bulkWeight,
+		@Value("${notification.kafka.priority.normal-max-workers:0}") int normalMaxWorkers,
+		@Value("${notification.kafka.priority.bulk-max-workers:1}") int bulkMaxWorkers) {
+		this.urgentTypes = copyOf(urgentTypes);
+		this.bulkTypes = copyOf(bulkTypes);
+		this.bulkTypes.removeAll(this.urgentTypes);
+		weights[Priority.URGENT.ordinal()] = Math.max(1, urgentWeight);
+		weights[Priority.NORMAL.ordinal()] = Math.max(1, normalWeight);
+		weights[Priority.BULK.ordinal()] = Math.max(1, bulkWeight);
+		maxWorkers[Priority.URGENT.ordinal()] = Integer.MAX_VALUE;
+		maxWorkers[Priority.NORMAL.ordinal()] = normalMaxWorkers <= 0 ? Integer.MAX_VALUE : normalMaxWorkers;
+		maxWorkers[Priority.BULK.ordinal()] = bulkMaxWorkers <= 0 ? Integer.MAX_VALUE : bulkMaxWorkers;
+	}
+
+	/**
+	 * @param type 알림 유형, 역직렬화에 실패했거나 유형이 없으면 null
+	 */
+	public Priority priorityOf(NotificationType type) {
+		if (type == null) {
+			return Priority.NORMAL;
+		}
+		if (urgentTypes.contains(type)) {
+			return Priority.URGENT;
+		}
+		return bulkTypes.contains(type) ? Priority.BULK : Priority.NORMAL;
+	}
+
+	public int weight(Priority priority) {
+		return weights[priority.ordinal()];
+	}
+
+	public int maxWorkers(Priority priority) {
+		return maxWorkers[priority.ordinal()];
+	}
+
+	private static Set<NotificationType> copyOf(Set<NotificationType> types) {
+		return types == null || types.isEmpty() ? EnumSet.noneOf(NotificationType.class) : EnumSet.copyOf(types);
+	}
+
+	/** 수신 레인 */
+	public enum Priority {
+		URGENT,
+		NORMAL,
+		BULK
+	}
+}
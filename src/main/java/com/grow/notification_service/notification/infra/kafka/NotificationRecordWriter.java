@@ -0,0 +1,164 @@
+package com.grow.notification_service.notification.infra.kafka;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.notification.application.service.NotificationService;
+import com.grow.notification_service.notification.presentation.dto.NotificationRequestDto;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 수동 ack 소비 모드(staged, parallel)의 공통 저장 절차
+ * 레코드 묶음을 다건 INSERT로 저장하고, DB 커밋 후에만 ack합니다.
+ *
+ * <p>실패 처리:
+ * - 배치 저장 실패 시 retry-backoff-ms부터 2배씩 늘려 retry-attempts회까지 재시도
+ * - 그래도 실패하면 한 건씩 저장하고, 실패한 건과 역직렬화 실패 건은 "{토픽}.dlt"로 보낸 뒤 ack
+ * - DLT 발행이 실패하면 성공할 때까지 최대 {@value #DLT_MAX_BACKOFF_MILLIS}ms 간격으로 계속 재시도
+ *
+ * <p>비동기 ack 컨테이너는 앞선 poll의 오프셋이 모두 ack되어야 다음 poll을 하므로, ack하지 않고 남겨 둔
+ * 레코드 하나가 그 소비자 전체를 멈춥니다. 그래서 DLT 발행 실패 건도 건너뛰지 않고 그 자리에서 재시도하며,
+ * 종료로 워커가 인터럽트된 경우에만 ack 없이 남겨 재시작 후 다시 수신되게 합니다.
+ */
+@Slf4j
+final class NotificationRecordWriter {
+
+	private static final long DLT_SEND_TIMEOUT_SECONDS = 5;
+	private static final long DLT_MAX_BACKOFF_MILLIS = 30_000;
+
+	private final NotificationService notificationService;
+	private final KafkaTemplate<String, String> kafkaTemplate;
+	private final NotificationMetrics metrics;
+	private final String metricName;
+	private final int retryAttempts;
+	private final long retryBackoffMillis;
+
+	NotificationRecordWriter(NotificationService notificationService,
+		KafkaTemplate<String, String> kafkaTemplate,
+		NotificationMetrics metrics,
+		String metricName,
+		int retryAttempts,
+		long retryBackoffMillis) {
+		this.notificationService = notificationService;
+		this.kafkaTemplate = kafkaTemplate;
+		this.metrics = metrics;
+		this.metricName = metricName;
+		this.retryAttempts = Math.max(1, retryAttempts);
+		this.retryBackoffMillis = Math.max(0, retryBackoffMillis);
+	}
+
+	/**
+	 * 레코드를 역직렬화합니다.
+	 * @return 요청, 실패하면 null (쓰기 단계에서 DLT로 보냄)
+	 */
+	static NotificationRequestDto parse(ConsumerRecord<String, String> record) {
+		try {
+			return NotificationRecords.read(record);
+		} catch (RuntimeException e) {
+			log.error("[KAFKA][RECV][ERROR] payload={}", record.value(), e);
+			return null;
+		}
+	}
+
+	/**
+	 * 묶음을 입력 순서대로 저장하고 ack합니다.
+	 * @param tags 결과 카운터에 붙일 태그 (result 태그는 자동으로 붙음)
+	 */
+	void write(List<Entry> batch, String... tags) throws InterruptedException {
+		List<Entry> parsed = new ArrayList<>(batch.size());
+		List<NotificationRequestDto> requests = new ArrayList<>(batch.size());
+		for (Entry entry : batch) {
+			if (entry.request() == null) {
+				deadLetter(entry, tags);
+				continue;
+			}
+			requests.add(entry.request());
+			parsed.add(entry);
+		}
+		if (parsed.isEmpty()) {
+			return;
+		}
+
+		for (int attempt = 1; attempt <= retryAttempts; attempt++) {
+			try {
+				notificationService.processNotifications(requests);
+				parsed.forEach(Entry::ack);
+				metrics.result(metricName, parsed.size(), tags("committed", tags));
+				return;
+			} catch (Exception e) {
+				log.warn("[KAFKA][STAGE] 알림 일괄 저장 실패 - attempt: {}/{}, size: {}",
+					attempt, retryAttempts, parsed.size(), e);
+				if (attempt < retryAttempts) {
+					Thread.sleep(retryBackoffMillis << (attempt - 1));
+				}
+			}
+		}
+
+		// 재시도 소진: 한 건씩 저장해 실패한 건만 DLT로 보냄
+		for (int i = 0; i < parsed.size(); i++) {
+			try {
+				notificationService.processNotifications(List.of(requests.get(i)));
+				parsed.get(i).ack();
+				metrics.result(metricName, tags("committed", tags));
+			} catch (Exception e) {
+				log.error("[KAFKA][RECV][ERROR] payload={}", parsed.get(i).record().value(), e);
+				deadLetter(parsed.get(i), tags);
+			}
+		}
+	}
+
+	/**
+	 * 레코드를 DLT로 보내고 ack합니다. 발행에 실패하면 성공할 때까지 간격을 늘려 가며 재시도합니다.
+	 * @throws InterruptedException 종료로 인터럽트된 경우. 레코드는 ack하지 않고 남깁니다.
+	 */
+	private void deadLetter(Entry entry, String... tags) throws InterruptedException {
+		ConsumerRecord<String, String> record = entry.record();
+		for (int attempt = 1; ; attempt++) {
+			try {
+				kafkaTemplate.send(record.topic() + ".dlt", record.key(), record.value())
+					.get(DLT_SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+				entry.ack();
+				metrics.result(metricName, tags("dead_letter", tags));
+				return;
+			} catch (InterruptedException e) {
+				metrics.result(metricName, tags("unacked", tags));
+				throw e;
+			} catch (Exception e) {
+				log.error("[KAFKA][STAGE] DLT 발행 실패 - 재시도 - attempt: {}, topic: {}, partition: {}, offset: {}",
+					attempt, record.topic(), record.partition(), record.offset(), e);
+				metrics.result(metricName, tags("dead_letter_retry", tags));
+				Thread.sleep(dltBackoffMillis(attempt));
+			}
+		}
+	}
+
+	private long dltBackoffMillis(int attempt) {
+		long base = Math.max(100, retryBackoffMillis);
+		return Math.min(DLT_MAX_BACKOFF_MILLIS, base << Math.min(attempt - 1, 16));
+	}
+
+	private static String[] tags(String result, String... tags) {
+		String[] all = Arrays.copyOf(new String[] {"result", result}, 2 + tags.length);
+		System.arraycopy(tags, 0, all, 2, tags.length);
+		return all;
+	}
+
+	/**
+	 * 저장할 레코드와 ack 핸들
+	 * @param request 역직렬화한 요청, 실패했으면 null
+	 */
+	record Entry(ConsumerRecord<String, String> record, Acknowledgment acknowledgment, NotificationRequestDto request) {
+
+		void ack() {
+			acknowledgment.acknowledge();
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package com.grow.notification_service.notification.infra.kafka;
+
+import java.nio.ByteBuffer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.retrytopic.RetryTopicHeaders;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import com.grow.notification_service.global.util.JsonUtils;
+import com.grow.notification_service.notification.presentation.dto.NotificationRequestDto;
+
+/**
+ * 알림 요청 레코드를 역직렬화하고 재수신 여부를 표시합니다.
+ *
+ * <p>재수신 신호:
+ * - 재시도 토픽에서 온 레코드 ({@link RetryTopicHeaders#DEFAULT_HEADER_ATTEMPTS} 헤더)
+ * - 컨테이너가 붙인 재전달 횟수({@link KafkaHeaders#DELIVERY_ATTEMPT})가 2 이상인 레코드
+ * 표시된 요청은 멱등 가드가 Bloom filter에 없더라도 Redis 기록을 확인합니다.
+ */
+final class NotificationRecords {
+
+	private NotificationRecords() {
+	}
+
+	/**
+	 * @throws RuntimeException 역직렬화 실패
+	 */
+	static NotificationRequestDto read(ConsumerRecord<String, String> record) {
+		NotificationRequestDto request = JsonUtils.fromJsonString(record.value(), NotificationRequestDto.class);
+		if (request == null || !isRedelivery(record)) {
+			return request;
+		}
+		return request.toBuilder().redelivered(true).build();
+	}
+
+	static boolean isRedelivery(ConsumerRecord<?, ?> record) {
+		if (record.headers().lastHeader(RetryTopicHeaders.DEFAULT_HEADER_ATTEMPTS) != null) {
+			return true;
+		}
+		Header attempt = record.headers().lastHeader(KafkaHeaders.DELIVERY_ATTEMPT);
+		return attempt != null && attempt.value() != null && attempt.value().length == Integer.BYTES
+			&& ByteBuffer.wrap(attempt.value()).getInt() > 1;
+	}
+}
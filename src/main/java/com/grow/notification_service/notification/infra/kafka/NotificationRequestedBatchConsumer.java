@@ -0,0 +1,85 @@
+package com.grow.notification_service.notification.infra.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.global.config.KafkaBatchConsumerConfig;
+import com.grow.notification_service.notification.application.service.NotificationService;
+import com.grow.notification_service.notification.presentation.dto.NotificationRequestDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 요청 토픽 배치 소비자 (notification.kafka.consumer-mode=batch 일 때 {@link NotificationRequestedConsumer} 대신 동작)
+ * poll 한 번에 받은 레코드(최대 notification.kafka.batch.max-poll-records건)를 한꺼번에 역직렬화하고,
+ * 한 트랜잭션의 다건 INSERT로 저장한 뒤 알림마다 SSE 이벤트를 발행합니다.
+ * 재시도와 DLT는 {@link KafkaBatchConsumerConfig}의 에러 핸들러가 맡습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.kafka.consumer-mode", havingValue = "batch")
+public class NotificationRequestedBatchConsumer {
+
+	public static final String LISTENER_ID = "notification-requested-batch";
+
+	private final NotificationService notificationService;
+
+	/**
+	 * 역직렬화에 실패한 레코드가 있으면 그 앞의 레코드까지만 저장하고 BatchListenerFailedException을 던집니다.
+	 * 에러 핸들러는 앞선 레코드의 오프셋을 커밋하고, 실패한 레코드는 DLT로, 나머지는 다시 poll합니다.
+	 * 저장 자체가 실패하면 배치 전체를 재시도합니다.
+	 *
+	 * @param records 한 번에 poll한 레코드
+	 */
+	@KafkaListener(
+		id = LISTENER_ID,
+		idIsGroup = false,
+		topics = {
+			"member.notification.requested",
+			"point.notification.requested",
+			"payment.notification.requested",
+			"qna.notification.requested",
+			"note.notification.requested",
+			"quiz.notification.requested",
+			"analysis.notification.requested"
+		},
+		groupId = "notification-service",
+		concurrency = "3",
+		containerFactory = KafkaBatchConsumerConfig.BATCH_LISTENER_FACTORY,
+		properties = "max.poll.records=${notification.kafka.batch.max-poll-records:500}"
+	)
+	public void onMessages(List<ConsumerRecord<String, String>> records) {
+		List<NotificationRequestDto> requests = new ArrayList<>(records.size());
+		for (int i = 0; i < records.size(); i++) {
+			String payload = records.get(i).value();
+			try {
+				requests.add(NotificationRecords.read(records.get(i)));
+			} catch (RuntimeException e) {
+				log.error("[KAFKA][RECV][ERROR] payload={}", payload, e);
+				process(requests);
+				throw new BatchListenerFailedException("알림 요청 역직렬화 실패", e, i);
+			}
+		}
+		process(requests);
+	}
+
+	private void process(List<NotificationRequestDto> requests) {
+		if (requests.isEmpty()) {
+			return;
+		}
+		try {
+			notificationService.processNotifications(requests);
+		} catch (Exception e) {
+			log.error("[KAFKA][RECV][ERROR] batch size={}", requests.size(), e);
+			throw e;
+		}
+	}
+}
@@ -1,31 +1,44 @@
 package com.grow.notification_service.notification.infra.kafka;
 
-import com.grow.notification_service.global.util.JsonUtils;
 import com.grow.notification_service.notification.application.service.NotificationService;
 import com.grow.notification_service.notification.presentation.dto.NotificationRequestDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.kafka.consumer-mode", havingValue = "single", matchIfMissing = true)
 public class NotificationRequestedConsumer {
 
+	public static final String LISTENER_ID = "notification-requested";
+
 	private final NotificationService notificationService;
 
 	/**
 	 * Kafka "member.notification.requested" 토픽에서 메시지를 수신합니다.
 	 * 메시지 페이로드를 NotificationRequestDto로 역직렬화하고,
 	 * NotificationService를 통해 알림 처리를 수행합니다.
+	 * 저장은 리스너 스레드에서 동기로({@link NotificationService#processNotifications}) 처리하므로,
+	 * 오프셋은 DB 커밋 후에 커밋되고 저장 실패는 재시도 토픽으로 이어집니다.
 	 * 수신된 메시지와 처리 결과를 로그에 기록합니다.
 	 * 예외 발생 시 에러 로그를 남기고, 필요 시 DLQ 재전송 로직을 추가할 수 있습니다.
-	 * @param payload Kafka 메시지의 JSON 페이로드
+	 * notification.kafka.consumer-mode가 batch면 {@link NotificationRequestedBatchConsumer}가,
+	 * staged면 {@link NotificationRequestedStagedConsumer}가, parallel이면 {@link NotificationRequestedParallelConsumer}가 대신 동작합니다.
+	 * 재시도 토픽에서 온 레코드는 재수신으로 표시해 멱등 가드가 Redis 기록까지 확인하게 합니다.
+	 * @param record Kafka 메시지 (값은 JSON 페이로드)
  	 */
 	@KafkaListener(
+		id = LISTENER_ID,
+		idIsGroup = false,
 		topics = {
 			"member.notification.requested",
 			"point.notification.requested",
@@ -44,15 +57,15 @@ public class NotificationRequestedConsumer {
 		dltTopicSuffix = ".dlt",
 		autoCreateTopics = "true"
 	)
-	public void onMessage(String payload) {
+	public void onMessage(ConsumerRecord<String, String> record) {
 		// 1. 페이로드를 NotificationRequestDto로 역직렬화
 		// 2. NotificationService를 통해 알림 처리
 		// 3. 처리 결과를 로그에 기록
 		try {
-			NotificationRequestDto dto = JsonUtils.fromJsonString(payload, NotificationRequestDto.class);
-			notificationService.processNotification(dto);
+			NotificationRequestDto dto = NotificationRecords.read(record);
+			notificationService.processNotifications(List.of(dto));
 		} catch (Exception e) {
-			log.error("[KAFKA][RECV][ERROR] payload={}", payload, e);
+			log.error("[KAFKA][RECV][ERROR] payload={}", record.value(), e);
 			throw e;
 		}
 	}
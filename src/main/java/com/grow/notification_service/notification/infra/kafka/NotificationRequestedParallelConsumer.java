@@ -0,0 +1,45 @@
+package com.grow.notification_service.notification.infra.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.global.config.KafkaParallelConsumerConfig;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 요청 토픽 병렬 소비자 (notification.kafka.consumer-mode=parallel 일 때 {@link NotificationRequestedConsumer} 대신 동작)
+ * 레코드를 {@link NotificationKeyOrderedDispatcher}에 넘기기만 하고, ack는 키별 워커가 DB 커밋 후에 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.kafka.consumer-mode", havingValue = "parallel")
+public class NotificationRequestedParallelConsumer {
+
+	public static final String LISTENER_ID = "notification-requested-parallel";
+
+	private final NotificationKeyOrderedDispatcher dispatcher;
+
+	@KafkaListener(
+		id = LISTENER_ID,
+		idIsGroup = false,
+		topics = {
+			"member.notification.requested",
+			"point.notification.requested",
+			"payment.notification.requested",
+			"qna.notification.requested",
+			"note.notification.requested",
+			"quiz.notification.requested",
+			"analysis.notification.requested"
+		},
+		groupId = "notification-service",
+		concurrency = "3",
+		containerFactory = KafkaParallelConsumerConfig.PARALLEL_LISTENER_FACTORY
+	)
+	public void onMessage(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+		dispatcher.offer(record, acknowledgment);
+	}
+}
@@ -0,0 +1,46 @@
+package com.grow.notification_service.notification.infra.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.global.config.KafkaStagedConsumerConfig;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 요청 토픽 스테이지 소비자 (notification.kafka.consumer-mode=staged 일 때 {@link NotificationRequestedConsumer} 대신 동작)
+ * 레코드를 {@link NotificationIngestStage}에 넘기기만 하고 ack는 스테이지가 DB 커밋 후에 합니다.
+ * 스테이지가 가득 차면 이 리스너의 컨테이너가 pause됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.kafka.consumer-mode", havingValue = "staged")
+public class NotificationRequestedStagedConsumer {
+
+	public static final String LISTENER_ID = "notification-requested-staged";
+
+	private final NotificationIngestStage stage;
+
+	@KafkaListener(
+		id = LISTENER_ID,
+		idIsGroup = false,
+		topics = {
+			"member.notification.requested",
+			"point.notification.requested",
+			"payment.notification.requested",
+			"qna.notification.requested",
+			"note.notification.requested",
+			"quiz.notification.requested",
+			"analysis.notification.requested"
+		},
+		groupId = "notification-service",
+		concurrency = "3",
+		containerFactory = KafkaStagedConsumerConfig.STAGED_LISTENER_FACTORY
+	)
+	public void onMessage(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+		stage.offer(record, acknowledgment);
+	}
+}
@@ -0,0 +1,191 @@
+package com.grow.notification_service.notification.infra.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리스너가 넘긴 레코드를 워커 스레드가 저장하는 단계의 공통 흐름 제어와 수명 주기
+ * ({@link NotificationIngestStage}, {@link NotificationKeyOrderedDispatcher})
+ *
+ * <p>흐름 제어: 리스너가 레코드를 넣은 뒤의 대기 건수가 capacity에 이르면 리스너 컨테이너의 모든 파티션을 pause하고,
+ * 워커가 꺼내 capacity의 절반 이하로 비면({@link #drainedTo(int)}) resume합니다.
+ *
+ * <p>수명 주기: 리스너 컨테이너(Integer.MAX_VALUE - 100)보다 늦게 시작하고 먼저 멈춥니다.
+ * 멈출 때는 새 레코드를 막고 남은 레코드를 drain-timeout-ms까지 저장해 ack가 컨테이너 종료 전에 커밋되도록 하며,
+ * 그래도 남은 레코드는 ack되지 않아 다음 기동 때 다시 수신됩니다.
+ *
+ * <p>메트릭: {prefix}_paused(0/1), {prefix}_pause_duration(pause부터 resume까지)
+ */
+@Slf4j
+abstract class NotificationWorkerStage implements SmartLifecycle {
+
+	private static final long POLL_MILLIS = 200;
+
+	private final String name;
+	private final String threadPrefix;
+	private final KafkaListenerEndpointRegistry listenerRegistry;
+	private final String listenerId;
+	private final Timer pauseDuration;
+	private final int workers;
+	private final int capacity;
+	private final int resumeThreshold;
+	private final long drainTimeoutMillis;
+	private final List<Thread> threads = new ArrayList<>();
+	private volatile boolean running;
+	private volatile boolean stopping;
+	private boolean paused;
+	private long pausedAt;
+
+	/**
+	 * @param name 로그 접두어 [KAFKA][name]
+	 * @param metricPrefix 메트릭 이름 접두어 (notification_ingest 등). 워커 스레드 이름에도 씁니다.
+	 * @param listenerId pause/resume할 리스너 컨테이너 ID
+	 */
+	NotificationWorkerStage(String name, String metricPrefix,
+		KafkaListenerEndpointRegistry listenerRegistry, String listenerId, MeterRegistry meterRegistry,
+		int workers, int capacity, long drainTimeoutMillis) {
+		this.name = name;
+		this.threadPrefix = metricPrefix.replace('_', '-') + "-";
+		this.listenerRegistry = listenerRegistry;
+		this.listenerId = listenerId;
+		this.workers = Math.max(1, workers);
+		this.capacity = Math.max(1, capacity);
+		this.resumeThreshold = this.capacity / 2;
+		this.drainTimeoutMillis = Math.max(0, drainTimeoutMillis);
+
+		this.pauseDuration = Timer.builder(metricPrefix + "_pause_duration")
+			.description("대기 레코드가 가득 차 알림 요청 파티션을 멈춘 시간")
+			.register(meterRegistry);
+		Gauge.builder(metricPrefix + "_paused", this, s -> s.isPaused() ? 1 : 0).register(meterRegistry);
+	}
+
+	/** 워커가 아직 꺼내지 않은 레코드 수 */
+	public abstract int depth();
+
+	/**
+	 * 워커 하나가 대기 레코드를 한 묶음 꺼내 저장하고 ack합니다. 꺼낸 뒤에는 {@link #resumeIfDrained()}를 호출해야 합니다.
+	 * @param worker 워커 번호 (0 ~ workers - 1)
+	 * @param waitMillis 꺼낼 레코드가 없을 때 기다릴 시간
+	 * @return 처리한 레코드 수
+	 */
+	abstract int drainOnce(int worker, long waitMillis) throws InterruptedException;
+
+	/** resume해도 될 만큼 비었는지. 기본은 전체 대기 건수로 판단합니다. */
+	boolean drainedTo(int threshold) {
+		return depth() <= threshold;
+	}
+
+	/** pause 로그에 남길 대기 상태 */
+	String describeDepth() {
+		return "depth: " + depth();
+	}
+
+	/** 리스너 스레드가 레코드를 넣은 뒤 호출합니다. 대기 건수가 capacity에 이르면 컨테이너를 멈춥니다. */
+	final void pauseIfFull(int depth) {
+		if (depth >= capacity) {
+			pause();
+		}
+	}
+
+	public synchronized boolean isPaused() {
+		return paused;
+	}
+
+	private synchronized void pause() {
+		if (paused) {
+			return;
+		}
+		MessageListenerContainer container = container();
+		if (container == null) {
+			return;
+		}
+		container.pause();
+		paused = true;
+		pausedAt = System.nanoTime();
+		log.warn("[KAFKA][{}] 대기 레코드 가득 참 - 파티션 pause - {}", name, describeDepth());
+	}
+
+	final synchronized void resumeIfDrained() {
+		if (!paused || stopping || !drainedTo(resumeThreshold)) {
+			return;
+		}
+		MessageListenerContainer container = container();
+		if (container != null) {
+			container.resume();
+		}
+		paused = false;
+		pauseDuration.record(System.nanoTime() - pausedAt, TimeUnit.NANOSECONDS);
+		log.info("[KAFKA][{}] 파티션 resume - depth: {}", name, depth());
+	}
+
+	private MessageListenerContainer container() {
+		return listenerRegistry.getListenerContainer(listenerId);
+	}
+
+	@Override
+	public void start() {
+		stopping = false;
+		running = true;
+		for (int i = 0; i < workers; i++) {
+			int worker = i;
+			Thread thread = new Thread(() -> work(worker), threadPrefix + i);
+			thread.start();
+			threads.add(thread);
+		}
+	}
+
+	@Override
+	public void stop() {
+		stopping = true;
+		pause();
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMillis);
+		while (depth() > 0 && System.nanoTime() < deadline) {
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		running = false;
+		for (Thread thread : threads) {
+			thread.interrupt();
+		}
+		threads.clear();
+		if (depth() > 0) {
+			log.warn("[KAFKA][{}] 저장하지 못한 알림 요청을 남기고 종료 - 재시작 후 재수신 - depth: {}", name, depth());
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public int getPhase() {
+		return Integer.MAX_VALUE - 50;
+	}
+
+	private void work(int worker) {
+		while (running) {
+			try {
+				drainOnce(worker, POLL_MILLIS);
+			} catch (InterruptedException e) {
+				return;
+			} catch (Exception e) {
+				log.error("[KAFKA][{}] 워커 오류 - worker: {}", name, worker, e);
+			}
+		}
+	}
+}
@@ -8,7 +8,10 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @Builder
-@Table(name = "notification")
+@Table(name = "notification",
+    indexes = {
+        @Index(name = "idx_notification_member_isSent", columnList = "memberId, isSent")
+    })
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class NotificationJpaEntity {
@@ -35,5 +38,5 @@ public class NotificationJpaEntity {
     private NotificationType notificationType; // 알림 타입
 
     @Column(name = "isSent", nullable = false)
-    private Boolean isSent; // 알림 전송 여부 -> 처음 저장 시에는 false로 설정
+    private Boolean isSent; // 알림 전송 여부 -> 처음 저장 시에는 false로 설정, SSE로 쓴 뒤 묶어서 true로 갱신
 }
@@ -0,0 +1,78 @@
+package com.grow.notification_service.notification.infra.persistence.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.grow.notification_service.notification.domain.model.Notification;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 다건 INSERT 전용 JDBC 리포지토리
+ * notificationId가 IDENTITY라 Hibernate는 INSERT를 묶지 못하므로,
+ * {@code INSERT ... VALUES (...), (...), ...} 한 문장으로 최대 notification.jdbc.insert-chunk-size건씩 저장합니다.
+ * 호출자의 트랜잭션에 참여하며, 생성된 ID는 입력 순서대로 돌려줍니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+	private static final String INSERT_PREFIX =
+		"INSERT INTO notification (member_id, content, created_at, is_read, notification_type, is_sent) VALUES ";
+	private static final String ROW = "(?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${notification.jdbc.insert-chunk-size:500}")
+	private int chunkSize = 500;
+
+	/**
+	 * 알림을 chunk 단위의 다건 INSERT로 저장합니다.
+	 * @return 생성된 notificationId (입력 순서)
+	 */
+	public List<Long> insertAll(List<Notification> notifications) {
+		List<Long> ids = new ArrayList<>(notifications.size());
+		int size = Math.max(1, chunkSize);
+		for (int from = 0; from < notifications.size(); from += size) {
+			ids.addAll(insertChunk(notifications.subList(from, Math.min(notifications.size(), from + size))));
+		}
+		return ids;
+	}
+
+	private List<Long> insertChunk(List<Notification> chunk) {
+		String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW));
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(con -> {
+			PreparedStatement ps = con.prepareStatement(sql, new String[] {"notification_id"});
+			int i = 1;
+			for (Notification notification : chunk) {
+				ps.setLong(i++, notification.getMemberId());
+				ps.setString(i++, notification.getContent());
+				ps.setTimestamp(i++, Timestamp.valueOf(notification.getCreatedAt()));
+				ps.setBoolean(i++, notification.getIsRead());
+				ps.setString(i++, notification.getNotificationType().name());
+				ps.setBoolean(i++, notification.getIsSent());
+			}
+			return ps;
+		}, keyHolder);
+
+		List<Map<String, Object>> keys = keyHolder.getKeyList();
+		if (keys.size() != chunk.size()) {
+			throw new IllegalStateException(
+				"생성된 알림 ID 수가 INSERT 건수와 다릅니다 - rows: " + chunk.size() + ", keys: " + keys.size());
+		}
+		return keys.stream()
+			.map(key -> ((Number) key.values().iterator().next()).longValue())
+			.toList();
+	}
+}
@@ -1,6 +1,9 @@
 package com.grow.notification_service.notification.infra.persistence.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 import com.grow.notification_service.notification.application.dto.NotificationListItemResponse;
 import com.grow.notification_service.notification.infra.persistence.entity.NotificationJpaEntity;
@@ -11,6 +14,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface NotificationJpaRepository extends JpaRepository<NotificationJpaEntity, Long> {
 
@@ -42,6 +46,32 @@ public interface NotificationJpaRepository extends JpaRepository<NotificationJpa
     """)
 	long countUnread(@Param("memberId") Long memberId);
 
+	/**
+	 * 특정 시각 이전의 읽지 않은 알림 개수 조회 (오래된 알림 삭제 시 카운터 반영용)
+	 * @param memberId
+	 * @param before
+	 * @return
+	 */
+	@Query("""
+        select count(n)
+        from NotificationJpaEntity n
+        where n.memberId = :memberId and n.isRead = false and n.createdAt < :before
+    """)
+	long countUnreadBefore(@Param("memberId") Long memberId, @Param("before") LocalDateTime before);
+
+	/**
+	 * 특정 알림의 읽음 여부 조회 (삭제 시 카운터 반영용)
+	 * @param memberId
+	 * @param id
+	 * @return
+	 */
+	@Query("""
+        select n.isRead
+        from NotificationJpaEntity n
+        where n.notificationId = :id and n.memberId = :memberId
+    """)
+	Optional<Boolean> findIsRead(@Param("memberId") Long memberId, @Param("id") Long id);
+
 	/**
 	 * 모든 알림을 읽음 처리
 	 * @param memberId
@@ -109,4 +139,90 @@ public interface NotificationJpaRepository extends JpaRepository<NotificationJpa
 		@Param("memberId") Long memberId,
 		org.springframework.data.domain.Pageable pageable
 	);
-}
\ No newline at end of file
+
+	/**
+	 * 특정 알림 이후의 알림 목록 조회 (SSE 재연결 시 재전송용, 오래된 순)
+	 * @param memberId
+	 * @param lastId 클라이언트가 마지막으로 받은 알림 ID
+	 * @param pageable
+	 * @return
+	 */
+	@Query("""
+        select new com.grow.notification_service.notification.application.dto.NotificationListItemResponse(
+            n.notificationId, n.notificationType, n.content, n.isRead, n.createdAt
+        )
+        from NotificationJpaEntity n
+        where n.memberId = :memberId and n.notificationId > :lastId
+        order by n.notificationId asc
+    """)
+	List<NotificationListItemResponse> findAfter(
+		@Param("memberId") Long memberId,
+		@Param("lastId") Long lastId,
+		Pageable pageable
+	);
+
+	/**
+	 * 아직 전송되지 않은 알림 목록 조회 (SSE 연결 시 재전송용, 오래된 순)
+	 * (memberId, isSent) 인덱스를 사용합니다.
+	 * @param memberId
+	 * @param since 이 시각 이후에 생성된 알림만 조회
+	 * @param pageable
+	 * @return
+	 */
+	@Query("""
+        select new com.grow.notification_service.notification.application.dto.NotificationListItemResponse(
+            n.notificationId, n.notificationType, n.content, n.isRead, n.createdAt
+        )
+        from NotificationJpaEntity n
+        where n.memberId = :memberId and n.isSent = false and n.createdAt > :since
+        order by n.notificationId asc
+    """)
+	List<NotificationListItemResponse> findUnsent(
+		@Param("memberId") Long memberId,
+		@Param("since") LocalDateTime since,
+		Pageable pageable
+	);
+
+	/**
+	 * SSE로 쓴 알림을 전송 완료 처리 (여러 건을 한 번에)
+	 * @param ids
+	 * @return
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+        update NotificationJpaEntity n
+        set n.isSent = true
+        where n.notificationId in :ids and n.isSent = false
+    """)
+	int markSent(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * 클라이언트가 받았다고 알려온 회원의 알림을 전송 완료로 표시 (WebSocket ack 묶음)
+	 * @param memberId
+	 * @param ids
+	 * @return
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+        update NotificationJpaEntity n
+        set n.isSent = true
+        where n.memberId = :memberId and n.notificationId in :ids and n.isSent = false
+    """)
+	int markSent(@Param("memberId") Long memberId, @Param("ids") Collection<Long> ids);
+
+	/**
+	 * 회원의 여러 알림을 한 번에 읽음 처리 (WebSocket ack 묶음)
+	 * @param memberId
+	 * @param ids
+	 * @return
+	 */
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+        update NotificationJpaEntity n
+        set n.isRead = true
+        where n.memberId = :memberId and n.notificationId in :ids and n.isRead = false
+    """)
+	int markRead(@Param("memberId") Long memberId, @Param("ids") Collection<Long> ids);
+}
@@ -6,6 +6,10 @@ import com.grow.notification_service.notification.infra.persistence.entity.Notif
 import com.grow.notification_service.notification.infra.persistence.mapper.NotificationMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.IntStream;
 
 @Repository
 @RequiredArgsConstructor
@@ -13,10 +17,27 @@ public class NotificationRepositoryImpl implements NotificationRepository {
 
     private final NotificationMapper mapper;
     private final NotificationJpaRepository jpaRepository;
+    private final NotificationJdbcRepository jdbcRepository;
 
     @Override
     public Notification save(Notification notification) {
         NotificationJpaEntity entity = mapper.toEntity(notification);
         return mapper.toDomain(jpaRepository.save(entity));
     }
+
+    /**
+     * IDENTITY 키는 Hibernate가 INSERT를 묶지 못하므로 JDBC 다건 INSERT로 저장합니다.
+     */
+    @Override
+    @Transactional
+    public List<Notification> saveAll(List<Notification> notifications) {
+        List<Long> ids = jdbcRepository.insertAll(notifications);
+        return IntStream.range(0, notifications.size())
+                .mapToObj(i -> {
+                    Notification n = notifications.get(i);
+                    return Notification.of(ids.get(i), n.getMemberId(), n.getContent(), n.getCreatedAt(),
+                            n.getIsRead(), n.getNotificationType(), n.getIsSent());
+                })
+                .toList();
+    }
 }
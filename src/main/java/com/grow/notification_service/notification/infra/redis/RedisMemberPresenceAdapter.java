@@ -0,0 +1,104 @@
+package com.grow.notification_service.notification.infra.redis;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.notification.application.port.MemberPresencePort;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Hash 기반 프레즌스 디렉터리
+ * key: sse:presence:{memberId}, field: podId, value: 만료 시각(epoch millis)
+ *
+ * <p>파드가 비정상 종료되어 offline을 호출하지 못해도 value의 만료 시각이 지나면
+ * 조회 시 무시되고, 키 자체도 TTL로 정리됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisMemberPresenceAdapter implements MemberPresencePort {
+
+	private static final String KEY_PREFIX = "sse:presence:";
+
+	private final StringRedisTemplate redis;
+
+	@Value("${sse.presence.ttl-seconds:90}")
+	private long ttlSeconds;
+
+	@Override
+	public void online(Long memberId, String podId) {
+		String key = KEY_PREFIX + memberId;
+		try {
+			redis.opsForHash().put(key, podId, String.valueOf(expiresAt()));
+			redis.expire(key, Duration.ofSeconds(ttlSeconds));
+		} catch (Exception e) {
+			log.warn("[SSE][PRESENCE][ONLINE][FAIL] memberId={}, podId={}", memberId, podId, e);
+		}
+	}
+
+	@Override
+	public void offline(Long memberId, String podId) {
+		try {
+			redis.opsForHash().delete(KEY_PREFIX + memberId, podId);
+		} catch (Exception e) {
+			log.warn("[SSE][PRESENCE][OFFLINE][FAIL] memberId={}, podId={}", memberId, podId, e);
+		}
+	}
+
+	@Override
+	public void refresh(Collection<Long> memberIds, String podId) {
+		if (memberIds.isEmpty()) {
+			return;
+		}
+		String expiresAt = String.valueOf(expiresAt());
+		try {
+			// 회원 수만큼 왕복하지 않도록 파이프라인으로 한 번에 전송
+			redis.executePipelined((RedisCallback<Object>) connection -> {
+				StringRedisConnection conn = (StringRedisConnection) connection;
+				for (Long memberId : memberIds) {
+					String key = KEY_PREFIX + memberId;
+					conn.hSet(key, podId, expiresAt);
+					conn.expire(key, ttlSeconds);
+				}
+				return null;
+			});
+		} catch (Exception e) {
+			log.warn("[SSE][PRESENCE][REFRESH][FAIL] podId={}, members={}", podId, memberIds.size(), e);
+		}
+	}
+
+	@Override
+	public Set<String> podsOf(Long memberId) {
+		Map<Object, Object> entries;
+		try {
+			entries = redis.opsForHash().entries(KEY_PREFIX + memberId);
+		} catch (Exception e) {
+			log.warn("[SSE][PRESENCE][LOOKUP][FAIL] memberId={}", memberId, e);
+			return Set.of();
+		}
+
+		long now = System.currentTimeMillis();
+		Set<String> pods = new HashSet<>();
+		entries.forEach((pod, expiresAt) -> {
+			if (Long.parseLong((String) expiresAt) > now) {
+				pods.add((String) pod);
+			}
+		});
+		return pods;
+	}
+
+	private long expiresAt() {
+		return System.currentTimeMillis() + ttlSeconds * 1000;
+	}
+}
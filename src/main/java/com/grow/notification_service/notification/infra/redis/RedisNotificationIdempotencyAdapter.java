@@ -0,0 +1,60 @@
+package com.grow.notification_service.notification.infra.redis;
+
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.notification.application.port.NotificationIdempotencyPort;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis String 기반 처리 이력
+ * key: notification:idem:{지문 16진수}, value: 1, TTL: notification.idempotency.ttl-seconds
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisNotificationIdempotencyAdapter implements NotificationIdempotencyPort {
+
+	private static final String KEY_PREFIX = "notification:idem:";
+
+	private final StringRedisTemplate redis;
+
+	@Value("${notification.idempotency.ttl-seconds:3600}")
+	private long ttlSeconds;
+
+	@Override
+	public boolean seen(long fingerprint) {
+		try {
+			return Boolean.TRUE.equals(redis.hasKey(key(fingerprint)));
+		} catch (Exception e) {
+			// 확인할 수 없으면 처리 쪽으로 (중복 저장이 유실보다 낫다)
+			log.warn("[IDEMPOTENCY][SEEN][FAIL] fingerprint={}", Long.toHexString(fingerprint), e);
+			return false;
+		}
+	}
+
+	@Override
+	public void remember(Collection<Long> fingerprints) {
+		if (fingerprints.isEmpty()) {
+			return;
+		}
+		redis.executePipelined((RedisCallback<Object>) connection -> {
+			StringRedisConnection conn = (StringRedisConnection) connection;
+			for (Long fingerprint : fingerprints) {
+				conn.setEx(key(fingerprint), ttlSeconds, "1");
+			}
+			return null;
+		});
+	}
+
+	private static String key(long fingerprint) {
+		return KEY_PREFIX + Long.toHexString(fingerprint);
+	}
+}
@@ -0,0 +1,45 @@
+package com.grow.notification_service.notification.infra.redis;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.global.util.JsonUtils;
+import com.grow.notification_service.notification.application.port.SseRelayPort;
+import com.grow.notification_service.notification.application.sse.SseBroadcastMessage;
+import com.grow.notification_service.notification.application.sse.SseRelayMessage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 파드별 Redis Pub/Sub 채널(sse:pod:{podId})로 SSE 메시지 전달
+ * 모든 파드에 브로드캐스트하지 않고 연결을 가진 파드의 채널에만 발행합니다.
+ * 다수 회원 대상 브로드캐스트만 공용 채널(sse:broadcast)로 한 번 발행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisSseRelayAdapter implements SseRelayPort {
+
+	private static final String CHANNEL_PREFIX = "sse:pod:";
+	public static final String BROADCAST_CHANNEL = "sse:broadcast";
+
+	private final StringRedisTemplate redis;
+
+	public static String channelOf(String podId) {
+		return CHANNEL_PREFIX + podId;
+	}
+
+	@Override
+	public void publish(String podId, SseRelayMessage message) {
+		redis.convertAndSend(channelOf(podId), JsonUtils.toJsonString(message));
+		log.debug("[SSE][RELAY][PUBLISH] podId={}, memberId={}", podId, message.memberId());
+	}
+
+	@Override
+	public void broadcast(SseBroadcastMessage message) {
+		redis.convertAndSend(BROADCAST_CHANNEL, JsonUtils.toJsonString(message));
+		log.debug("[SSE][RELAY][BROADCAST] type={}, members={}", message.notificationType(),
+			message.isAll() ? "ALL" : message.memberIds().size());
+	}
+}
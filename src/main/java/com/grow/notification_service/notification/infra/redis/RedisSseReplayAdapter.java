@@ -0,0 +1,109 @@
+package com.grow.notification_service.notification.infra.redis;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.global.util.JsonUtils;
+import com.grow.notification_service.notification.application.port.SseReplayPort;
+import com.grow.notification_service.notification.application.sse.SseFrame;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Sorted Set 기반 회원별 재전송 버퍼
+ * key: sse:replay:{memberId} (score: 이벤트 id, member: 이벤트 JSON)
+ * key: sse:replay:{memberId}:floor (이 값보다 큰 id는 버퍼에 빠짐없이 있음)
+ *
+ * <p>두 키는 Lua 스크립트에서 함께 다루므로 memberId를 해시 태그({})로 감싸
+ * Redis Cluster에서도 같은 슬롯에 놓이게 합니다(CROSSSLOT 방지).
+ *
+ * <p>추가와 용량 초과분 제거, floor 갱신을 Lua 스크립트 하나로 원자적으로 처리합니다.
+ * 버퍼가 처음 만들어질 때 floor는 첫 이벤트 id - 1 이고, 이벤트가 밀려날 때마다
+ * 밀려난 이벤트 중 가장 큰 id로 올라갑니다. Last-Event-ID가 floor보다 작으면
+ * 버퍼만으로는 이어줄 수 없으므로 empty를 반환합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisSseReplayAdapter implements SseReplayPort {
+
+	private static final String KEY_PREFIX = "sse:replay:";
+	private static final String FLOOR_SUFFIX = ":floor";
+
+	private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+		redis.call('SET', KEYS[2], ARGV[5], 'NX')
+		redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+		local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[3])
+		if overflow > 0 then
+			local trimmed = redis.call('ZRANGE', KEYS[1], overflow - 1, overflow - 1, 'WITHSCORES')
+			redis.call('ZREMRANGEBYRANK', KEYS[1], 0, overflow - 1)
+			redis.call('SET', KEYS[2], trimmed[2])
+		end
+		redis.call('EXPIRE', KEYS[1], ARGV[4])
+		redis.call('EXPIRE', KEYS[2], ARGV[4])
+		return overflow
+		""", Long.class);
+
+	private final StringRedisTemplate redis;
+
+	@Value("${sse.replay.capacity:50}")
+	private int capacity;
+
+	@Value("${sse.replay.ttl-seconds:600}")
+	private long ttlSeconds;
+
+	@Override
+	public void append(Long memberId, SseFrame frame) {
+		try {
+			redis.execute(APPEND_SCRIPT, List.of(bufferKey(memberId), floorKey(memberId)),
+				String.valueOf(frame.id()),
+				JsonUtils.toJsonString(frame),
+				String.valueOf(capacity),
+				String.valueOf(ttlSeconds),
+				String.valueOf(frame.id() - 1));
+		} catch (Exception e) {
+			// 버퍼에 못 넣어도 재연결 시 DB 조회로 이어줄 수 있으므로 전송은 계속
+			log.warn("[SSE][REPLAY][APPEND][FAIL] memberId={}, id={}", memberId, frame.id(), e);
+		}
+	}
+
+	@Override
+	public Optional<List<SseFrame>> framesAfter(Long memberId, long lastEventId) {
+		try {
+			String floor = redis.opsForValue().get(floorKey(memberId));
+			if (floor == null || Long.parseLong(floor) > lastEventId) {
+				return Optional.empty();
+			}
+
+			Set<String> raw = redis.opsForZSet()
+				.rangeByScore(bufferKey(memberId), lastEventId + 1, Double.POSITIVE_INFINITY);
+			if (raw == null) {
+				return Optional.empty();
+			}
+			return Optional.of(raw.stream()
+				.map(json -> JsonUtils.fromJsonString(json, SseFrame.class))
+				.toList());
+		} catch (Exception e) {
+			log.warn("[SSE][REPLAY][READ][FAIL] memberId={}, lastEventId={}", memberId, lastEventId, e);
+			return Optional.empty();
+		}
+	}
+
+	/** 해시 태그로 감싼 버퍼 키 (sse:replay:{memberId}) */
+	private static String bufferKey(Long memberId) {
+		return KEY_PREFIX + "{" + memberId + "}";
+	}
+
+	/** 버퍼 키와 같은 슬롯에 놓이는 floor 키 (sse:replay:{memberId}:floor) */
+	private static String floorKey(Long memberId) {
+		return bufferKey(memberId) + FLOOR_SUFFIX;
+	}
+}
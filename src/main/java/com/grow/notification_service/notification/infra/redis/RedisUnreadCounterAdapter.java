@@ -0,0 +1,95 @@
+package com.grow.notification_service.notification.infra.redis;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.notification.application.port.UnreadCounterPort;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis String 기반 읽지 않은 개수 카운터
+ * key: unread:{counter}:{memberId}
+ *
+ * <p>증감은 키가 있을 때만 Lua 스크립트로 원자적으로 처리합니다. 키가 없을 때 증감하면
+ * 부분적인 값이 남으므로, 없는 키는 호출 측이 DB에서 센 값으로 채웁니다.
+ * 어긋난 값이 남더라도 TTL이 지나면 다시 세어지도록 변경 시마다 만료 시간을 연장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisUnreadCounterAdapter implements UnreadCounterPort {
+
+	private static final String KEY_PREFIX = "unread:";
+
+	private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			return -1
+		end
+		local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+		if value < 0 then
+			value = 0
+			redis.call('SET', KEYS[1], 0)
+		end
+		redis.call('EXPIRE', KEYS[1], ARGV[2])
+		return value
+		""", Long.class);
+
+	private final StringRedisTemplate redis;
+
+	@Value("${sse.unread.ttl-seconds:3600}")
+	private long ttlSeconds;
+
+	@Override
+	public OptionalLong get(String counter, Long memberId) {
+		try {
+			String value = redis.opsForValue().get(key(counter, memberId));
+			return value != null ? OptionalLong.of(Long.parseLong(value)) : OptionalLong.empty();
+		} catch (Exception e) {
+			log.warn("[UNREAD][GET][FAIL] counter={}, memberId={}", counter, memberId, e);
+			return OptionalLong.empty();
+		}
+	}
+
+	@Override
+	public OptionalLong add(String counter, Long memberId, long delta) {
+		try {
+			Long value = redis.execute(ADD_SCRIPT, List.of(key(counter, memberId)),
+				String.valueOf(delta), String.valueOf(ttlSeconds));
+			return value != null && value >= 0 ? OptionalLong.of(value) : OptionalLong.empty();
+		} catch (Exception e) {
+			log.warn("[UNREAD][ADD][FAIL] counter={}, memberId={}, delta={}", counter, memberId, delta, e);
+			return OptionalLong.empty();
+		}
+	}
+
+	@Override
+	public void set(String counter, Long memberId, long value) {
+		try {
+			redis.opsForValue().set(key(counter, memberId), String.valueOf(value), Duration.ofSeconds(ttlSeconds));
+		} catch (Exception e) {
+			log.warn("[UNREAD][SET][FAIL] counter={}, memberId={}", counter, memberId, e);
+		}
+	}
+
+	@Override
+	public void evict(String counter, Long memberId) {
+		try {
+			redis.delete(key(counter, memberId));
+		} catch (Exception e) {
+			log.warn("[UNREAD][EVICT][FAIL] counter={}, memberId={}", counter, memberId, e);
+		}
+	}
+
+	private static String key(String counter, Long memberId) {
+		return KEY_PREFIX + counter + ":" + memberId;
+	}
+}
@@ -0,0 +1,57 @@
+package com.grow.notification_service.notification.infra.redis;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.grow.notification_service.global.util.JsonUtils;
+import com.grow.notification_service.notification.application.sse.SseBroadcastMessage;
+import com.grow.notification_service.notification.application.sse.SsePodIdentity;
+import com.grow.notification_service.notification.application.sse.SseRelayMessage;
+import com.grow.notification_service.notification.application.sse.SseSendService;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 현재 파드 전용 채널과 브로드캐스트 채널을 구독하여, 다른 파드가 전달한 메시지를
+ * 이 파드에 연결된 Emitter로 전송합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseRelayListener implements MessageListener {
+
+	private final RedisMessageListenerContainer container;
+	private final SsePodIdentity podIdentity;
+	private final SseSendService sseSendService;
+
+	@PostConstruct
+	void subscribe() {
+		String channel = RedisSseRelayAdapter.channelOf(podIdentity.getPodId());
+		container.addMessageListener(this, ChannelTopic.of(channel));
+		container.addMessageListener(this, ChannelTopic.of(RedisSseRelayAdapter.BROADCAST_CHANNEL));
+		log.info("[SSE][RELAY] 파드 채널 구독 - channel={}", channel);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+		try {
+			if (RedisSseRelayAdapter.BROADCAST_CHANNEL.equals(channel)) {
+				sseSendService.deliverBroadcast(JsonUtils.fromJsonString(body, SseBroadcastMessage.class));
+				return;
+			}
+			SseRelayMessage relayed = JsonUtils.fromJsonString(body, SseRelayMessage.class);
+			sseSendService.deliverLocally(relayed);
+		} catch (Exception e) {
+			log.warn("[SSE][RELAY][RECV][FAIL] body={}", body, e);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package com.grow.notification_service.notification.presentation.controller;
+
+import com.grow.notification_service.notification.application.dto.LongPollResponse;
+import com.grow.notification_service.notification.application.exception.SseAdmissionException;
+import com.grow.notification_service.notification.application.sse.SseSendService;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Set;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/notification")
+public class LongPollController {
+
+    private final SseSendService sseSendService;
+
+    /**
+     * SSE 스트림을 버퍼링하는 프록시 뒤의 클라이언트를 위한 long-poll 엔드포인트입니다.
+     * 목록 API를 주기적으로 조회하는 대신 이 엔드포인트를 반복 호출하면 SSE와 같은 이벤트를 받습니다.
+     *
+     * <p>놓친 알림이 있으면 바로 응답하고, 없으면 다음 이벤트가 오거나 대기 시간(기본 약 25초)이 지날 때까지
+     * 요청을 붙잡아 둡니다. 응답의 {@code cursor}를 다음 요청에 그대로 보내면 SSE의 Last-Event-ID처럼 이어받습니다.
+     *
+     * <p>파드의 연결 예산을 넘으면 503과 {@code Retry-After}(초)를 돌려줍니다.
+     *
+     * @param memberId 클라이언트의 사용자 ID (헤더에서 추출됨)
+     * @param cursor 이전 응답의 cursor. 첫 요청이면 생략하며, 이때는 미전송 알림을 받습니다.
+     * @param types 받을 알림 유형 (쉼표로 구분). 없으면 모든 유형
+     * @return 이벤트 목록과 다음 cursor
+     */
+    @GetMapping("/poll")
+    public DeferredResult<LongPollResponse> poll(
+        @RequestHeader("X-Authorization-Id") Long memberId,
+        @RequestParam(value = "cursor", required = false) Long cursor,
+        @RequestParam(value = "types", required = false) Set<NotificationType> types
+    ) {
+        return sseSendService.poll(memberId, cursor, types);
+    }
+
+    @ExceptionHandler(SseAdmissionException.class)
+    public ResponseEntity<Void> handleAdmission(SseAdmissionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf((e.getRetryAfterMillis() + 999) / 1000))
+            .header(HttpHeaders.CACHE_CONTROL, "no-store")
+            .build();
+    }
+}
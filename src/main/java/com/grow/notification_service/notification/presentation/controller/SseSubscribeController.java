@@ -0,0 +1,64 @@
+package com.grow.notification_service.notification.presentation.controller;
+
+import com.grow.notification_service.notification.application.sse.SseSendService;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/notification")
+public class SseSubscribeController {
+
+    private final SseSendService sseSendService;
+
+    /**
+     * SSE (Server-Sent Events) 연결을 위한 구독 엔드포인트입니다.
+     * 이 메서드는 클라이언트가 최초로 SSE 연결을 시도할 때 호출되며,
+     * API Gateway에서 전달된 헤더를 통해 memberId를 추출하여 서비스에 전달합니다.
+     * 연결이 성공적으로 이루어지면 SseEmitter 객체를 반환하여 지속적인 이벤트 스트림을 제공합니다.
+     *
+     * <p>이 엔드포인트는 GET 요청을 처리하며, text/event-stream 형식으로 응답을 생성합니다.
+     * 클라이언트는 이 엔드포인트를 통해 서버로부터 실시간 알림을 수신할 수 있습니다.
+     *
+     * <p><b>주의:</b> memberId는 "X-Authorization-Id" 헤더를 통해 전달되어야 하며,
+     * 이 값은 API Gateway에서 인증된 사용자 ID로 가정합니다. 연결 후 이벤트 전송은
+     * 별도의 서비스 로직에서 처리됩니다.
+     *
+     * <p>{@code types}(예: {@code ?types=NOTE,QUIZ})를 주면 그 유형의 알림만 받습니다. 브라우저 EventSource는
+     * 같은 URL로 재연결하므로 필터가 유지되며, Last-Event-ID 재전송에도 같은 필터가 적용됩니다.
+     *
+     * @param memberId 클라이언트의 사용자 ID (헤더에서 추출됨). Long 타입으로, null이 아닌 유효한 ID여야 합니다.
+     * @param lastEventId 재연결 시 브라우저가 보내는 마지막 수신 이벤트 ID. 있으면 그 이후 알림을 재전송합니다.
+     * @param types 받을 알림 유형 (쉼표로 구분). 없으면 모든 유형
+     * @return SseEmitter 객체. 이 객체를 통해 서버-클라이언트 간 SSE 연결이 유지됩니다.
+     */
+    @GetMapping(value = "/subscribe",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    public SseEmitter subscribe(
+        @RequestHeader("X-Authorization-Id") Long memberId,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+        @RequestParam(value = "types", required = false) Set<NotificationType> types,
+        HttpServletResponse response
+    ) {
+        // SSE  헤더
+        response.setHeader("Content-Type", "text/event-stream");
+        response.setHeader("Cache-Control", "no-cache, no-transform"); // 캐시 방지
+        response.setHeader("Connection", "keep-alive"); // 연결 유지
+        response.setHeader("X-Accel-Buffering", "no"); // nginx 프록시 버퍼링 방지
+        response.setCharacterEncoding("UTF-8"); // UTF-8 인코딩 설정
+
+        return sseSendService.subscribe(memberId, lastEventId, types);
+    }
+}
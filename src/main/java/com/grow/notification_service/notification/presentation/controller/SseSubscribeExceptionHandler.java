@@ -0,0 +1,31 @@
+package com.grow.notification_service.notification.presentation.controller;
+
+import com.grow.notification_service.notification.application.exception.SseAdmissionException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * SSE 구독 엔드포인트 전용 예외 처리입니다.
+ *
+ * <p>연결 예산 초과로 거절된 구독에는 503과 {@code Retry-After}(초)를 돌려주어 게이트웨이가
+ * 다른 파드로 다시 보낼 수 있게 하고, 본문에는 SSE {@code retry:} 필드(밀리초)를 담아
+ * EventSource 클라이언트의 재연결 간격도 같은 값으로 맞춥니다.
+ */
+@RestControllerAdvice(assignableTypes = SseSubscribeController.class)
+public class SseSubscribeExceptionHandler {
+
+    @ExceptionHandler(SseAdmissionException.class)
+    public ResponseEntity<String> handleAdmission(SseAdmissionException e) {
+        long retryAfterSeconds = (e.getRetryAfterMillis() + 999) / 1000;
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+            .header(HttpHeaders.CACHE_CONTROL, "no-store")
+            .contentType(MediaType.TEXT_EVENT_STREAM)
+            .body("retry:" + e.getRetryAfterMillis() + "\n\n");
+    }
+}
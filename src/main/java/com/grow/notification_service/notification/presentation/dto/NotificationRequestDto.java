@@ -1,6 +1,8 @@
 
 package com.grow.notification_service.notification.presentation.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
 import jakarta.validation.constraints.NotBlank;
@@ -22,7 +24,7 @@ import java.time.LocalDateTime;
  * @see LocalDateTime
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @Jacksonized
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class NotificationRequestDto {
@@ -47,6 +49,15 @@ public class NotificationRequestDto {
 
     /**
      * 알림 생성 타임스탬프.
+     * 프로듀서마다 이벤트의 필드 이름이 달라(occurredAt, createdAt) 함께 받습니다. 중복 요청 판별에 쓰입니다.
      */
+    @JsonAlias({"occurredAt", "createdAt"})
     private LocalDateTime timestamp;
+
+    /**
+     * Kafka 재수신 여부 (재시도 토픽 헤더, 재전달 횟수). 소비자가 레코드 헤더를 보고 채우며 JSON으로 주고받지 않습니다.
+     * 중복 요청 판별 시 파드 밖 기록까지 확인하는 데 쓰입니다.
+     */
+    @JsonIgnore
+    private boolean redelivered;
 }
\ No newline at end of file
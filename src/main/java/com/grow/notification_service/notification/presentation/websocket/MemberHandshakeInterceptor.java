@@ -0,0 +1,36 @@
+package com.grow.notification_service.notification.presentation.websocket;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+/**
+ * WebSocket 핸드셰이크 시 API Gateway가 넣어 준 {@code X-Authorization-Id} 헤더를 세션 속성으로 옮깁니다.
+ * 헤더가 없거나 숫자가 아니면 401로 핸드셰이크를 거절합니다.
+ */
+public class MemberHandshakeInterceptor implements HandshakeInterceptor {
+
+    static final String MEMBER_ID = "memberId";
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String header = request.getHeaders().getFirst("X-Authorization-Id");
+        try {
+            attributes.put(MEMBER_ID, Long.parseLong(header == null ? "" : header.trim()));
+            return true;
+        } catch (NumberFormatException e) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
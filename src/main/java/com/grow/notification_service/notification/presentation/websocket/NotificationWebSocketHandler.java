@@ -0,0 +1,129 @@
+package com.grow.notification_service.notification.presentation.websocket;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.grow.notification_service.global.util.JsonUtils;
+import com.grow.notification_service.notification.application.dto.NotificationAck;
+import com.grow.notification_service.notification.application.exception.SseAdmissionException;
+import com.grow.notification_service.notification.application.sse.NotificationAckBuffer;
+import com.grow.notification_service.notification.application.sse.SseConnection;
+import com.grow.notification_service.notification.application.sse.SseSendService;
+import com.grow.notification_service.notification.application.sse.SseSink;
+import com.grow.notification_service.notification.application.sse.WebSocketSseSink;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <h2>알림 WebSocket 엔드포인트 ({@code /api/v1/notification/ws})</h2>
+ * SSE와 같은 알림을 WebSocket으로 보내고, 클라이언트가 같은 소켓으로 보낸 받음/읽음 ack를
+ * {@link NotificationAckBuffer}에 모아 묶음 UPDATE로 반영합니다.
+ *
+ * <p>연결은 {@link SseSendService#subscribe(Long, SseSink, String, Set)}로 SSE 연결과 같은 레지스트리에 등록되므로 파드 간 전달, 재전송, 유형 필터, 묶음 전송, 배포 시 정리가 그대로 적용됩니다.
+ * 쿼리 파라미터 {@code lastEventId}, {@code types}는 SSE 구독의 Last-Event-ID 헤더, types 파라미터와 같습니다.
+ *
+ * <p>연결 예산을 넘으면 1013(Try Again Later)으로 닫고 사유에 재시도 대기 시간(밀리초)을 담습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sse.websocket.enabled", havingValue = "true")
+public class NotificationWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String CONNECTION = "sseConnection";
+
+    private final SseSendService sseSendService;
+    private final NotificationAckBuffer ackBuffer;
+    private final int sendTimeLimitMillis;
+    private final int bufferSizeLimit;
+
+    public NotificationWebSocketHandler(SseSendService sseSendService,
+                                        NotificationAckBuffer ackBuffer,
+                                        @Value("${sse.websocket.send-time-limit-ms:2000}") int sendTimeLimitMillis,
+                                        @Value("${sse.websocket.buffer-size-limit:524288}") int bufferSizeLimit) {
+        this.sseSendService = sseSendService;
+        this.ackBuffer = ackBuffer;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.bufferSizeLimit = bufferSizeLimit;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        Long memberId = memberId(session);
+        MultiValueMap<String, String> params = UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams();
+        Set<NotificationType> types;
+        try {
+            types = parseTypes(params.getFirst("types"));
+        } catch (IllegalArgumentException e) {
+            session.close(CloseStatus.BAD_DATA.withReason("unknown notification type"));
+            return;
+        }
+
+        WebSocketSseSink sink = new WebSocketSseSink(
+            new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis, bufferSizeLimit));
+        try {
+            SseConnection connection = sseSendService.subscribe(memberId, sink, params.getFirst("lastEventId"), types);
+            session.getAttributes().put(CONNECTION, connection);
+        } catch (SseAdmissionException e) {
+            session.close(CloseStatus.SERVICE_OVERLOAD.withReason("retry:" + e.getRetryAfterMillis()));
+        }
+    }
+
+    /**
+     * 클라이언트 ack. {@code {"delivered":[..],"read":[..]}} 형식이며 형식이 맞지 않으면 무시합니다.
+     */
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        NotificationAck ack;
+        try {
+            ack = JsonUtils.fromJsonString(message.getPayload(), NotificationAck.class);
+        } catch (RuntimeException e) {
+            log.debug("[Notification] 잘못된 ack 무시 - sessionId: {}", session.getId());
+            return;
+        }
+        if (!ackBuffer.ack(memberId(session), ack)) {
+            log.debug("[Notification] ack ID 수 초과로 무시 - sessionId: {}", session.getId());
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        session.close(CloseStatus.SERVER_ERROR);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Object connection = session.getAttributes().remove(CONNECTION);
+        if (connection instanceof SseConnection sseConnection) {
+            sseSendService.unsubscribe(sseConnection);
+        }
+    }
+
+    private static Long memberId(WebSocketSession session) {
+        return (Long) session.getAttributes().get(MemberHandshakeInterceptor.MEMBER_ID);
+    }
+
+    static Set<NotificationType> parseTypes(String types) {
+        if (types == null || types.isBlank()) {
+            return null;
+        }
+        Set<NotificationType> parsed = EnumSet.noneOf(NotificationType.class);
+        for (String type : types.split(",")) {
+            if (!type.isBlank()) {
+                parsed.add(NotificationType.valueOf(type.trim()));
+            }
+        }
+        return parsed;
+    }
+}
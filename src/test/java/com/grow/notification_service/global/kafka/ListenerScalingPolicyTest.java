@@ -0,0 +1,38 @@
+package com.grow.notification_service.global.kafka;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListenerScalingPolicyTest {
+
+    // min 1, max 12, 올림 lag 1000, 내림 lag 100, 목표 소진 60초, 처리 시간 상한 500ms, 4주기 연속 잠잠하면 내림
+    private final ListenerScalingPolicy policy = new ListenerScalingPolicy(1, 12, 1000, 100, 60, 500, 4);
+
+    @Test
+    @DisplayName("target: lag이 60초 안에 빠지지 않으면 2배로 올리되 파티션 수를 넘지 않는다")
+    void target_scalesUpToPartitionCount() {
+        assertThat(policy.target(3, 21, 50_000, 100, 20, 0)).isEqualTo(6);
+        assertThat(policy.target(6, 7, 50_000, 100, 20, 0)).isEqualTo(7);
+        assertThat(policy.target(7, 7, 50_000, 100, 20, 0)).isEqualTo(7);
+        assertThat(policy.target(8, 48, 50_000, 100, 20, 0)).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("target: 지금 속도로 금방 빠지는 lag이나 처리 시간이 상한을 넘은 경우에는 올리지 않는다")
+    void target_holdsWhenDrainingOrSaturated() {
+        assertThat(policy.target(3, 21, 5_000, 1_000, 20, 0)).isEqualTo(3);
+        assertThat(policy.target(3, 21, 50_000, 100, 900, 0)).isEqualTo(3);
+        assertThat(policy.target(3, 21, 50_000, 0, Double.NaN, 0)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("target: lag이 작은 상태가 이어져야 1씩 내리고 최소값 아래로는 내리지 않는다")
+    void target_scalesDownGradually() {
+        assertThat(policy.calm(50)).isTrue();
+        assertThat(policy.target(6, 21, 50, 100, 20, 3)).isEqualTo(6);
+        assertThat(policy.target(6, 21, 50, 100, 20, 4)).isEqualTo(5);
+        assertThat(policy.target(1, 21, 0, 0, Double.NaN, 10)).isEqualTo(1);
+    }
+}
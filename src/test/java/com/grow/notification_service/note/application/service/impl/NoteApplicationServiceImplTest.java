@@ -9,6 +9,8 @@ import com.grow.notification_service.note.application.port.MemberPort;
 import com.grow.notification_service.note.domain.model.Note;
 import com.grow.notification_service.note.domain.repository.NoteRepository;
 import com.grow.notification_service.note.presentation.dto.SendNoteRequest;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent.Counter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,6 +20,7 @@ import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -46,6 +49,9 @@ class NoteApplicationServiceImplTest {
 	@Mock
 	private NotificationMetrics metrics;
 
+	@Mock
+	private ApplicationEventPublisher publisher;
+
 	@InjectMocks
 	private com.grow.notification_service.note.application.service.impl.NoteApplicationServiceImpl service;
 
@@ -178,6 +184,7 @@ class NoteApplicationServiceImplTest {
 			service.markRead(memberId, noteId);
 
 			verify(noteRepository).markRead(noteId, memberId);
+			verify(publisher).publishEvent(UnreadCountChangedEvent.recount(memberId, Counter.NOTE));
 		}
 
 		@Test
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.grow.notification_service.global.exception.NoticeException;
+import com.grow.notification_service.notice.application.event.NoticeCreatedEvent;
 import com.grow.notification_service.notice.domain.model.Notice;
 import com.grow.notification_service.notice.domain.repository.NoticeRepository;
 import com.grow.notification_service.qna.application.port.AuthorityCheckerPort;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -31,6 +33,7 @@ class NoticeApplicationServiceImplTest {
 	@Mock private NoticeRepository noticeRepository;
 	@Mock private AuthorityCheckerPort authorityCheckerPort;
 	@Mock private Clock clock;
+	@Mock private ApplicationEventPublisher eventPublisher;
 
 	@InjectMocks
 	private NoticeApplicationServiceImpl service;
@@ -75,6 +78,7 @@ class NoticeApplicationServiceImplTest {
 
 		verify(authorityCheckerPort).isAdmin(adminId);
 		verify(noticeRepository).save(any(Notice.class));
+		verify(eventPublisher).publishEvent(new NoticeCreatedEvent(10L, "제목", true, fixedNow));
 	}
 
 	@Test
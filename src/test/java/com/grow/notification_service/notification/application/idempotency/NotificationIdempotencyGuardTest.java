@@ -0,0 +1,123 @@
+package com.grow.notification_service.notification.application.idempotency;
+
+import com.grow.notification_service.notification.application.port.NotificationIdempotencyPort;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+import com.grow.notification_service.notification.presentation.dto.NotificationRequestDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class NotificationIdempotencyGuardTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 10, 18, 12, 0, 0, 123_000_000);
+
+    private NotificationIdempotencyPort port;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationIdempotencyGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        port = mock(NotificationIdempotencyPort.class);
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new NotificationIdempotencyGuard(port, meterRegistry, 10_000, 0.01, 0);
+    }
+
+    private static NotificationRequestDto request(Long memberId, String content, LocalDateTime timestamp) {
+        return NotificationRequestDto.builder()
+            .memberId(memberId)
+            .content(content)
+            .notificationType(NotificationType.NOTE)
+            .timestamp(timestamp)
+            .build();
+    }
+
+    private double dedupe(String result) {
+        return meterRegistry.get("notification_dedupe_total").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("isDuplicate: 처음 보는 요청은 Redis를 조회하지 않고 통과시킨다")
+    void isDuplicate_newRequestSkipsRedis() {
+        assertThat(guard.isDuplicate(request(1L, "쪽지", AT))).isFalse();
+
+        verifyNoInteractions(port);
+    }
+
+    @Test
+    @DisplayName("isDuplicate: 처리한 요청이 다시 들어오면 중복으로 건너뛰고 집계한다")
+    void isDuplicate_afterRemember() {
+        guard.remember(request(1L, "쪽지", AT));
+
+        assertThat(guard.isDuplicate(request(1L, "쪽지", AT))).isTrue();
+        assertThat(guard.isDuplicate(request(1L, "쪽지", AT.plusNanos(1)))).isFalse();
+        assertThat(guard.isDuplicate(request(2L, "쪽지", AT))).isFalse();
+        assertThat(dedupe("duplicate")).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("flush 이후에는 Redis 기록으로 중복을 확정하고, Redis에 없으면 오탐으로 처리한다")
+    void isDuplicate_confirmsWithRedisAfterFlush() {
+        NotificationRequestDto request = request(1L, "쪽지", AT);
+        guard.remember(request);
+        guard.flush();
+
+        ArgumentCaptor<Collection<Long>> remembered = ArgumentCaptor.forClass(Collection.class);
+        verify(port).remember(remembered.capture());
+        assertThat(remembered.getValue()).containsExactly(NotificationIdempotencyGuard.fingerprint(request));
+
+        when(port.seen(anyLong())).thenReturn(true);
+        assertThat(guard.isDuplicate(request)).isTrue();
+
+        when(port.seen(anyLong())).thenReturn(false);
+        assertThat(guard.isDuplicate(request)).isFalse();
+        assertThat(dedupe("false_positive")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("생성 시각이 없는 요청과 같은 목록 안의 중복을 구분한다")
+    void isDuplicate_withinBatchAndUnkeyed() {
+        Set<Long> batch = new HashSet<>();
+
+        assertThat(guard.isDuplicate(request(1L, "쪽지", AT), batch)).isFalse();
+        assertThat(guard.isDuplicate(request(1L, "쪽지", AT), batch)).isTrue();
+        assertThat(guard.isDuplicate(request(1L, "쪽지", null), batch)).isFalse();
+        assertThat(guard.isDuplicate(request(1L, "쪽지", null), batch)).isFalse();
+        assertThat(NotificationIdempotencyGuard.fingerprint(request(1L, "쪽지", null)))
+            .isEqualTo(NotificationIdempotencyGuard.NONE);
+    }
+
+    @Test
+    @DisplayName("isDuplicate: 재수신 표시가 있는 요청은 필터에 없어도 Redis 기록으로 중복을 확정한다")
+    void isDuplicate_redeliveredChecksRedisOnLocalMiss() {
+        NotificationRequestDto request = request(1L, "쪽지", AT).toBuilder().redelivered(true).build();
+        when(port.seen(NotificationIdempotencyGuard.fingerprint(request))).thenReturn(true);
+
+        assertThat(guard.isDuplicate(request)).isTrue();
+        assertThat(guard.isDuplicate(request(2L, "쪽지", AT))).isFalse();
+        verify(port, times(1)).seen(anyLong());
+        assertThat(dedupe("duplicate")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("isDuplicate: 기동 직후나 파티션 할당 뒤 recheck 구간에는 필터에 없는 요청도 Redis를 확인한다")
+    void isDuplicate_checksRedisWithinRecheckWindow() {
+        NotificationIdempotencyGuard warming = new NotificationIdempotencyGuard(port, meterRegistry, 10_000, 0.01, 60_000);
+        when(port.seen(anyLong())).thenReturn(true, false);
+
+        assertThat(warming.isDuplicate(request(1L, "쪽지", AT))).isTrue();
+        assertThat(warming.isDuplicate(request(2L, "쪽지", AT))).isFalse();
+        verify(port, times(2)).seen(anyLong());
+    }
+}
@@ -0,0 +1,48 @@
+package com.grow.notification_service.notification.application.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RotatingBloomFilterTest {
+
+    @Test
+    @DisplayName("기록한 키는 항상 포함으로 보고, 기록하지 않은 키의 오탐률은 목표 근처에 머문다")
+    void falsePositiveRateStaysNearTarget() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(10_000, 0.01);
+        SplittableRandom random = new SplittableRandom(42);
+        long[] keys = new long[10_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+            filter.put(keys[i]);
+        }
+
+        for (long key : keys) {
+            assertThat(filter.mightContain(key)).isTrue();
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(random.nextLong())) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("rotate: 기록은 한 번의 회전까지 유지되고 두 번째 회전에서 사라진다")
+    void rotateKeepsOneGeneration() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1_000, 0.01);
+        filter.put(0x1234_5678_9abc_def0L);
+
+        filter.rotate();
+        assertThat(filter.mightContain(0x1234_5678_9abc_def0L)).isTrue();
+
+        filter.rotate();
+        assertThat(filter.mightContain(0x1234_5678_9abc_def0L)).isFalse();
+    }
+}
@@ -1,6 +1,8 @@
 package com.grow.notification_service.notification.application.service.impl;
 
 import com.grow.notification_service.notification.application.dto.NotificationListItemResponse;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent.Counter;
 import com.grow.notification_service.notification.infra.persistence.repository.NotificationJpaRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,10 +10,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -22,6 +26,9 @@ class NotificationQueryServiceImplTest {
 	@Mock
 	private NotificationJpaRepository jpa;
 
+	@Mock
+	private ApplicationEventPublisher publisher;
+
 	@InjectMocks
 	private NotificationQueryServiceImpl service;
 
@@ -111,6 +118,46 @@ class NotificationQueryServiceImplTest {
 			assertThat(deleted).isFalse();     // 0 -> false
 			assertThat(deletedOld).isEqualTo(12);
 		}
+
+		@Test
+		@DisplayName("읽지 않은 개수가 바뀐 경우에만 변경 이벤트를 발행한다")
+		void publishesUnreadChanges() {
+			Long memberId = 5L;
+			LocalDateTime before = LocalDateTime.now().minusDays(30);
+
+			when(jpa.markAllRead(memberId)).thenReturn(3);
+			when(jpa.markOneRead(memberId, 1L)).thenReturn(0);
+			when(jpa.findIsRead(memberId, 2L)).thenReturn(Optional.of(false));
+			when(jpa.deleteByNotificationIdAndMemberId(2L, memberId)).thenReturn(1);
+			when(jpa.countUnreadBefore(memberId, before)).thenReturn(4L);
+			when(jpa.deleteOld(memberId, before)).thenReturn(12);
+
+			service.markAllRead(memberId);
+			service.markOneRead(memberId, 1L);
+			service.deleteOne(memberId, 2L);
+			service.deleteOlderThan(memberId, before);
+
+			InOrder inOrder = inOrder(publisher);
+			inOrder.verify(publisher).publishEvent(UnreadCountChangedEvent.reset(memberId, Counter.NOTIFICATION));
+			inOrder.verify(publisher).publishEvent(UnreadCountChangedEvent.add(memberId, Counter.NOTIFICATION, -1));
+			inOrder.verify(publisher).publishEvent(UnreadCountChangedEvent.add(memberId, Counter.NOTIFICATION, -4));
+			verifyNoMoreInteractions(publisher);
+		}
+
+		@Test
+		@DisplayName("markRead: 여러 건을 UPDATE 한 번으로 읽음 처리하고 바뀐 개수만큼 줄인다")
+		void markRead_groupsIds() {
+			Long memberId = 5L;
+			when(jpa.markRead(memberId, List.of(1L, 2L, 3L))).thenReturn(2);
+
+			int updated = service.markRead(memberId, List.of(1L, 2L, 3L));
+			int none = service.markRead(memberId, List.of());
+
+			assertThat(updated).isEqualTo(2);
+			assertThat(none).isZero();
+			verify(jpa, times(1)).markRead(anyLong(), anyCollection());
+			verify(publisher).publishEvent(UnreadCountChangedEvent.add(memberId, Counter.NOTIFICATION, -2));
+		}
 	}
 
 	@Nested
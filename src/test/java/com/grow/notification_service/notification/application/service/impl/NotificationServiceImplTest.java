@@ -68,7 +68,7 @@ class NotificationServiceImplTest {
         ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
 
         verify(sseSendService, timeout(5_000).times(1))
-            .sendNotification(memberIdCaptor.capture(), typeCaptor.capture(), messageCaptor.capture());
+            .sendNotification(memberIdCaptor.capture(), notNull(), typeCaptor.capture(), messageCaptor.capture());
 
         assertThat(memberIdCaptor.getValue()).isEqualTo(memberId);
         assertThat(typeCaptor.getValue()).isEqualTo(NotificationType.MATCHING_SUCCESS);
@@ -47,13 +47,13 @@ class NotificationServiceImplTestV3 {
             String currentThreadName = Thread.currentThread().getName();
             assertThat(currentThreadName).startsWith("task-");  // @Async 기본 풀 이름 확인
             return invocation.callRealMethod();
-        }).when(sseSendService).sendNotification(any(Long.class), any(NotificationType.class), any(String.class));
+        }).when(sseSendService).sendNotification(any(Long.class), any(Long.class), any(NotificationType.class), any(String.class));
 
         // when: 알림 처리
         notificationService.processNotification(request);
 
         // then: 비동기 호출 확인 (verify로 메서드 호출)
         verify(sseSendService, timeout(5000).times(1))
-                .sendNotification(any(Long.class), any(NotificationType.class), any(String.class));
+                .sendNotification(any(Long.class), any(Long.class), any(NotificationType.class), any(String.class));
     }
 }
\ No newline at end of file
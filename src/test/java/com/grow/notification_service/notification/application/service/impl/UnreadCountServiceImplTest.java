@@ -0,0 +1,71 @@
+package com.grow.notification_service.notification.application.service.impl;
+
+import com.grow.notification_service.note.domain.repository.NoteRepository;
+import com.grow.notification_service.notification.application.dto.UnreadBadgeResponse;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent;
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent.Counter;
+import com.grow.notification_service.notification.application.port.UnreadCounterPort;
+import com.grow.notification_service.notification.infra.persistence.repository.NotificationJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadCountServiceImplTest {
+
+	@Mock
+	private UnreadCounterPort counterPort;
+
+	@Mock
+	private NotificationJpaRepository notificationJpaRepository;
+
+	@Mock
+	private NoteRepository noteRepository;
+
+	@InjectMocks
+	private UnreadCountServiceImpl service;
+
+	@Test
+	@DisplayName("카운터가 있으면 COUNT 쿼리 없이 그 값을 사용한다")
+	void badge_usesCounters() {
+		when(counterPort.get("notification", 1L)).thenReturn(OptionalLong.of(5));
+		when(counterPort.get("note", 1L)).thenReturn(OptionalLong.of(2));
+
+		UnreadBadgeResponse badge = service.badge(1L);
+
+		assertThat(badge).isEqualTo(new UnreadBadgeResponse(5, 2));
+		verifyNoInteractions(notificationJpaRepository, noteRepository);
+	}
+
+	@Test
+	@DisplayName("카운터가 없을 때만 DB에서 세어 채운다")
+	void count_seedsMissingCounter() {
+		when(counterPort.get("notification", 1L)).thenReturn(OptionalLong.empty());
+		when(notificationJpaRepository.countUnread(1L)).thenReturn(9L);
+
+		long count = service.count(Counter.NOTIFICATION, 1L);
+
+		assertThat(count).isEqualTo(9L);
+		verify(counterPort).set("notification", 1L, 9L);
+	}
+
+	@Test
+	@DisplayName("변경 이벤트를 증감, 초기화, 재집계로 반영한다")
+	void apply_routesByChange() {
+		service.apply(UnreadCountChangedEvent.add(1L, Counter.NOTIFICATION, -1));
+		service.apply(UnreadCountChangedEvent.reset(1L, Counter.NOTIFICATION));
+		service.apply(UnreadCountChangedEvent.recount(1L, Counter.NOTE));
+
+		verify(counterPort).add("notification", 1L, -1);
+		verify(counterPort).set("notification", 1L, 0);
+		verify(counterPort).evict("note", 1L);
+	}
+}
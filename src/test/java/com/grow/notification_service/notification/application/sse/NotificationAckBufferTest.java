@@ -0,0 +1,80 @@
+package com.grow.notification_service.notification.application.sse;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.notification.application.dto.NotificationAck;
+import com.grow.notification_service.notification.application.service.NotificationQueryService;
+import com.grow.notification_service.notification.infra.persistence.repository.NotificationJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class NotificationAckBufferTest {
+
+    private NotificationJpaRepository notificationJpaRepository;
+    private NotificationQueryService notificationQueryService;
+    private NotificationAckBuffer ackBuffer;
+
+    @BeforeEach
+    void setUp() {
+        notificationJpaRepository = mock(NotificationJpaRepository.class);
+        notificationQueryService = mock(NotificationQueryService.class);
+        ackBuffer = new NotificationAckBuffer(notificationJpaRepository, notificationQueryService,
+            new NotificationMetrics(new SimpleMeterRegistry()), 5);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("flush: 회원별로 모인 ack를 종류마다 UPDATE 한 번으로 반영하고, 읽은 알림은 받은 것으로도 기록한다")
+    void flush_groupsAcksPerMember() {
+        ackBuffer.ack(1L, new NotificationAck(List.of(10L, 11L), null));
+        ackBuffer.ack(1L, new NotificationAck(List.of(11L), List.of(9L)));
+        ackBuffer.ack(2L, new NotificationAck(null, List.of(20L)));
+
+        ackBuffer.flush();
+
+        ArgumentCaptor<Collection<Long>> sent = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<Long>> read = ArgumentCaptor.forClass(Collection.class);
+        verify(notificationJpaRepository).markSent(eq(1L), sent.capture());
+        verify(notificationQueryService).markRead(eq(1L), read.capture());
+        assertThat(sent.getValue()).containsExactlyInAnyOrder(9L, 10L, 11L);
+        assertThat(read.getValue()).containsExactly(9L);
+        verify(notificationJpaRepository).markSent(eq(2L), anyCollection());
+        verify(notificationQueryService).markRead(eq(2L), anyCollection());
+        assertThat(ackBuffer.pendingMembers()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush: 반영에 실패한 회원의 ack는 다음 주기에 다시 시도한다")
+    void flush_requeuesOnFailure() {
+        ackBuffer.ack(1L, new NotificationAck(List.of(10L), null));
+        when(notificationJpaRepository.markSent(eq(1L), anyCollection()))
+            .thenThrow(new IllegalStateException("db down"))
+            .thenReturn(1);
+
+        ackBuffer.flush();
+        assertThat(ackBuffer.pendingMembers()).isEqualTo(1);
+
+        ackBuffer.flush();
+        assertThat(ackBuffer.pendingMembers()).isZero();
+        verify(notificationJpaRepository, times(2)).markSent(eq(1L), anyCollection());
+    }
+
+    @Test
+    @DisplayName("ack: 한 메시지의 ID 수가 상한을 넘으면 받지 않는다")
+    void ack_rejectsOversizedMessage() {
+        boolean accepted = ackBuffer.ack(1L, new NotificationAck(List.of(1L, 2L, 3L), List.of(4L, 5L, 6L)));
+
+        assertThat(accepted).isFalse();
+        assertThat(ackBuffer.pendingMembers()).isZero();
+    }
+}
@@ -0,0 +1,77 @@
+package com.grow.notification_service.notification.application.sse;
+
+import com.grow.notification_service.notification.application.exception.ErrorCode;
+import com.grow.notification_service.notification.application.exception.SseAdmissionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class SseAdmissionTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseEmitterRegistry registry;
+    private SseAdmission admission;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new SseEmitterRegistry(5);
+        admission = new SseAdmission(registry, meterRegistry, 2, 3_000);
+    }
+
+    private void connect(Long memberId) {
+        registry.register(new SseConnection(memberId, mock(SseEmitter.class), System.currentTimeMillis()));
+    }
+
+    @Test
+    @DisplayName("admit: 예산 안에서는 통과하고, 초과하면 재시도 시간과 함께 거절한다")
+    void admit_rejectsOverBudget() {
+        connect(1L);
+        admission.admit();
+        connect(2L);
+        admission.settle();
+
+        SseAdmissionException e = assertThrows(SseAdmissionException.class, admission::admit);
+
+        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SSE_CAPACITY_EXCEEDED);
+        assertThat(e.getRetryAfterMillis()).isBetween(3_000L, 6_000L);
+    }
+
+    @Test
+    @DisplayName("admit: 등록 전 예약도 함께 세어 동시 구독이 예산을 넘지 않는다")
+    void admit_countsPendingReservations() {
+        admission.admit();
+        admission.admit();
+
+        assertThrows(SseAdmissionException.class, admission::admit);
+
+        admission.settle();
+        admission.admit();
+    }
+
+    @Test
+    @DisplayName("stopAccepting: 파드 종료가 시작되면 예산이 남아 있어도 재시도 시간과 함께 거절한다")
+    void stopAccepting_rejectsAll() {
+        admission.stopAccepting();
+
+        SseAdmissionException e = assertThrows(SseAdmissionException.class, admission::admit);
+
+        assertThat(e.getRetryAfterMillis()).isBetween(3_000L, 6_000L);
+        assertThat(admission.load()).isZero();
+    }
+
+    @Test
+    @DisplayName("게이지: 현재 부하 비율과 예산을 노출한다")
+    void gauges_exposeLoadAndBudget() {
+        connect(1L);
+
+        assertThat(meterRegistry.get("sse_admission_load").gauge().value()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("sse_admission_budget").gauge().value()).isEqualTo(2);
+    }
+}
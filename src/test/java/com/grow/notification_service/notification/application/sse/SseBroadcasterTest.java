@@ -0,0 +1,118 @@
+package com.grow.notification_service.notification.application.sse;
+
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SseBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseEmitterRegistry registry;
+    private SseBroadcaster broadcaster;
+    private List<Runnable> chunks;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new SseEmitterRegistry(5);
+        chunks = new ArrayList<>();
+        SseConnectionWriter writer = new SseConnectionWriter(8, 2_000, Runnable::run,
+            new SseMetrics(meterRegistry), mock(SseDeliveryTracker.class));
+        broadcaster = new SseBroadcaster(registry, writer, meterRegistry, 2, task -> {
+            chunks.add(task);
+            task.run();
+        });
+    }
+
+    private SseSink connect(Long memberId) {
+        SseSink sink = mock(SseSink.class);
+        registry.register(new SseConnection(memberId, sink, System.currentTimeMillis()));
+        return sink;
+    }
+
+    @Test
+    @DisplayName("broadcast: 한 번 인코딩한 프레임을 모든 연결이 공유하고 청크 단위로 나누어 보낸다")
+    void broadcast_sharesEncodedFrameAcrossChunks() throws Exception {
+        List<SseSink> sinks = List.of(connect(1L), connect(2L), connect(3L), connect(3L), connect(4L));
+        EncodedSseFrame frame = EncodedSseFrame.of(new SseFrame(null, "[GROW]", "공지"));
+
+        int queued = broadcaster.broadcast(null, NotificationType.SERVICE_NOTICE, frame, c -> {});
+
+        assertThat(queued).isEqualTo(5);
+        assertThat(chunks).hasSize(3); // 5개 연결 / 청크 2
+        for (SseSink sink : sinks) {
+            verify(sink).send(same(frame));
+        }
+        assertThat(meterRegistry.get("sse_broadcast_recipients").summary().totalAmount()).isEqualTo(5);
+        assertThat(meterRegistry.get("sse_broadcast_duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("broadcast: 대상 회원 중 이 파드에 연결된 회원에게만 보낸다")
+    void broadcast_toMembersOnlyLocal() throws Exception {
+        SseSink target = connect(1L);
+        SseSink other = connect(2L);
+
+        int queued = broadcaster.broadcast(List.of(1L, 99L), NotificationType.SERVICE_NOTICE,
+            EncodedSseFrame.of(new SseFrame(null, "[GROW]", "공지")), c -> {});
+
+        assertThat(queued).isEqualTo(1);
+        verify(target).send(any());
+        verify(other, never()).send(any());
+    }
+
+    @Test
+    @DisplayName("broadcast: 해당 유형을 구독하지 않은 연결은 대상에서 제외한다")
+    void broadcast_skipsConnectionsFilteringOutType() throws Exception {
+        SseSink all = connect(1L);
+        SseSink quizOnly = mock(SseSink.class);
+        registry.register(new SseConnection(2L, quizOnly, System.currentTimeMillis(),
+            SseTypeFilter.maskOf(NotificationType.QUIZ)));
+
+        int queued = broadcaster.broadcast(null, NotificationType.SERVICE_NOTICE,
+            EncodedSseFrame.of(new SseFrame(null, "[GROW]", "공지"), 0, NotificationType.SERVICE_NOTICE), c -> {});
+
+        assertThat(queued).isEqualTo(1);
+        verify(all).send(any());
+        verify(quizOnly, never()).send(any());
+    }
+
+    @Test
+    @DisplayName("broadcast: max-rate를 지정하면 청크 투입 간격을 벌려 속도를 제한한다")
+    void broadcast_pacesChunksByMaxRate() {
+        SseConnectionWriter writer = new SseConnectionWriter(8, 2_000, Runnable::run,
+            new SseMetrics(meterRegistry), mock(SseDeliveryTracker.class));
+        SseBroadcaster throttled = new SseBroadcaster(registry, writer, meterRegistry, 2, Runnable::run, 100);
+        for (long id = 1; id <= 6; id++) {
+            connect(id);
+        }
+
+        long start = System.nanoTime();
+        int queued = throttled.broadcast(null, NotificationType.SERVICE_NOTICE,
+            EncodedSseFrame.of(new SseFrame(null, "[GROW]", "공지")), c -> {});
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(queued).isEqualTo(6);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(40); // 청크 3개, 청크당 20ms 간격
+    }
+
+    @Test
+    @DisplayName("EncodedSseFrame: SseEmitter와 같은 text/event-stream 형식으로 인코딩한다")
+    void encode_matchesEventStreamFormat() {
+        String encoded = new String(
+            EncodedSseFrame.of(new SseFrame(12L, "[댓글]", "첫 줄\n둘째 줄")).bytes(), StandardCharsets.UTF_8);
+
+        assertThat(encoded).isEqualTo("id:12\nevent:[댓글]\ndata:첫 줄\ndata:둘째 줄\n\n");
+        assertThat(new String(EncodedSseFrame.HEARTBEAT.bytes(), StandardCharsets.UTF_8)).isEqualTo(":\n\n");
+    }
+}
@@ -0,0 +1,193 @@
+package com.grow.notification_service.notification.application.sse;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.notification.application.exception.SseException;
+import com.grow.notification_service.notification.application.port.MemberPresencePort;
+import com.grow.notification_service.notification.application.port.SseRelayPort;
+import com.grow.notification_service.notification.application.service.UnreadCountService;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.mockito.Mockito;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 파드 두 개가 하나의 Redis를 공유하는 상황을 인메모리 Redis 대역으로 재현하여
+ * 프레즌스 기반 파드 간 전달을 검증합니다.
+ */
+class SseClusterDeliveryTest {
+
+    private LocalRedisStandIn redis;
+    private SseSendServiceImpl podA;
+    private SseSendServiceImpl podB;
+
+    @BeforeEach
+    void setUp() {
+        redis = new LocalRedisStandIn();
+        podA = pod("pod-a");
+        podB = pod("pod-b");
+    }
+
+    private SseSendServiceImpl pod(String podId) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        NotificationMetrics metrics = new NotificationMetrics(meterRegistry);
+        SseEmitterRegistry registry = new SseEmitterRegistry(5);
+        SseMetrics sseMetrics = new SseMetrics(meterRegistry);
+        SseConnectionWriter writer = new SseConnectionWriter(128, 2_000, Runnable::run, sseMetrics, mock(SseDeliveryTracker.class));
+        SseSendServiceImpl service = new SseSendServiceImpl(
+            registry, redis, redis, new SsePodIdentity(podId),
+            mock(SseReplayService.class), new SseHeartbeatWheel(25_000, 1, Runnable::run), writer,
+            new SseBroadcaster(registry, writer, meterRegistry, 1_000, Runnable::run),
+            new SseAdmission(registry, meterRegistry, Integer.MAX_VALUE, 5_000),
+            new SseReconnectPolicy(3_600_000, 0.2, 25_000, 30_000),
+            new SseCoalescer(0, 1, Set.of(), null, null, sseMetrics), mock(UnreadCountService.class),
+            meterRegistry, metrics, sseMetrics);
+        redis.subscribe(podId, service);
+        return service;
+    }
+
+    @Test
+    @DisplayName("다른 파드에 연결된 회원에게는 해당 파드 채널로만 전달된다")
+    void sendNotification_relaysOnlyToOwningPod() throws Exception {
+        try (MockedConstruction<SseEmitter> mocked = Mockito.mockConstruction(SseEmitter.class)) {
+            podB.subscribe(1L);
+            SseEmitter emitterOnB = mocked.constructed().get(0);
+
+            podA.sendNotification(1L, NotificationType.COMMENT, "hi");
+
+            verify(emitterOnB, times(1)).send(anySet()); // 알림
+            assertThat(redis.published).containsExactly("pod-b");
+        }
+    }
+
+    @Test
+    @DisplayName("로컬 연결만 있으면 Redis 채널에 발행하지 않는다")
+    void sendNotification_localOnly_doesNotPublish() throws Exception {
+        try (MockedConstruction<SseEmitter> mocked = Mockito.mockConstruction(SseEmitter.class)) {
+            podA.subscribe(2L);
+
+            podA.sendNotification(2L, NotificationType.COMMENT, "hi");
+
+            verify(mocked.constructed().get(0), times(1)).send(anySet());
+            assertThat(redis.published).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 파드에 나뉘어 연결된 회원은 로컬 전송과 원격 전달을 모두 받는다")
+    void sendNotification_localAndRemote() throws Exception {
+        try (MockedConstruction<SseEmitter> mocked = Mockito.mockConstruction(SseEmitter.class)) {
+            podA.subscribe(3L);
+            podB.subscribe(3L);
+
+            podA.sendNotification(3L, NotificationType.COMMENT, "hi");
+
+            for (SseEmitter emitter : mocked.constructed()) {
+                verify(emitter, times(1)).send(anySet());
+            }
+            assertThat(redis.published).containsExactly("pod-b");
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 연결이 끊기면 프레즌스에서 파드가 제거되어 더 이상 전달되지 않는다")
+    void lastDisconnect_removesPresence() throws Exception {
+        try (MockedConstruction<SseEmitter> mocked = Mockito.mockConstruction(SseEmitter.class)) {
+            podB.subscribe(4L);
+            SseEmitter emitter = mocked.constructed().get(0);
+            doThrow(new java.io.IOException("gone")).when(emitter).send(anySet());
+
+            podB.sendNotification(4L, NotificationType.COMMENT, "hi"); // 전송 실패한 연결 정리
+
+            assertThat(redis.podsOf(4L)).isEmpty();
+            assertThrows(SseException.class, () -> podA.sendNotification(4L, NotificationType.COMMENT, "hi"));
+        }
+    }
+
+    @Test
+    @DisplayName("broadcastAll: 공용 채널로 한 번 발행하고 각 파드가 자신의 연결로만 보낸다")
+    void broadcastAll_reachesEveryPodOnce() throws Exception {
+        try (MockedConstruction<SseEmitter> mocked = Mockito.mockConstruction(SseEmitter.class)) {
+            podA.subscribe(5L);
+            podB.subscribe(6L);
+            podB.subscribe(7L);
+
+            int local = podA.broadcastAll(NotificationType.SERVICE_NOTICE, "점검 안내");
+
+            assertThat(local).isEqualTo(1);
+            assertThat(redis.published).containsExactly("*");
+            for (SseEmitter emitter : mocked.constructed()) {
+                verify(emitter, times(1)).send(anySet());
+            }
+        }
+    }
+
+    /**
+     * 프레즌스 Hash와 파드별 Pub/Sub 채널만 흉내 내는 로컬 Redis 대역
+     */
+    static class LocalRedisStandIn implements MemberPresencePort, SseRelayPort {
+
+        private final Map<Long, Set<String>> presence = new ConcurrentHashMap<>();
+        private final Map<String, SseSendService> channels = new HashMap<>();
+        private final List<String> published = new ArrayList<>();
+
+        void subscribe(String podId, SseSendService service) {
+            channels.put(podId, service);
+        }
+
+        @Override
+        public void online(Long memberId, String podId) {
+            presence.computeIfAbsent(memberId, id -> ConcurrentHashMap.newKeySet()).add(podId);
+        }
+
+        @Override
+        public void offline(Long memberId, String podId) {
+            Set<String> pods = presence.get(memberId);
+            if (pods != null) {
+                pods.remove(podId);
+            }
+        }
+
+        @Override
+        public void refresh(Collection<Long> memberIds, String podId) {
+            memberIds.forEach(memberId -> online(memberId, podId));
+        }
+
+        @Override
+        public Set<String> podsOf(Long memberId) {
+            return new HashSet<>(presence.getOrDefault(memberId, Set.of()));
+        }
+
+        @Override
+        public void broadcast(SseBroadcastMessage message) {
+            published.add("*");
+            channels.values().forEach(subscriber -> subscriber.deliverBroadcast(message));
+        }
+
+        @Override
+        public void publish(String podId, SseRelayMessage message) {
+            published.add(podId);
+            SseSendService subscriber = channels.get(podId);
+            if (subscriber != null) {
+                subscriber.deliverLocally(message);
+            }
+        }
+    }
+}
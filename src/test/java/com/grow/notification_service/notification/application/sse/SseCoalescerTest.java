@@ -0,0 +1,146 @@
+package com.grow.notification_service.notification.application.sse;
+
+import com.grow.notification_service.notification.application.event.dto.UnreadCountChangedEvent.Counter;
+import com.grow.notification_service.notification.application.service.UnreadCountService;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.grow.notification_service.notification.application.sse.SseCoalescer.PayloadKind.JSON;
+import static com.grow.notification_service.notification.application.sse.SseCoalescer.PayloadKind.TEXT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SseCoalescerTest {
+
+    private ScheduledExecutorService scheduler;
+    private UnreadCountService unreadCountService;
+    private SseCoalescer coalescer;
+    private List<String> written;
+
+    private final List<EncodedSseFrame> encoded = new ArrayList<>();
+    private final SseCoalescer.Sink sink = (memberId, type, frame) -> {
+        encoded.add(frame);
+        written.add(memberId + "|" + type + "|" + frame.frame().id() + "|" + frame.frame().name() + "|"
+            + frame.frame().data());
+    };
+
+    @BeforeEach
+    void setUp() {
+        scheduler = mock(ScheduledExecutorService.class);
+        unreadCountService = mock(UnreadCountService.class);
+        coalescer = new SseCoalescer(200, 3, Set.of(NotificationType.PAYMENT), scheduler, unreadCountService,
+            new SseMetrics(new SimpleMeterRegistry()));
+        written = new ArrayList<>();
+    }
+
+    /** 스케줄러에 예약된 창 종료 작업을 실행합니다. */
+    private void closeWindow() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, atLeastOnce()).schedule(task.capture(), eq(200L), eq(TimeUnit.MILLISECONDS));
+        task.getAllValues().forEach(Runnable::run);
+    }
+
+    @Test
+    @DisplayName("창 안에 몰린 알림은 마지막 id와 읽지 않은 수를 담은 한 프레임으로 보낸다")
+    void burst_isMergedIntoOneFrame() {
+        when(unreadCountService.count(Counter.NOTIFICATION, 1L)).thenReturn(7L);
+
+        coalescer.submit(1L, NotificationType.LIKE, new SseFrame(10L, "[👍]", "a"), TEXT, 0, sink);
+        coalescer.submit(1L, NotificationType.COMMENT, new SseFrame(11L, "[댓글]", "b"), TEXT, 0, sink);
+        assertThat(written).isEmpty();
+
+        closeWindow();
+
+        assertThat(written).containsExactly("1|BATCH|11|[batch]|"
+            + "{\"items\":[{\"id\":10,\"type\":\"LIKE\",\"event\":\"[👍]\",\"message\":\"a\"},"
+            + "{\"id\":11,\"type\":\"COMMENT\",\"event\":\"[댓글]\",\"message\":\"b\"}],\"unreadCount\":7}");
+        assertThat(encoded.get(0).notificationIds()).containsExactly(10L, 11L); // 묶인 알림 모두 전송 완료 대상
+        verify(scheduler, times(1)).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("JSON으로 넘긴 알림 데이터는 묶음 items에 다시 감싸지 않고 그대로 넣는다")
+    void burst_embedsJsonPayloadsAsIs() {
+        when(unreadCountService.count(Counter.NOTIFICATION, 1L)).thenReturn(2L);
+
+        coalescer.submit(1L, NotificationType.LIKE, new SseFrame(10L, "[👍]", "{\"id\":10,\"type\":\"LIKE\"}"), JSON, 0, sink);
+        coalescer.submit(1L, NotificationType.LIKE, new SseFrame(11L, "[👍]", "{\"id\":11,\"type\":\"LIKE\"}"), JSON, 0, sink);
+        closeWindow();
+
+        assertThat(written).containsExactly("1|BATCH|11|[batch]|"
+            + "{\"items\":[{\"id\":10,\"type\":\"LIKE\"},{\"id\":11,\"type\":\"LIKE\"}],\"unreadCount\":2}");
+    }
+
+    @Test
+    @DisplayName("TEXT로 넘긴 데이터는 중괄호로 감싸져 있어도 JSON으로 보지 않고 Item으로 감싼다")
+    void burst_wrapsTextPayloadEvenIfBraced() {
+        when(unreadCountService.count(Counter.NOTIFICATION, 1L)).thenReturn(2L);
+
+        coalescer.submit(1L, NotificationType.LIKE, new SseFrame(10L, "[👍]", "{a}"), TEXT, 0, sink);
+        coalescer.submit(1L, NotificationType.LIKE, new SseFrame(11L, "[👍]", "b"), TEXT, 0, sink);
+        closeWindow();
+
+        assertThat(written).containsExactly("1|BATCH|11|[batch]|"
+            + "{\"items\":[{\"id\":10,\"type\":\"LIKE\",\"event\":\"[👍]\",\"message\":\"{a}\"},"
+            + "{\"id\":11,\"type\":\"LIKE\",\"event\":\"[👍]\",\"message\":\"b\"}],\"unreadCount\":2}");
+    }
+
+    @Test
+    @DisplayName("창 안에 알림이 하나뿐이면 원래 프레임을 그대로 보낸다")
+    void single_isSentAsIs() {
+        coalescer.submit(1L, NotificationType.LIKE, new SseFrame(10L, "[👍]", "a"), TEXT, 0, sink);
+
+        closeWindow();
+
+        assertThat(written).containsExactly("1|LIKE|10|[👍]|a");
+        verifyNoInteractions(unreadCountService);
+    }
+
+    @Test
+    @DisplayName("긴급 유형은 창을 거치지 않으며, 모여 있던 알림을 먼저 내보낸다")
+    void urgent_bypassesWindowAfterFlushingPending() {
+        coalescer.submit(1L, NotificationType.LIKE, new SseFrame(10L, "[👍]", "a"), TEXT, 0, sink);
+
+        coalescer.submit(1L, NotificationType.PAYMENT, new SseFrame(11L, "[결제]", "paid"), TEXT, 0, sink);
+
+        assertThat(written).containsExactly("1|LIKE|10|[👍]|a", "1|PAYMENT|11|[결제]|paid");
+        closeWindow(); // 이미 내보낸 창은 다시 보내지 않음
+        assertThat(written).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("최대 개수에 도달하면 창이 끝나기 전에 보낸다")
+    void maxItems_flushesEarly() {
+        for (long id = 1; id <= 3; id++) {
+            coalescer.submit(1L, NotificationType.LIKE, new SseFrame(id, "[👍]", "x"), TEXT, 0, sink);
+        }
+
+        assertThat(written).hasSize(1);
+        assertThat(written.get(0)).startsWith("1|BATCH|3|[batch]|");
+    }
+
+    @Test
+    @DisplayName("창이 0이면 묶지 않고 바로 보낸다")
+    void zeroWindow_passesThrough() {
+        SseCoalescer passThrough = new SseCoalescer(0, 3, Set.of(), null, unreadCountService,
+            new SseMetrics(new SimpleMeterRegistry()));
+
+        passThrough.submit(1L, NotificationType.LIKE, new SseFrame(10L, "[👍]", "a"), TEXT, 0, sink);
+        passThrough.submit(1L, NotificationType.LIKE, new SseFrame(11L, "[👍]", "b"), TEXT, 0, sink);
+
+        assertThat(written).hasSize(2);
+    }
+}
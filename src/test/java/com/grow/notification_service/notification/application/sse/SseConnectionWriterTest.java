@@ -0,0 +1,210 @@
+package com.grow.notification_service.notification.application.sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SseConnectionWriterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseMetrics metrics;
+    private List<Runnable> pending;
+    private List<SseConnection> evicted;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new SseMetrics(meterRegistry);
+        pending = new ArrayList<>();
+        evicted = new ArrayList<>();
+    }
+
+    private SseConnection connection() {
+        return new SseConnection(1L, mock(SseSink.class), System.currentTimeMillis());
+    }
+
+    private static EncodedSseFrame frame(String data) {
+        return EncodedSseFrame.of(new SseFrame(null, "[댓글]", data));
+    }
+
+    @Test
+    @DisplayName("enqueue: 생산자는 블로킹 없이 반환하고 writer가 순서대로 전송한다")
+    void enqueue_drainsInOrderOnWriter() throws Exception {
+        SseConnectionWriter writer = new SseConnectionWriter(8, 2_000, pending::add, metrics, mock(SseDeliveryTracker.class));
+        SseConnection connection = connection();
+        EncodedSseFrame first = frame("a");
+        EncodedSseFrame second = frame("b");
+
+        writer.enqueue(connection, first, evicted::add);
+        writer.enqueue(connection, second, evicted::add);
+
+        verify(connection.getSink(), never()).send(any());
+        assertThat(pending).hasSize(1); // 연결당 drain 작업은 하나
+        assertThat(writer.queuedFrames()).isEqualTo(2);
+
+        pending.get(0).run();
+
+        var inOrder = inOrder(connection.getSink());
+        inOrder.verify(connection.getSink()).send(first);
+        inOrder.verify(connection.getSink()).send(second);
+        assertThat(writer.queuedFrames()).isZero();
+        assertThat(evicted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("enqueue: 송신 큐가 넘치면 남은 프레임을 버리고, 연결 종료는 writer 실행기에 넘긴다")
+    void enqueue_evictsOnOverflow() {
+        SseConnectionWriter writer = new SseConnectionWriter(2, 2_000, pending::add, metrics, mock(SseDeliveryTracker.class));
+        SseConnection connection = connection();
+
+        assertThat(writer.enqueue(connection, frame("a"), evicted::add)).isTrue();
+        assertThat(writer.enqueue(connection, frame("b"), evicted::add)).isTrue();
+        assertThat(writer.enqueue(connection, frame("c"), evicted::add)).isFalse();
+        assertThat(writer.enqueue(connection, frame("d"), evicted::add)).isFalse();
+
+        assertThat(evicted).isEmpty(); // 생산자 스레드에서는 종료하지 않음
+        assertThat(connection.outboundSize()).isZero();
+        assertThat(writer.queuedFrames()).isZero();
+        assertThat(meterRegistry.counter("sse_outbound_evictions_total", "reason", "overflow").count()).isEqualTo(1);
+
+        List.copyOf(pending).forEach(Runnable::run);
+
+        assertThat(evicted).containsExactly(connection);
+    }
+
+    @Test
+    @DisplayName("enqueue: writer가 끊긴 소켓에 막혀 있어도 큐 초과 시 생산자는 바로 반환한다")
+    void enqueue_returnsWhileSendBlocks() throws Exception {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        SseConnectionWriter writer = new SseConnectionWriter(1, 2_000, executor, metrics, mock(SseDeliveryTracker.class));
+        SseConnection connection = connection();
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch socket = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        // emitter처럼 전송과 종료가 같은 잠금을 쓰는 상황: 전송이 끝나야 종료도 끝남
+        doAnswer(inv -> {
+            sending.countDown();
+            socket.await();
+            return null;
+        }).when(connection.getSink()).send(any());
+        doAnswer(inv -> {
+            socket.await();
+            closed.countDown();
+            return null;
+        }).when(connection.getSink()).complete();
+
+        try {
+            writer.enqueue(connection, frame("a"), SseConnection::close);
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+            writer.enqueue(connection, frame("b"), SseConnection::close);
+
+            long start = System.nanoTime();
+            assertThat(writer.enqueue(connection, frame("c"), SseConnection::close)).isFalse();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+            assertThat(closed.getCount()).isEqualTo(1);
+
+            socket.countDown();
+            assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            socket.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("evictStalled: 전송이 돌아오지 않은 채 임계 시간을 넘긴 연결을 끊는다")
+    void evictStalled_evictsHungWrite() throws Exception {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        SseConnectionWriter writer = new SseConnectionWriter(8, 2_000, executor, metrics, mock(SseDeliveryTracker.class));
+        SseConnection connection = connection();
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch socket = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        doAnswer(inv -> {
+            sending.countDown();
+            socket.await();
+            return null;
+        }).when(connection.getSink()).send(any());
+
+        try {
+            writer.enqueue(connection, frame("a"), c -> closed.countDown());
+            writer.enqueue(connection, frame("b"), c -> closed.countDown());
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+            long now = System.currentTimeMillis();
+            assertThat(writer.evictStalled(now, c -> closed.countDown())).isZero();
+            assertThat(writer.evictStalled(now + 5_000, c -> closed.countDown())).isEqualTo(1);
+            assertThat(writer.evictStalled(now + 5_000, c -> closed.countDown())).isZero();
+
+            assertThat(closed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(writer.queuedFrames()).isZero();
+            assertThat(meterRegistry.counter("sse_outbound_evictions_total", "reason", "slow").count()).isEqualTo(1);
+        } finally {
+            socket.countDown();
+            executor.shutdownNow();
+        }
+        verify(connection.getSink(), timeout(5_000).times(1)).send(any());
+    }
+
+    @Test
+    @DisplayName("drain: 전송이 임계 시간을 넘기면 느린 소비자로 보고 연결을 끊는다")
+    void drain_evictsSlowConsumer() throws Exception {
+        SseConnectionWriter writer = new SseConnectionWriter(8, 5, Runnable::run, metrics, mock(SseDeliveryTracker.class));
+        SseConnection connection = connection();
+        doAnswer(inv -> {
+            Thread.sleep(20);
+            return null;
+        }).when(connection.getSink()).send(any());
+
+        writer.enqueue(connection, frame("a"), evicted::add);
+
+        assertThat(evicted).containsExactly(connection);
+        assertThat(meterRegistry.counter("sse_outbound_evictions_total", "reason", "slow").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("drain: 전송 실패 시 연결을 끊고 이후 프레임은 보내지 않는다")
+    void drain_evictsOnIOException() throws Exception {
+        SseConnectionWriter writer = new SseConnectionWriter(8, 2_000, pending::add, metrics, mock(SseDeliveryTracker.class));
+        SseConnection connection = connection();
+        doThrow(new IOException("broken pipe")).when(connection.getSink()).send(any());
+
+        writer.enqueue(connection, frame("a"), evicted::add);
+        writer.enqueue(connection, frame("b"), evicted::add);
+        pending.get(0).run();
+
+        verify(connection.getSink(), times(1)).send(any());
+        assertThat(evicted).containsExactly(connection);
+        assertThat(writer.queuedFrames()).isZero();
+    }
+
+    @Test
+    @DisplayName("drain: 쓰기에 성공한 프레임만 전송 완료로 기록한다")
+    void drain_recordsDeliveredFrames() throws Exception {
+        SseDeliveryTracker tracker = mock(SseDeliveryTracker.class);
+        SseConnectionWriter writer = new SseConnectionWriter(8, 2_000, Runnable::run, metrics, tracker);
+        SseConnection connection = connection();
+        EncodedSseFrame first = EncodedSseFrame.of(new SseFrame(1L, "[댓글]", "a"));
+        EncodedSseFrame second = EncodedSseFrame.of(new SseFrame(2L, "[댓글]", "b"));
+        doNothing().doThrow(new IOException("broken pipe")).when(connection.getSink()).send(any());
+
+        writer.enqueue(connection, first, evicted::add);
+        writer.enqueue(connection, second, evicted::add);
+
+        verify(tracker).delivered(first);
+        verify(tracker, never()).delivered(second);
+    }
+}
@@ -0,0 +1,68 @@
+package com.grow.notification_service.notification.application.sse;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.notification.infra.persistence.repository.NotificationJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class SseDeliveryTrackerTest {
+
+    private NotificationJpaRepository repository;
+    private SseDeliveryTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(NotificationJpaRepository.class);
+        tracker = new SseDeliveryTracker(repository, new NotificationMetrics(new SimpleMeterRegistry()), 2);
+    }
+
+    @Test
+    @DisplayName("flush: 같은 알림은 한 번만, batch-size씩 나누어 전송 완료로 갱신한다")
+    void flush_updatesInBatches() {
+        List<Collection<Long>> batches = new ArrayList<>();
+        when(repository.markSent(anyCollection())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            batches.add(List.copyOf(ids));
+            return ids.size();
+        });
+
+        tracker.delivered(EncodedSseFrame.of(new SseFrame(1L, "[댓글]", "a")));
+        tracker.delivered(EncodedSseFrame.of(new SseFrame(1L, "[댓글]", "a"))); // 같은 회원의 다른 연결
+        tracker.delivered(EncodedSseFrame.of(new SseFrame(3L, "[batch]", "{}"), 0, new long[]{2L, 3L}, 0));
+        tracker.delivered(EncodedSseFrame.HEARTBEAT);
+
+        tracker.flush();
+
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).hasSize(2);
+        assertThat(batches.stream().flatMap(Collection::stream)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(tracker.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush: 갱신에 실패하면 다음 주기에 다시 시도한다")
+    void flush_requeuesOnFailure() {
+        when(repository.markSent(anyCollection())).thenThrow(new RuntimeException("db down")).thenReturn(1);
+        tracker.delivered(EncodedSseFrame.of(new SseFrame(1L, "[댓글]", "a")));
+
+        tracker.flush();
+        assertThat(tracker.pendingCount()).isEqualTo(1);
+
+        tracker.flush();
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(repository, times(2)).markSent(ids.capture());
+        assertThat(ids.getValue()).containsExactly(1L);
+        assertThat(tracker.pendingCount()).isZero();
+    }
+}
@@ -0,0 +1,97 @@
+package com.grow.notification_service.notification.application.sse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class SseEmitterRegistryTest {
+
+    private SseConnection connection(Long memberId) {
+        return new SseConnection(memberId, mock(SseEmitter.class), System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("register: 회원당 연결을 등록 순서대로 보관하고 카운트를 갱신한다")
+    void register_keepsOrderAndCounts() {
+        SseEmitterRegistry registry = new SseEmitterRegistry(5);
+        SseConnection a = connection(1L);
+        SseConnection b = connection(1L);
+        SseConnection c = connection(2L);
+
+        assertThat(registry.register(a)).isNull();
+        assertThat(registry.register(b)).isNull();
+        assertThat(registry.register(c)).isNull();
+
+        assertThat(registry.connectionsOf(1L)).containsExactly(a, b);
+        assertThat(registry.connectionCount()).isEqualTo(3);
+        assertThat(registry.memberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("register: 한도를 넘으면 가장 오래된 연결을 반환하고 연결 수는 유지한다")
+    void register_evictsOldest() {
+        SseEmitterRegistry registry = new SseEmitterRegistry(2);
+        SseConnection a = connection(1L);
+        SseConnection b = connection(1L);
+        SseConnection c = connection(1L);
+
+        registry.register(a);
+        registry.register(b);
+
+        assertThat(registry.register(c)).isSameAs(a);
+        assertThat(registry.connectionsOf(1L)).containsExactly(b, c);
+        assertThat(registry.connectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("unregister: 마지막 연결이 빠지면 회원도 제거되고, 중복 제거는 무시된다")
+    void unregister_removesMemberWhenEmpty() {
+        SseEmitterRegistry registry = new SseEmitterRegistry(5);
+        SseConnection a = connection(1L);
+        SseConnection b = connection(1L);
+        registry.register(a);
+        registry.register(b);
+
+        assertThat(registry.unregister(a)).isTrue();
+        assertThat(registry.unregister(a)).isFalse();
+        assertThat(registry.connectionsOf(1L)).containsExactly(b);
+
+        assertThat(registry.unregister(b)).isTrue();
+        assertThat(registry.isConnected(1L)).isFalse();
+        assertThat(registry.connectionCount()).isZero();
+        assertThat(registry.memberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("forEach: 순회 중 연결을 제거해도 모든 연결을 한 번씩 방문한다")
+    void forEach_allowsUnregisterDuringIteration() {
+        SseEmitterRegistry registry = new SseEmitterRegistry(5);
+        for (long id = 1; id <= 200; id++) {
+            registry.register(connection(id));
+            registry.register(connection(id));
+        }
+
+        List<SseConnection> visited = new ArrayList<>();
+        registry.forEach(conn -> {
+            visited.add(conn);
+            registry.unregister(conn);
+        });
+
+        assertThat(visited).hasSize(400).doesNotHaveDuplicates();
+        assertThat(registry.connectionCount()).isZero();
+        assertThat(registry.memberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("생성자: 회원당 최대 연결 수는 1 이상이어야 한다")
+    void constructor_rejectsInvalidCap() {
+        assertThrows(IllegalArgumentException.class, () -> new SseEmitterRegistry(0));
+    }
+}
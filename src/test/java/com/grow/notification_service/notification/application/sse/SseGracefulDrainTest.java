@@ -0,0 +1,66 @@
+package com.grow.notification_service.notification.application.sse;
+
+import com.grow.notification_service.notification.application.exception.SseAdmissionException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class SseGracefulDrainTest {
+
+    private SseEmitterRegistry registry;
+    private SseSendService sseSendService;
+    private SseAdmission admission;
+    private SseConnectionWriter writer;
+    private ThreadPoolTaskExecutor eventExecutor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SseEmitterRegistry(5);
+        sseSendService = mock(SseSendService.class);
+        admission = new SseAdmission(registry, new SimpleMeterRegistry(), 100, 5_000);
+        writer = mock(SseConnectionWriter.class);
+        eventExecutor = mock(ThreadPoolTaskExecutor.class);
+    }
+
+    private SseGracefulDrain drain(long awaitMillis) {
+        return new SseGracefulDrain(registry, sseSendService, admission, writer, eventExecutor,
+            new SseReconnectPolicy(60_000, 0.2, 25_000, 10_000), awaitMillis, 0);
+    }
+
+    @Test
+    @DisplayName("drain: 새 구독을 막고 모든 연결을 재연결 대기 힌트와 함께 끊는다")
+    void drain_stopsAdmissionAndDisconnectsAll() {
+        for (long memberId = 1; memberId <= 4; memberId++) {
+            registry.register(new SseConnection(memberId, mock(SseSink.class), 0));
+        }
+
+        int drained = drain(0).drain();
+
+        assertThat(drained).isEqualTo(4);
+        assertThrows(SseAdmissionException.class, admission::admit);
+        ArgumentCaptor<Long> retry = ArgumentCaptor.forClass(Long.class);
+        verify(sseSendService, times(4)).disconnect(any(SseConnection.class), retry.capture());
+        assertThat(retry.getAllValues()).allSatisfy(ms -> assertThat(ms).isBetween(1_000L, 10_000L));
+    }
+
+    @Test
+    @DisplayName("drain: 진행 중인 전송 이벤트가 끝날 때까지 기다린 뒤 연결을 끊는다")
+    void drain_waitsForInFlightEvents() {
+        registry.register(new SseConnection(1L, mock(SseSink.class), 0));
+        when(eventExecutor.getActiveCount()).thenReturn(1, 1, 0);
+
+        drain(5_000).drain();
+
+        verify(eventExecutor, atLeast(3)).getActiveCount();
+        verify(sseSendService).disconnect(any(SseConnection.class), anyLong());
+    }
+}
@@ -0,0 +1,85 @@
+package com.grow.notification_service.notification.application.sse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class SseHeartbeatWheelTest {
+
+    private static final long INTERVAL = 5_000;
+
+    // 생성 시점 이후의 초 경계에서 시작해야 첫 tick이 밀린 슬롯을 한꺼번에 처리하지 않음
+    private final long base = (System.currentTimeMillis() / 1_000 + 100) * 1_000;
+
+    private SseConnection connectedAt(long connectedAt) {
+        return new SseConnection(1L, mock(SseEmitter.class), connectedAt);
+    }
+
+    @Test
+    @DisplayName("tick: 연결 시각에 해당하는 슬롯만 처리하여 ping을 주기 전체에 나눈다")
+    void tick_spreadsConnectionsAcrossSlots() {
+        SseHeartbeatWheel wheel = new SseHeartbeatWheel(INTERVAL, 2, Runnable::run);
+        List<SseConnection> connections = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            SseConnection connection = connectedAt(base - INTERVAL + i * 1_000);
+            connections.add(connection);
+            wheel.add(connection);
+        }
+        wheel.tick(base - 1_000, c -> {}); // 기준 tick 맞추기
+
+        for (int i = 0; i < 5; i++) {
+            List<SseConnection> pinged = new ArrayList<>();
+            wheel.tick(base + i * 1_000, pinged::add);
+            assertThat(pinged).containsExactly(connections.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("tick: 주기 안에 쓴 연결은 건너뛰고, 제거된 연결은 처리하지 않는다")
+    void tick_skipsRecentAndRemoved() {
+        SseHeartbeatWheel wheel = new SseHeartbeatWheel(INTERVAL, 1, Runnable::run);
+        SseConnection recent = connectedAt(base - INTERVAL);
+        SseConnection removed = connectedAt(base - INTERVAL);
+        SseConnection idle = connectedAt(base - INTERVAL);
+        wheel.add(recent);
+        wheel.add(removed);
+        wheel.add(idle);
+        wheel.tick(base - 1_000, c -> {});
+
+        recent.markWritten(base - 500);
+        wheel.remove(removed);
+
+        List<SseConnection> pinged = new ArrayList<>();
+        assertThat(wheel.tick(base, pinged::add)).isEqualTo(1);
+        assertThat(pinged).containsExactly(idle);
+    }
+
+    @Test
+    @DisplayName("tick: 스케줄러가 밀려 건너뛴 슬롯도 다음 tick에서 처리한다")
+    void tick_catchesUpSkippedSlots() {
+        SseHeartbeatWheel wheel = new SseHeartbeatWheel(INTERVAL, 1, Runnable::run);
+        SseConnection first = connectedAt(base - INTERVAL);
+        SseConnection second = connectedAt(base - INTERVAL + 1_000);
+        wheel.add(first);
+        wheel.add(second);
+        wheel.tick(base - 1_000, c -> {});
+
+        List<SseConnection> pinged = new ArrayList<>();
+        wheel.tick(base + 1_000, pinged::add); // base tick 누락
+
+        assertThat(pinged).containsExactlyInAnyOrder(first, second);
+    }
+
+    @Test
+    @DisplayName("생성자: 주기는 tick 간격 이상이어야 한다")
+    void constructor_rejectsShortInterval() {
+        assertThrows(IllegalArgumentException.class, () -> new SseHeartbeatWheel(500, 1, Runnable::run));
+    }
+}
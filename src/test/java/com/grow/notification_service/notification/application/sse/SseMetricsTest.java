@@ -0,0 +1,80 @@
+package com.grow.notification_service.notification.application.sse;
+
+import com.grow.notification_service.notification.application.sse.SseMetrics.CloseReason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SseMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SseMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new SseMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("생성 시점에 전송 경로 메터를 모두 등록해 둔다")
+    void registersMetersUpFront() {
+        assertThat(meterRegistry.find("sse_write_latency").timer()).isNotNull();
+        assertThat(meterRegistry.find("sse_saved_to_write_latency").timer()).isNotNull();
+        assertThat(meterRegistry.find("sse_frame_bytes").summary()).isNotNull();
+        assertThat(meterRegistry.find("sse_connection_lifetime").timer()).isNotNull();
+        assertThat(meterRegistry.find("sse_connection_closed_total").counters()).hasSize(5);
+        assertThat(meterRegistry.find("sse_send_result_total").tags("type", "COMMENT").counters()).hasSize(4);
+        assertThat(meterRegistry.find("sse_relay_receive_total").counters()).hasSize(2);
+        assertThat(meterRegistry.find("sse_coalesce_total").counters()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("written: 쓰기 지연, 프레임 크기, 저장부터 쓰기까지의 지연을 기록한다")
+    void written_recordsLatencyBytesAndSavedToWrite() {
+        EncodedSseFrame frame = EncodedSseFrame.of(new SseFrame(1L, "[댓글]", "hi"), 1_000);
+
+        metrics.written(frame, TimeUnit.MILLISECONDS.toNanos(3), 1_250);
+        metrics.written(EncodedSseFrame.HEARTBEAT, TimeUnit.MILLISECONDS.toNanos(1), 1_300);
+
+        assertThat(meterRegistry.get("sse_write_latency").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("sse_frame_bytes").summary().count()).isEqualTo(1); // heartbeat 제외
+        assertThat(meterRegistry.get("sse_frame_bytes").summary().totalAmount()).isEqualTo(frame.bytes().length);
+        assertThat(meterRegistry.get("sse_saved_to_write_latency").timer().totalTime(TimeUnit.MILLISECONDS))
+            .isEqualTo(250);
+    }
+
+    @Test
+    @DisplayName("writeFailed: 성공과 실패 카운터가 같은 태그 키를 갖는다")
+    void writeFailed_sharesTagKeysWithSuccess() {
+        metrics.written(EncodedSseFrame.HEARTBEAT, 1, 0);
+        metrics.writeFailed(new IOException("broken pipe"));
+
+        assertThat(meterRegistry.get("sse_outbound_write_total").tags("result", "success", "exception", "none")
+            .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("sse_outbound_write_total").tags("result", "error", "exception", "IOException")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("closed: 연결당 처음 기록된 종료 사유만 집계한다")
+    void closed_countsFirstReasonOnly() {
+        SseConnection connection = new SseConnection(1L, mock(SseSink.class), 10_000);
+
+        metrics.closed(connection, CloseReason.SERVER_EVICT, 70_000);
+        metrics.closed(connection, CloseReason.CLIENT_DISCONNECT, 70_010); // 이후 완료 콜백
+
+        assertThat(meterRegistry.get("sse_connection_closed_total").tag("reason", "server_evict").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("sse_connection_closed_total").tag("reason", "client_disconnect").counter().count())
+            .isZero();
+        assertThat(meterRegistry.get("sse_connection_lifetime").timer().totalTime(TimeUnit.SECONDS)).isEqualTo(60);
+    }
+}
@@ -0,0 +1,43 @@
+package com.grow.notification_service.notification.application.sse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SseReconnectPolicyTest {
+
+    @Test
+    @DisplayName("nextTimeoutMillis: 기본 타임아웃에서 jitter 비율 안으로만 줄어들고 값이 흩어진다")
+    void nextTimeoutMillis_staysWithinJitter() {
+        SseReconnectPolicy policy = new SseReconnectPolicy(60_000, 0.2, 25_000, 30_000);
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < 1_000; i++) {
+            long timeout = policy.nextTimeoutMillis();
+            assertThat(timeout).isBetween(48_000L, 60_000L);
+            min = Math.min(min, timeout);
+            max = Math.max(max, timeout);
+        }
+        assertThat(max - min).isGreaterThan(6_000L);
+    }
+
+    @Test
+    @DisplayName("nextRetryMillis: 1초부터 retry-spread 사이의 값을 준다")
+    void nextRetryMillis_withinSpread() {
+        SseReconnectPolicy policy = new SseReconnectPolicy(60_000, 0, 25_000, 5_000);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(policy.nextRetryMillis()).isBetween(1_000L, 5_000L);
+        }
+        assertThat(policy.nextTimeoutMillis()).isEqualTo(60_000L);
+    }
+
+    @Test
+    @DisplayName("jitter 비율은 0 이상 1 미만이어야 한다")
+    void rejectsInvalidJitter() {
+        assertThrows(IllegalArgumentException.class, () -> new SseReconnectPolicy(60_000, 1.0, 25_000, 5_000));
+    }
+}
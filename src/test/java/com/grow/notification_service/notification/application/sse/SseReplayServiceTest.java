@@ -0,0 +1,134 @@
+package com.grow.notification_service.notification.application.sse;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.notification.application.dto.NotificationListItemResponse;
+import com.grow.notification_service.notification.application.port.SseReplayPort;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+import com.grow.notification_service.notification.infra.persistence.repository.NotificationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SseReplayServiceTest {
+
+    @Mock
+    private SseReplayPort replayPort;
+
+    @Mock
+    private NotificationJpaRepository notificationJpaRepository;
+
+    @Mock
+    private NotificationMetrics metrics;
+
+    private SseReplayService replayService;
+
+    @BeforeEach
+    void setUp() {
+        replayService = replayService("2020-01-01T00:00:00");
+    }
+
+    private SseReplayService replayService(String trackedSince) {
+        return new SseReplayService(replayPort, notificationJpaRepository, metrics, 100, 24, true, trackedSince);
+    }
+
+    @Test
+    @DisplayName("framesAfter: 버퍼로 이어줄 수 있으면 DB를 조회하지 않는다")
+    void framesAfter_fromBuffer() {
+        List<SseFrame> buffered = List.of(new SseFrame(11L, "[댓글]", "a"));
+        when(replayPort.framesAfter(1L, 10L)).thenReturn(Optional.of(buffered));
+
+        assertThat(replayService.framesAfter(1L, 10L)).isEqualTo(buffered);
+        verifyNoInteractions(notificationJpaRepository);
+        verify(metrics).result("sse_replay_total", "source", "buffer");
+    }
+
+    @Test
+    @DisplayName("framesAfter: 버퍼 범위를 벗어나면 DB에서 이후 알림을 조회한다")
+    void framesAfter_fallsBackToDb() {
+        when(replayPort.framesAfter(1L, 10L)).thenReturn(Optional.empty());
+        when(notificationJpaRepository.findAfter(eq(1L), eq(10L), any(Pageable.class))).thenReturn(List.of(
+            new NotificationListItemResponse(11L, NotificationType.COMMENT, "a", false,
+                LocalDateTime.of(2026, 10, 18, 9, 30))
+        ));
+
+        List<SseFrame> frames = replayService.framesAfter(1L, 10L);
+
+        assertThat(frames).containsExactly(new SseFrame(11L, NotificationType.COMMENT.getTitle(),
+            "{\"id\":11,\"type\":\"COMMENT\",\"content\":\"a\",\"createdAt\":\"2026-10-18T09:30:00\"}"));
+        verify(metrics).result("sse_replay_total", "source", "db");
+    }
+
+    @Test
+    @DisplayName("undelivered: 전송 여부 기록 시작 이전에 저장된 알림은 재전송하지 않는다")
+    void undelivered_ignoresRowsBeforeTrackingStarted() {
+        LocalDateTime trackedSince = LocalDateTime.now().minusHours(1).withNano(0);
+        replayService = replayService(trackedSince.toString());
+
+        replayService.undelivered(1L);
+
+        verify(notificationJpaRepository).findUnsent(eq(1L), eq(trackedSince), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("undelivered: 기록 시작 시각이 최대 보관 시간보다 오래되면 최대 보관 시간으로 자른다")
+    void undelivered_usesMaxAgeWhenTrackingIsOlder() {
+        LocalDateTime before = LocalDateTime.now().minusHours(24);
+
+        replayService.undelivered(1L);
+
+        verify(notificationJpaRepository).findUnsent(eq(1L),
+            argThat(since -> !since.isBefore(before) && since.isBefore(LocalDateTime.now().minusHours(23))),
+            any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("생성: 재전송을 켠 채 기록 시작 시각이 없거나 형식이 틀리면 기동에 실패한다")
+    void requiresTrackedSinceWhenRedeliveryEnabled() {
+        assertThatThrownBy(() -> replayService(""))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("sse.delivery.tracked-since");
+        assertThatThrownBy(() -> replayService("2026-10-18"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("undelivered: 재전송을 끄면 기록 시작 시각 없이 기동하고 DB를 조회하지 않는다")
+    void undelivered_disabled() {
+        SseReplayService disabled = new SseReplayService(replayPort, notificationJpaRepository, metrics, 100, 24, false, "");
+
+        assertThat(disabled.undelivered(1L)).isEmpty();
+        verifyNoInteractions(notificationJpaRepository);
+    }
+
+    @Test
+    @DisplayName("record: id가 없는 일회성 이벤트는 버퍼에 기록하지 않는다")
+    void record_skipsFramesWithoutId() {
+        replayService.record(1L, new SseFrame(null, "ping", "x"));
+
+        verifyNoInteractions(replayPort);
+    }
+
+    @Test
+    @DisplayName("parseLastEventId: 숫자가 아니거나 비어 있으면 null")
+    void parseLastEventId() {
+        assertThat(SseReplayService.parseLastEventId("15")).isEqualTo(15L);
+        assertThat(SseReplayService.parseLastEventId(" ")).isNull();
+        assertThat(SseReplayService.parseLastEventId("abc")).isNull();
+        assertThat(SseReplayService.parseLastEventId(null)).isNull();
+    }
+}
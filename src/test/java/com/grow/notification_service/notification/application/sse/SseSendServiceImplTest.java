@@ -1,24 +1,35 @@
 package com.grow.notification_service.notification.application.sse;
 
 import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.global.util.JsonUtils;
 import com.grow.notification_service.notification.application.event.dto.NotificationSavedEvent;
+import com.grow.notification_service.notification.application.exception.SseAdmissionException;
 import com.grow.notification_service.notification.application.exception.SseException;
+import com.grow.notification_service.notification.application.port.MemberPresencePort;
+import com.grow.notification_service.notification.application.port.SseRelayPort;
+import com.grow.notification_service.notification.application.service.UnreadCountService;
+import com.grow.notification_service.notification.application.dto.LongPollResponse;
+import com.grow.notification_service.notification.application.dto.NotificationPushPayload;
+import com.grow.notification_service.notification.application.dto.UnreadBadgeResponse;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 import static com.grow.notification_service.notification.application.exception.ErrorCode.SSE_NOT_CONNECTED;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,23 +46,46 @@ class SseSendServiceImplTest {
     @Mock
     private NotificationMetrics metrics;
 
-    @InjectMocks
-    private SseSendServiceImpl sseNotificationService;
+    @Mock
+    private MemberPresencePort presencePort;
+
+    @Mock
+    private SseRelayPort relayPort;
+
+    @Mock
+    private SseReplayService replayService;
+
+    @Mock
+    private UnreadCountService unreadCountService;
 
-    private Map<Long, SseEmitter> sseEmitters;
+    private final SseMetrics sseMetrics = new SseMetrics(new SimpleMeterRegistry());
+
+    private SseEmitterRegistry registry;
+
+    private SseSendServiceImpl sseNotificationService;
 
     @BeforeEach
     void setUp() {
-        sseEmitters = new ConcurrentHashMap<>();
-        // private 필드 주입
-        ReflectionTestUtils.setField(sseNotificationService, "sseEmitters", sseEmitters);
-
-        lenient().doAnswer(invocation -> null)
-            .when(meterRegistry).gauge(anyString(), any(Map.class), any());
+        registry = new SseEmitterRegistry(3);
+        SseConnectionWriter writer = new SseConnectionWriter(128, 2_000, Runnable::run, sseMetrics, mock(SseDeliveryTracker.class));
+        sseNotificationService = new SseSendServiceImpl(
+            registry, presencePort, relayPort, new SsePodIdentity("pod-a"), replayService,
+            new SseHeartbeatWheel(25_000, 1, Runnable::run), writer,
+            new SseBroadcaster(registry, writer, new SimpleMeterRegistry(), 1_000, Runnable::run),
+            new SseAdmission(registry, new SimpleMeterRegistry(), 10_000, 5_000),
+            new SseReconnectPolicy(3_600_000, 0.2, 25_000, 30_000),
+            new SseCoalescer(0, 1, Set.of(), null, null, sseMetrics), unreadCountService,
+            meterRegistry, metrics, sseMetrics);
 
         lenient().doNothing().when(metrics).result(anyString(), any(String[].class));
     }
 
+    private SseEmitter[] emittersOf(Long memberId) {
+        return Arrays.stream(registry.connectionsOf(memberId))
+            .map(connection -> ((EmitterSseSink) connection.getSink()).getEmitter())
+            .toArray(SseEmitter[]::new);
+    }
+
     @Test
     @DisplayName("SSE 연결 성공 테스트")
     void subscribe_success() throws Exception {
@@ -60,9 +94,8 @@ class SseSendServiceImplTest {
         SseEmitter result = sseNotificationService.subscribe(memberId);
 
         assertNotNull(result);
-        assertTrue(sseEmitters.containsKey(memberId));
-        assertEquals(result, sseEmitters.get(memberId));
-        assertThat(sseEmitters.get(memberId)).isInstanceOf(SseEmitter.class);
+        assertTrue(registry.isConnected(memberId));
+        assertThat(emittersOf(memberId)).containsExactly(result);
     }
 
     @Test
@@ -79,14 +112,14 @@ class SseSendServiceImplTest {
                 () -> sseNotificationService.subscribe(memberId));
 
             assertThat(exception.getErrorCode()).isEqualTo(SSE_NOT_CONNECTED);
-            assertThat(sseEmitters).doesNotContainKey(memberId);
+            assertThat(registry.isConnected(memberId)).isFalse();
             assertThat(mockedConstruction.constructed()).hasSize(1);
         }
     }
 
     @Test
-    @DisplayName("subscribe: 기존 연결이 있으면 complete 후 새 emitter로 교체한다")
-    void subscribe_replacesOldEmitter() throws Exception {
+    @DisplayName("subscribe: 같은 회원의 추가 연결은 기존 연결을 유지한다")
+    void subscribe_keepsExistingEmitters() throws Exception {
         Long memberId = 9L;
 
         try (MockedConstruction<SseEmitter> mocked = Mockito.mockConstruction(
@@ -96,10 +129,31 @@ class SseSendServiceImplTest {
             SseEmitter first = sseNotificationService.subscribe(memberId);
             SseEmitter second = sseNotificationService.subscribe(memberId);
 
-            assertThat(sseEmitters).hasSize(1).containsEntry(memberId, second);
+            assertThat(emittersOf(memberId)).containsExactly(first, second);
+            assertThat(registry.connectionCount()).isEqualTo(2);
+            assertThat(registry.memberCount()).isEqualTo(1);
 
             SseEmitter firstMock = mocked.constructed().get(0);
-            verify(firstMock, atLeastOnce()).complete();
+            verify(firstMock, never()).complete();
+        }
+    }
+
+    @Test
+    @DisplayName("subscribe: 회원당 최대 연결 수를 넘으면 가장 오래된 연결만 종료한다")
+    void subscribe_evictsOldestWhenOverCap() throws Exception {
+        Long memberId = 10L;
+
+        try (MockedConstruction<SseEmitter> mocked = Mockito.mockConstruction(
+            SseEmitter.class,
+            (mock, ctx) -> { /* 기본: send 성공 */ }
+        )) {
+            for (int i = 0; i < 4; i++) {
+                sseNotificationService.subscribe(memberId);
+            }
+
+            SseEmitter oldest = mocked.constructed().get(0);
+            verify(oldest, atLeastOnce()).complete();
+            assertThat(emittersOf(memberId)).hasSize(3).doesNotContain(oldest);
         }
     }
 
@@ -121,7 +175,33 @@ class SseSendServiceImplTest {
                     "msg"));
 
             SseEmitter mock = mocked.constructed().get(0);
-            verify(mock, atLeastOnce()).send(any(SseEmitter.SseEventBuilder.class));
+            verify(mock, atLeastOnce()).send(anySet());
+        }
+    }
+
+    @Test
+    @DisplayName("sendNotification: 회원의 모든 연결로 전송하고 실패한 연결만 정리한다")
+    void sendNotification_fansOutToAllConnections() throws Exception {
+        Long memberId = 3L;
+
+        try (MockedConstruction<SseEmitter> mocked = Mockito.mockConstruction(
+            SseEmitter.class,
+            (mock, ctx) -> { /* connect send 성공 */ }
+        )) {
+            sseNotificationService.subscribe(memberId);
+            sseNotificationService.subscribe(memberId);
+
+            SseEmitter okEmitter = mocked.constructed().get(0);
+            SseEmitter failEmitter = mocked.constructed().get(1);
+            doThrow(new IOException("broken pipe")).when(failEmitter).send(anySet());
+
+            sseNotificationService.sendNotification(
+                memberId,
+                com.grow.notification_service.notification.infra.persistence.entity.NotificationType.COMMENT,
+                "msg");
+
+            verify(okEmitter, times(1)).send(anySet());
+            assertThat(emittersOf(memberId)).containsExactly(okEmitter);
         }
     }
 
@@ -153,22 +233,36 @@ class SseSendServiceImplTest {
             SseEmitter okEmitter   = mocked.constructed().get(0);
             SseEmitter failEmitter = mocked.constructed().get(1);
 
-            doNothing().when(okEmitter).send(any(SseEmitter.SseEventBuilder.class));
-            doThrow(new IOException("hb fail")).when(failEmitter).send(any(SseEmitter.SseEventBuilder.class));
+            doNothing().when(okEmitter).send(anySet());
+            doThrow(new IOException("hb fail")).when(failEmitter).send(anySet());
 
-            sseNotificationService.sendHeartbeat();
+            sseNotificationService.sendHeartbeat(System.currentTimeMillis() + 25_000);
 
-            @SuppressWarnings("unchecked")
-            Map<Long, SseEmitter> map =
-                (Map<Long, SseEmitter>) ReflectionTestUtils.getField(sseNotificationService, "sseEmitters");
+            assertThat(registry.isConnected(okId)).isTrue();
+            assertThat(registry.isConnected(failId)).isFalse();
+        }
+    }
 
-            assertThat(map).containsKey(okId);
-            assertThat(map).doesNotContainKey(failId);
+    @Test
+    @DisplayName("sendHeartbeat: 주기 안에 알림을 받은 연결은 건너뛰고, ping은 주석 프레임으로 보낸다")
+    void sendHeartbeat_skipsRecentlyWrittenConnections() throws Exception {
+        try (MockedConstruction<SseEmitter> mocked = Mockito.mockConstruction(SseEmitter.class)) {
+            sseNotificationService.subscribe(200L);
+            sseNotificationService.subscribe(201L);
+            SseEmitter busy = mocked.constructed().get(0);
+            SseEmitter idle = mocked.constructed().get(1);
+
+            long now = System.currentTimeMillis() + 25_000;
+            registry.connectionsOf(200L)[0].markWritten(now - 1_000); // 1초 전에 알림을 받은 연결
+            sseNotificationService.sendHeartbeat(now);
+
+            verify(busy, never()).send(anySet()); // ping 없음
+            verify(idle, times(1)).send(anySet()); // ping
         }
     }
 
     @Test
-    @DisplayName("handleNotificationSavedEvent: 이벤트 DTO를 그대로 sendNotification에 위임")
+    @DisplayName("handleNotificationSavedEvent: 알림 ID, 생성 시각, 읽지 않은 수를 담은 데이터로 sendNotification에 위임")
     void handleEvent_delegatesToSendNotification() {
         SseSendServiceImpl spySvc = Mockito.spy(sseNotificationService);
 
@@ -179,17 +273,285 @@ class SseSendServiceImplTest {
                 com.grow.notification_service.notification.infra.persistence.entity.NotificationType.MATCHING_SUCCESS)
             .content("hi")
             .build();
-        var event = new NotificationSavedEvent(this, dto);
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 18, 9, 30);
+        var event = new NotificationSavedEvent(this, dto, 501L, createdAt);
+        when(presencePort.podsOf(77L)).thenReturn(Set.of("pod-b")); // 다른 파드에 연결된 회원
+        when(unreadCountService.badge(77L)).thenReturn(new UnreadBadgeResponse(3, 0));
 
         doThrow(new SseException(SSE_NOT_CONNECTED)).when(spySvc)
-            .sendNotification(eq(77L),
-                eq(com.grow.notification_service.notification.infra.persistence.entity.NotificationType.MATCHING_SUCCESS),
-                eq("hi"));
+            .sendNotification(eq(77L), any(NotificationPushPayload.class), eq(event.getTimestamp()));
 
         assertThrows(SseException.class, () -> spySvc.handleNotificationSavedEvent(event));
 
-        verify(spySvc, times(1)).sendNotification(77L,
+        verify(spySvc, times(1)).sendNotification(77L, new NotificationPushPayload(501L,
             com.grow.notification_service.notification.infra.persistence.entity.NotificationType.MATCHING_SUCCESS,
-            "hi");
+            "hi", createdAt, 3L), event.getTimestamp());
+    }
+
+    @Test
+    @DisplayName("sendNotification: 알림 ID가 있으면 재전송 버퍼에 기록한 뒤 전송한다")
+    void sendNotification_recordsFrameForReplay() throws Exception {
+        Long memberId = 8L;
+        try (MockedConstruction<SseEmitter> mocked = Mockito.mockConstruction(SseEmitter.class)) {
+            sseNotificationService.subscribe(memberId);
+
+            sseNotificationService.sendNotification(memberId, 42L,
+                com.grow.notification_service.notification.infra.persistence.entity.NotificationType.COMMENT, "hi");
+
+            verify(replayService).record(eq(memberId), argThat(frame -> frame.id() == 42L));
+            verify(mocked.constructed().get(0), times(1)).send(anySet());
+        }
+    }
+
+    @Test
+    @DisplayName("subscribe: Last-Event-ID가 있으면 이후 알림을 새 연결로 재전송한다")
+    void subscribe_replaysFramesAfterLastEventId() throws Exception {
+        Long memberId = 9L;
+        when(replayService.framesAfter(memberId, 10L)).thenReturn(List.of(
+            new SseFrame(11L, "댓글", "a"),
+            new SseFrame(12L, "댓글", "b")
+        ));
+
+        try (MockedConstruction<SseEmitter> mocked = Mockito.mockConstruction(SseEmitter.class)) {
+            sseNotificationService.subscribe(memberId, "10");
+
+            verify(mocked.constructed().get(0), times(2)).send(anySet()); // 재전송 2건
+        }
+    }
+
+    @Test
+    @DisplayName("subscribe: Last-Event-ID가 숫자가 아니면 재전송하지 않는다")
+    void subscribe_ignoresInvalidLastEventId() throws Exception {
+        try (MockedConstruction<SseEmitter> mocked = Mockito.mockConstruction(SseEmitter.class)) {
+            sseNotificationService.subscribe(10L, "abc");
+
+            verify(replayService, never()).framesAfter(anyLong(), anyLong());
+        }
+    }
+
+    @Test
+    @DisplayName("subscribe(sink): 전송 방식이 만든 연결도 같은 경로로 알림을 받고, 구독 해제 시 정리된다")
+    void subscribeSink_receivesNotificationsAndReleasesOnUnsubscribe() throws Exception {
+        Long memberId = 11L;
+        SseSink sink = mock(SseSink.class);
+
+        SseConnection connection = sseNotificationService.subscribe(memberId, sink, null, null);
+        assertThat(registry.isConnected(memberId)).isTrue();
+
+        sseNotificationService.sendNotification(memberId, 7L, NotificationType.COMMENT, "hi");
+
+        ArgumentCaptor<EncodedSseFrame> sent = ArgumentCaptor.forClass(EncodedSseFrame.class);
+        verify(sink, times(2)).send(sent.capture());
+        List<SseFrame> frames = sent.getAllValues().stream().map(EncodedSseFrame::frame).toList();
+        assertThat(frames).extracting(SseFrame::name).containsExactly("[connect]", "[댓글]");
+        assertThat(frames.get(1).id()).isEqualTo(7L);
+        assertThat(JsonUtils.fromJsonString(frames.get(1).data(), NotificationPushPayload.class))
+            .satisfies(payload -> {
+                assertThat(payload.id()).isEqualTo(7L);
+                assertThat(payload.content()).isEqualTo("hi");
+                assertThat(payload.createdAt()).isNotNull();
+            });
+
+        sseNotificationService.unsubscribe(connection);
+
+        assertThat(registry.isConnected(memberId)).isFalse();
+        verify(presencePort).offline(memberId, "pod-a");
+    }
+
+    @Test
+    @DisplayName("subscribe: 파드 연결 예산을 넘으면 Emitter를 만들지 않고 바로 거절한다")
+    void subscribe_rejectsOverBudget() {
+        SseConnectionWriter writer = new SseConnectionWriter(128, 2_000, Runnable::run, sseMetrics, mock(SseDeliveryTracker.class));
+        SseSendServiceImpl limited = new SseSendServiceImpl(
+            registry, presencePort, relayPort, new SsePodIdentity("pod-a"), replayService,
+            new SseHeartbeatWheel(25_000, 1, Runnable::run), writer,
+            new SseBroadcaster(registry, writer, new SimpleMeterRegistry(), 1_000, Runnable::run),
+            new SseAdmission(registry, new SimpleMeterRegistry(), 1, 5_000),
+            new SseReconnectPolicy(3_600_000, 0.2, 25_000, 30_000),
+            new SseCoalescer(0, 1, Set.of(), null, null, sseMetrics), unreadCountService,
+            meterRegistry, metrics, sseMetrics);
+        limited.subscribe(1L);
+
+        try (MockedConstruction<SseEmitter> mocked = Mockito.mockConstruction(SseEmitter.class)) {
+            SseAdmissionException e = assertThrows(SseAdmissionException.class, () -> limited.subscribe(2L));
+
+            assertThat(e.getRetryAfterMillis()).isGreaterThanOrEqualTo(5_000);
+            assertThat(mocked.constructed()).isEmpty();
+            assertThat(registry.isConnected(2L)).isFalse();
+            verify(metrics).result("sse_subscribe_result_total", "result", "rejected");
+        }
+    }
+
+    @Test
+    @DisplayName("sendUnreadCount: 카운터 값으로 unread 이벤트를 보낸다")
+    void sendUnreadCount_pushesBadge() throws Exception {
+        SseSink sink = mock(SseSink.class);
+        registry.register(new SseConnection(3L, sink, System.currentTimeMillis()));
+        when(presencePort.podsOf(3L)).thenReturn(Set.of("pod-a"));
+        when(unreadCountService.badge(3L)).thenReturn(new UnreadBadgeResponse(4, 1));
+
+        sseNotificationService.sendUnreadCount(3L);
+
+        verify(sink).send(argThat(encoded -> encoded.frame().name().equals("unread")
+            && encoded.frame().data().equals("{\"notification\":4,\"note\":1}")));
+        verify(relayPort, never()).publish(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("sendUnreadCount: 어느 파드에도 연결이 없으면 개수를 조회하지 않는다")
+    void sendUnreadCount_skipsOfflineMember() {
+        when(presencePort.podsOf(3L)).thenReturn(Set.of());
+
+        sseNotificationService.sendUnreadCount(3L);
+
+        verifyNoInteractions(unreadCountService);
+    }
+
+    @Test
+    @DisplayName("handleNotificationSavedEvent: 어느 파드에도 연결이 없으면 예외 없이 건너뛰고 재전송 버퍼에만 기록한다")
+    void handleEvent_skipsOfflineMember() {
+        SseSendServiceImpl spySvc = Mockito.spy(sseNotificationService);
+        when(presencePort.podsOf(78L)).thenReturn(Set.of());
+        var dto = com.grow.notification_service.notification.presentation.dto.NotificationRequestDto
+            .builder()
+            .memberId(78L)
+            .notificationType(
+                com.grow.notification_service.notification.infra.persistence.entity.NotificationType.COMMENT)
+            .content("hi")
+            .build();
+
+        assertDoesNotThrow(() -> spySvc.handleNotificationSavedEvent(new NotificationSavedEvent(this, dto, 502L)));
+
+        verify(replayService).record(eq(78L), argThat(frame -> frame.id() == 502L));
+        verify(spySvc, never()).sendNotification(anyLong(), any(NotificationPushPayload.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("subscribe: Last-Event-ID가 없으면 미전송 알림을 새 연결로 재전송한다")
+    void subscribe_redeliversUndeliveredNotifications() throws Exception {
+        Long memberId = 12L;
+        when(replayService.undelivered(memberId)).thenReturn(List.of(new SseFrame(21L, "댓글", "a")));
+
+        try (MockedConstruction<SseEmitter> mocked = Mockito.mockConstruction(SseEmitter.class)) {
+            sseNotificationService.subscribe(memberId);
+
+            verify(mocked.constructed().get(0), times(1)).send(anySet());
+            verify(replayService, never()).framesAfter(anyLong(), anyLong());
+        }
+    }
+
+    @Test
+    @DisplayName("subscribe(sink): 구독 유형을 지정하면 다른 유형의 알림은 보내지 않는다")
+    void subscribeSink_filtersByNotificationType() throws Exception {
+        Long memberId = 13L;
+        SseSink sink = mock(SseSink.class);
+        sseNotificationService.subscribe(memberId, sink, null, Set.of(NotificationType.QUIZ));
+
+        sseNotificationService.sendNotification(memberId, 31L, NotificationType.COMMENT, "skip");
+        sseNotificationService.sendNotification(memberId, 32L, NotificationType.QUIZ, "quiz");
+
+        ArgumentCaptor<EncodedSseFrame> sent = ArgumentCaptor.forClass(EncodedSseFrame.class);
+        verify(sink, times(2)).send(sent.capture());
+        assertThat(sent.getAllValues()).extracting(encoded -> encoded.frame().name()).containsExactly("[connect]", "[퀴즈]");
+        assertThat(sent.getAllValues().get(1).frame().id()).isEqualTo(32L);
+    }
+
+    @Test
+    @DisplayName("묶음 전송: 연결마다 구독한 유형의 알림만 담고, 그 알림만 전송 완료로 기록한다")
+    void coalescedBatch_isFilteredPerConnection() throws Exception {
+        SseDeliveryTracker tracker = mock(SseDeliveryTracker.class);
+        SseConnectionWriter writer = new SseConnectionWriter(128, 2_000, Runnable::run, sseMetrics, tracker);
+        SseSendServiceImpl batching = new SseSendServiceImpl(
+            registry, presencePort, relayPort, new SsePodIdentity("pod-a"), replayService,
+            new SseHeartbeatWheel(25_000, 1, Runnable::run), writer,
+            new SseBroadcaster(registry, writer, new SimpleMeterRegistry(), 1_000, Runnable::run),
+            new SseAdmission(registry, new SimpleMeterRegistry(), 10_000, 5_000),
+            new SseReconnectPolicy(3_600_000, 0.2, 25_000, 30_000),
+            new SseCoalescer(200, 3, Set.of(), mock(java.util.concurrent.ScheduledExecutorService.class),
+                unreadCountService, sseMetrics),
+            unreadCountService, meterRegistry, metrics, sseMetrics);
+        SseSink likeOnly = mock(SseSink.class);
+        SseSink commentAndQuiz = mock(SseSink.class);
+        registry.register(new SseConnection(15L, likeOnly, System.currentTimeMillis(),
+            SseTypeFilter.maskOf(Set.of(NotificationType.LIKE))));
+        registry.register(new SseConnection(15L, commentAndQuiz, System.currentTimeMillis(),
+            SseTypeFilter.maskOf(Set.of(NotificationType.COMMENT, NotificationType.QUIZ))));
+
+        // 최대 개수(3)에 도달해 바로 묶음으로 나감
+        batching.sendNotification(15L, 41L, NotificationType.LIKE, "like");
+        batching.sendNotification(15L, 42L, NotificationType.COMMENT, "comment");
+        batching.sendNotification(15L, 43L, NotificationType.QUIZ, "quiz");
+
+        ArgumentCaptor<EncodedSseFrame> toLike = ArgumentCaptor.forClass(EncodedSseFrame.class);
+        verify(likeOnly).send(toLike.capture());
+        assertThat(toLike.getValue().frame().name()).isEqualTo(NotificationType.LIKE.getTitle()); // 한 건은 원래 프레임
+        assertThat(toLike.getValue().notificationIds()).containsExactly(41L);
+
+        ArgumentCaptor<EncodedSseFrame> toOthers = ArgumentCaptor.forClass(EncodedSseFrame.class);
+        verify(commentAndQuiz).send(toOthers.capture());
+        assertThat(toOthers.getValue().frame().name()).isEqualTo(SseCoalescer.BATCH_EVENT);
+        assertThat(toOthers.getValue().frame().id()).isEqualTo(43L);
+        assertThat(toOthers.getValue().frame().data()).doesNotContain("\"like\"");
+        assertThat(toOthers.getValue().notificationIds()).containsExactly(42L, 43L);
+    }
+
+    @Test
+    @DisplayName("disconnect: 배포 정리 시 연결을 해제하고 재연결 대기 시간을 알린 뒤 스트림을 종료한다")
+    void disconnect_sendsRetryHintAndCompletes() {
+        Long memberId = 14L;
+        SseSink sink = mock(SseSink.class);
+        SseConnection connection = sseNotificationService.subscribe(memberId, sink, "5", null);
+
+        sseNotificationService.disconnect(connection, 7_000);
+
+        verify(sink).complete(7_000);
+        assertThat(registry.isConnected(memberId)).isFalse();
+        verify(presencePort).offline(memberId, "pod-a");
+    }
+
+    @Test
+    @DisplayName("poll: cursor 이후 놓친 알림이 있으면 붙잡아 두지 않고 바로 응답한다")
+    void poll_returnsMissedFramesImmediately() {
+        when(replayService.framesAfter(20L, 5L)).thenReturn(List.of(
+            new SseFrame(6L, "[댓글]", "a"),
+            new SseFrame(7L, "[댓글]", "b")
+        ));
+
+        var result = sseNotificationService.poll(20L, 5L, null);
+
+        LongPollResponse response = (LongPollResponse) result.getResult();
+        assertThat(response.events()).extracting(SseFrame::id).containsExactly(6L, 7L);
+        assertThat(response.cursor()).isEqualTo(7L);
+        assertThat(registry.isConnected(20L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("poll: 놓친 알림이 없으면 다음 알림이 올 때까지 붙잡아 두었다가 그 알림으로 응답한다")
+    void poll_parksUntilNextNotification() {
+        var result = sseNotificationService.poll(21L, 5L, null);
+        assertThat(result.hasResult()).isFalse();
+        assertThat(registry.isConnected(21L)).isTrue();
+
+        sseNotificationService.sendNotification(21L, 8L,
+            com.grow.notification_service.notification.infra.persistence.entity.NotificationType.COMMENT, "hi");
+
+        LongPollResponse response = (LongPollResponse) result.getResult();
+        assertThat(response.events()).extracting(SseFrame::id).containsExactly(8L);
+        assertThat(response.cursor()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("poll: unread 같은 상태 이벤트는 붙잡아 둔 요청을 완료하지 않고 뒤따르는 알림으로 응답한다")
+    void poll_ignoresStatusFrames() {
+        when(unreadCountService.badge(22L)).thenReturn(new UnreadBadgeResponse(1, 0));
+        var result = sseNotificationService.poll(22L, 5L, null);
+
+        sseNotificationService.sendUnreadCount(22L);
+        assertThat(result.hasResult()).isFalse();
+
+        sseNotificationService.sendNotification(22L, 9L, NotificationType.COMMENT, "hi");
+
+        LongPollResponse response = (LongPollResponse) result.getResult();
+        assertThat(response.events()).extracting(SseFrame::id).containsExactly(9L);
     }
-}
\ No newline at end of file
+}
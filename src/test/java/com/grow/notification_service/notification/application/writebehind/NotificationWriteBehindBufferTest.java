@@ -0,0 +1,143 @@
+package com.grow.notification_service.notification.application.writebehind;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.notification.application.port.NotificationJournalPort;
+import com.grow.notification_service.notification.domain.model.Notification;
+import com.grow.notification_service.notification.domain.repository.NotificationRepository;
+import com.grow.notification_service.notification.infra.journal.FileNotificationJournalAdapter;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class NotificationWriteBehindBufferTest {
+
+    @TempDir
+    Path journalDir;
+
+    private NotificationRepository notificationRepository;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+    }
+
+    private NotificationWriteBehindBuffer newBuffer(int maxPending) {
+        NotificationWriteBehindBuffer buffer = new NotificationWriteBehindBuffer(notificationRepository,
+            new FileNotificationJournalAdapter(journalDir.toString(), false),
+            new NotificationMetrics(new SimpleMeterRegistry()), new SimpleMeterRegistry(), maxPending);
+        buffer.recover();
+        return buffer;
+    }
+
+    private static Notification like(Long memberId, String content) {
+        return Notification.of(null, memberId, content, LocalDateTime.of(2026, 10, 18, 12, 0),
+            false, NotificationType.LIKE, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("flush: 모인 알림을 한 번에 저장하고 저장한 저널 세그먼트를 지운다")
+    void flush_savesBatchAndDiscardsJournal() throws IOException {
+        NotificationWriteBehindBuffer buffer = newBuffer(10);
+        assertThat(buffer.append(like(1L, "a"))).isTrue();
+        assertThat(buffer.append(like(2L, "b"))).isTrue();
+        assertThat(journalFiles()).isOne();
+
+        buffer.flush();
+
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Notification::getContent).containsExactly("a", "b");
+        assertThat(saved.getValue()).noneMatch(Notification::getIsSent);
+        assertThat(buffer.pendingCount()).isZero();
+        assertThat(journalFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush: 저장에 실패하면 알림과 저널을 남겨 다음 주기에 다시 저장한다")
+    void flush_keepsPendingOnFailure() throws IOException {
+        NotificationWriteBehindBuffer buffer = newBuffer(10);
+        buffer.append(like(1L, "a"));
+        when(notificationRepository.saveAll(anyList()))
+            .thenThrow(new IllegalStateException("db down"))
+            .thenReturn(List.of());
+
+        buffer.flush();
+        assertThat(buffer.pendingCount()).isOne();
+        assertThat(journalFiles()).isOne();
+
+        buffer.append(like(1L, "b"));
+        buffer.flush();
+
+        verify(notificationRepository, times(2)).saveAll(anyList());
+        assertThat(buffer.pendingCount()).isZero();
+        assertThat(journalFiles()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("recover: 저장 전에 재시작하면 저널에 남은 알림을 순서대로 다시 저장한다")
+    void recover_replaysJournalAfterRestart() {
+        NotificationWriteBehindBuffer before = newBuffer(10);
+        before.append(like(1L, "a"));
+        before.append(like(2L, "b"));
+
+        NotificationWriteBehindBuffer after = newBuffer(10);
+        assertThat(after.pendingCount()).isEqualTo(2);
+        after.flush();
+
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Notification::getMemberId).containsExactly(1L, 2L);
+        assertThat(saved.getValue()).extracting(Notification::getNotificationType)
+            .containsOnly(NotificationType.LIKE);
+    }
+
+    @Test
+    @DisplayName("flush: 저널은 알림마다가 아니라 flush 때 한 번만 디스크에 반영한다")
+    void flush_syncsJournalOncePerFlush() {
+        NotificationJournalPort journal = mock(NotificationJournalPort.class);
+        NotificationWriteBehindBuffer buffer = new NotificationWriteBehindBuffer(notificationRepository, journal,
+            new NotificationMetrics(new SimpleMeterRegistry()), new SimpleMeterRegistry(), 10);
+        buffer.append(like(1L, "a"));
+        buffer.append(like(2L, "b"));
+        verify(journal, never()).sync();
+
+        buffer.flush();
+
+        verify(journal, times(2)).append(any(Notification.class));
+        verify(journal).sync();
+    }
+
+    @Test
+    @DisplayName("append: 대기 알림이 한도에 이르면 false를 돌려 호출자가 바로 저장하게 한다")
+    void append_rejectsWhenFull() {
+        NotificationWriteBehindBuffer buffer = newBuffer(1);
+
+        assertThat(buffer.append(like(1L, "a"))).isTrue();
+        assertThat(buffer.append(like(1L, "b"))).isFalse();
+        assertThat(buffer.pendingCount()).isOne();
+    }
+
+    private long journalFiles() throws IOException {
+        try (Stream<Path> files = Files.list(journalDir)) {
+            return files.filter(f -> Files.isRegularFile(f) && f.toFile().length() > 0).count();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.grow.notification_service.notification.infra.kafka;
+
+import com.grow.notification_service.notification.infra.kafka.NotificationPriorityPolicy.Priority;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationIngestLanesTest {
+
+    private final NotificationPriorityPolicy policy = new NotificationPriorityPolicy(
+        Set.of(NotificationType.PAYMENT, NotificationType.GROUP_JOIN_APPROVAL),
+        Set.of(NotificationType.LIKE, NotificationType.POINT),
+        6, 3, 1, 0, 1);
+
+    @Test
+    @DisplayName("priorityOf: 설정한 유형은 URGENT/BULK, 나머지와 역직렬화 실패 건은 NORMAL")
+    void priorityOf() {
+        assertThat(policy.priorityOf(NotificationType.PAYMENT)).isEqualTo(Priority.URGENT);
+        assertThat(policy.priorityOf(NotificationType.LIKE)).isEqualTo(Priority.BULK);
+        assertThat(policy.priorityOf(NotificationType.COMMENT)).isEqualTo(Priority.NORMAL);
+        assertThat(policy.priorityOf(null)).isEqualTo(Priority.NORMAL);
+    }
+
+    @Test
+    @DisplayName("take: 모든 레인이 밀려 있으면 가중치 6:3:1 비율로 레인을 고른다")
+    void take_weightedFair() throws InterruptedException {
+        NotificationIngestLanes<Integer> lanes = new NotificationIngestLanes<>(policy);
+        for (int i = 0; i < 100; i++) {
+            for (Priority priority : Priority.values()) {
+                lanes.add(priority, i);
+            }
+        }
+
+        List<Priority> picked = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            NotificationIngestLanes.Batch<Integer> batch = lanes.take(1, 0);
+            picked.add(batch.priority());
+            lanes.done(batch.priority());
+        }
+
+        assertThat(picked).filteredOn(Priority.URGENT::equals).hasSize(6);
+        assertThat(picked).filteredOn(Priority.NORMAL::equals).hasSize(3);
+        assertThat(picked).filteredOn(Priority.BULK::equals).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("take: BULK 레인은 워커 예산을 넘겨 꺼내지 않고, 처리가 끝나야 다시 꺼낸다")
+    void take_respectsWorkerBudget() throws InterruptedException {
+        NotificationIngestLanes<Integer> lanes = new NotificationIngestLanes<>(policy);
+        lanes.add(Priority.BULK, 1);
+        lanes.add(Priority.BULK, 2);
+
+        NotificationIngestLanes.Batch<Integer> first = lanes.take(1, 0);
+        assertThat(first.items()).containsExactly(1);
+        assertThat(lanes.take(1, 0)).isNull();
+
+        lanes.done(Priority.BULK);
+        assertThat(lanes.take(1, 0).items()).containsExactly(2);
+        assertThat(lanes.size()).isZero();
+    }
+}
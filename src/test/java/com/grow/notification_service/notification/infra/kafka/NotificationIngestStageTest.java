@@ -0,0 +1,152 @@
+package com.grow.notification_service.notification.infra.kafka;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.notification.application.service.NotificationService;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+import com.grow.notification_service.notification.presentation.dto.NotificationRequestDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class NotificationIngestStageTest {
+
+    private static final String PAYLOAD =
+        "{\"memberId\":%d,\"content\":\"c\",\"notificationType\":\"COMMENT\"}";
+    private static final String TYPED_PAYLOAD =
+        "{\"memberId\":%d,\"content\":\"c\",\"notificationType\":\"%s\"}";
+
+    private NotificationService notificationService;
+    private KafkaTemplate<String, String> kafkaTemplate;
+    private MessageListenerContainer container;
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationIngestStage stage;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        notificationService = mock(NotificationService.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        container = mock(MessageListenerContainer.class);
+        KafkaListenerEndpointRegistry registry = mock(KafkaListenerEndpointRegistry.class);
+        when(registry.getListenerContainer(NotificationRequestedStagedConsumer.LISTENER_ID)).thenReturn(container);
+        meterRegistry = new SimpleMeterRegistry();
+        stage = new NotificationIngestStage(notificationService, kafkaTemplate, registry,
+            new NotificationMetrics(meterRegistry), meterRegistry,
+            new NotificationPriorityPolicy(Set.of(NotificationType.PAYMENT), Set.of(NotificationType.LIKE), 6, 3, 1, 0, 1),
+            4, 1, 10, 2, 0, 0);
+    }
+
+    private static ConsumerRecord<String, String> record(long offset, String value) {
+        return new ConsumerRecord<>("member.notification.requested", 0, offset, null, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("drainOnce: 모인 레코드를 한 번에 저장한 뒤에만 ack한다")
+    void drainOnce_acksAfterCommit() throws InterruptedException {
+        Acknowledgment first = mock(Acknowledgment.class);
+        Acknowledgment second = mock(Acknowledgment.class);
+        stage.offer(record(0, PAYLOAD.formatted(1)), first);
+        stage.offer(record(1, PAYLOAD.formatted(2)), second);
+        verifyNoInteractions(first, second);
+
+        assertThat(stage.drainOnce(0)).isEqualTo(2);
+
+        ArgumentCaptor<List<NotificationRequestDto>> requests = ArgumentCaptor.forClass(List.class);
+        var order = inOrder(notificationService, first, second);
+        order.verify(notificationService).processNotifications(requests.capture());
+        order.verify(first).acknowledge();
+        order.verify(second).acknowledge();
+        assertThat(requests.getValue()).extracting(NotificationRequestDto::getMemberId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("offer/drainOnce: 가득 차면 파티션을 멈추고 절반 이하로 비면 다시 받는다")
+    void pausesWhenFullAndResumesWhenDrained() throws InterruptedException {
+        for (int i = 0; i < 4; i++) {
+            stage.offer(record(i, PAYLOAD.formatted(i)), mock(Acknowledgment.class));
+        }
+        verify(container).pause();
+        assertThat(stage.isPaused()).isTrue();
+        assertThat(meterRegistry.get("notification_ingest_queue_depth").gauge().value()).isEqualTo(4);
+
+        stage.drainOnce(0);
+
+        verify(container).resume();
+        assertThat(stage.isPaused()).isFalse();
+        assertThat(meterRegistry.get("notification_ingest_pause_duration").timer().count()).isOne();
+    }
+
+    @Test
+    @DisplayName("drainOnce: 재시도해도 저장에 실패하면 한 건씩 저장하고 실패한 건만 DLT로 보낸 뒤 ack한다")
+    void drainOnce_deadLettersPoisonRecord() throws InterruptedException {
+        Acknowledgment good = mock(Acknowledgment.class);
+        Acknowledgment bad = mock(Acknowledgment.class);
+        Acknowledgment malformed = mock(Acknowledgment.class);
+        stage.offer(record(0, PAYLOAD.formatted(1)), good);
+        stage.offer(record(1, PAYLOAD.formatted(2)), bad);
+        stage.offer(record(2, "not-json"), malformed);
+        doThrow(new IllegalStateException("batch failed")).when(notificationService)
+            .processNotifications(argThat(list -> list.size() > 1 || list.get(0).getMemberId() == 2L));
+        when(kafkaTemplate.send(eq("member.notification.requested.dlt"), any(), anyString()))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        stage.drainOnce(0);
+
+        verify(notificationService, times(4)).processNotifications(anyList());
+        verify(good).acknowledge();
+        verify(bad).acknowledge();
+        verify(malformed).acknowledge();
+        verify(kafkaTemplate).send("member.notification.requested.dlt", null, PAYLOAD.formatted(2));
+        verify(kafkaTemplate).send("member.notification.requested.dlt", null, "not-json");
+    }
+
+    @Test
+    @DisplayName("drainOnce: DLT 발행이 실패하면 ack를 남겨 두지 않고 성공할 때까지 재시도한 뒤 ack한다")
+    void drainOnce_retriesDeadLetterUntilPublished() throws InterruptedException {
+        Acknowledgment malformed = mock(Acknowledgment.class);
+        stage.offer(record(0, "not-json"), malformed);
+        when(kafkaTemplate.send(eq("member.notification.requested.dlt"), any(), anyString()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+            .thenReturn(CompletableFuture.completedFuture(null));
+
+        stage.drainOnce(0);
+
+        verify(kafkaTemplate, times(2)).send("member.notification.requested.dlt", null, "not-json");
+        verify(malformed).acknowledge();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("drainOnce: 좋아요 알림이 먼저 쌓여 있어도 결제 알림 레인을 먼저 처리한다")
+    void drainOnce_servesUrgentLaneFirst() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            stage.offer(record(i, TYPED_PAYLOAD.formatted(i, "LIKE")), mock(Acknowledgment.class));
+        }
+        stage.offer(record(3, TYPED_PAYLOAD.formatted(100, "PAYMENT")), mock(Acknowledgment.class));
+
+        stage.drainOnce(0);
+        stage.drainOnce(0);
+
+        ArgumentCaptor<List<NotificationRequestDto>> requests = ArgumentCaptor.forClass(List.class);
+        verify(notificationService, times(2)).processNotifications(requests.capture());
+        assertThat(requests.getAllValues().get(0)).extracting(NotificationRequestDto::getMemberId).containsExactly(100L);
+        assertThat(requests.getAllValues().get(1)).extracting(NotificationRequestDto::getMemberId).containsExactly(0L, 1L, 2L);
+        assertThat(meterRegistry.get("notification_ingest_lane_wait").tag("lane", "urgent").timer().count()).isOne();
+    }
+}
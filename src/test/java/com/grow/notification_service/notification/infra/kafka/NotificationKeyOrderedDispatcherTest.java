@@ -0,0 +1,107 @@
+package com.grow.notification_service.notification.infra.kafka;
+
+import com.grow.notification_service.global.metrics.NotificationMetrics;
+import com.grow.notification_service.notification.application.service.NotificationService;
+import com.grow.notification_service.notification.presentation.dto.NotificationRequestDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class NotificationKeyOrderedDispatcherTest {
+
+    private static final String PAYLOAD =
+        "{\"memberId\":%d,\"content\":\"%s\",\"notificationType\":\"COMMENT\"}";
+
+    private NotificationService notificationService;
+    private MessageListenerContainer container;
+    private NotificationKeyOrderedDispatcher dispatcher;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        notificationService = mock(NotificationService.class);
+        container = mock(MessageListenerContainer.class);
+        KafkaListenerEndpointRegistry registry = mock(KafkaListenerEndpointRegistry.class);
+        when(registry.getListenerContainer(NotificationRequestedParallelConsumer.LISTENER_ID)).thenReturn(container);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new NotificationKeyOrderedDispatcher(notificationService, mock(KafkaTemplate.class), registry,
+            new NotificationMetrics(meterRegistry), meterRegistry, 8, 4, 10, 1, 0, 0);
+    }
+
+    private static ConsumerRecord<String, String> record(int partition, long offset, long memberId, String content) {
+        return new ConsumerRecord<>("note.notification.requested", partition, offset,
+            String.valueOf(memberId), PAYLOAD.formatted(memberId, content));
+    }
+
+    @Test
+    @DisplayName("workerOf: 같은 키는 파티션과 관계없이 항상 같은 워커에 배정되고, 여러 키는 워커들에 퍼진다")
+    void workerOf_pinsKeysAndSpreadsLoad() {
+        assertThat(dispatcher.workerOf(record(0, 0, 7, "a"))).isEqualTo(dispatcher.workerOf(record(0, 99, 7, "b")));
+
+        long used = LongStream.range(0, 100)
+            .map(memberId -> dispatcher.workerOf(record(0, memberId, memberId, "a")))
+            .distinct()
+            .count();
+        assertThat(used).isEqualTo(8);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("drainOnce: 한 워커에 배정된 같은 회원의 알림은 들어온 순서대로 저장한 뒤 ack한다")
+    void drainOnce_keepsPerKeyOrder() throws InterruptedException {
+        Acknowledgment first = mock(Acknowledgment.class);
+        Acknowledgment second = mock(Acknowledgment.class);
+        ConsumerRecord<String, String> older = record(0, 10, 7, "first");
+        dispatcher.offer(older, first);
+        dispatcher.offer(record(0, 11, 7, "second"), second);
+
+        assertThat(dispatcher.drainOnce(dispatcher.workerOf(older), 0)).isEqualTo(2);
+
+        ArgumentCaptor<List<NotificationRequestDto>> requests = ArgumentCaptor.forClass(List.class);
+        var order = inOrder(notificationService, first, second);
+        order.verify(notificationService).processNotifications(requests.capture());
+        order.verify(first).acknowledge();
+        order.verify(second).acknowledge();
+        assertThat(requests.getValue()).extracting(NotificationRequestDto::getContent).containsExactly("first", "second");
+    }
+
+    @Test
+    @DisplayName("offer/drainOnce: 한 워커에 몰려 대기 레코드가 capacity에 이르면 파티션을 멈추고 절반 이하로 비면 다시 받는다")
+    void pausesWhenWorkerQueueFull() throws InterruptedException {
+        ConsumerRecord<String, String> hot = record(0, 0, 7, "a");
+        for (int i = 0; i < 4; i++) {
+            dispatcher.offer(record(0, i, 7, "a" + i), mock(Acknowledgment.class));
+        }
+        verify(container).pause();
+        assertThat(dispatcher.isPaused()).isTrue();
+
+        dispatcher.drainOnce(dispatcher.workerOf(hot), 0);
+
+        verify(container).resume();
+        assertThat(dispatcher.depth()).isZero();
+    }
+
+    @Test
+    @DisplayName("offer: 레코드가 여러 워커에 퍼져 있어도 대기 레코드 합이 capacity에 이르면 파티션을 멈춘다")
+    void pausesWhenTotalDepthReachesCapacity() {
+        for (int memberId = 0; memberId < 4; memberId++) {
+            dispatcher.offer(record(0, memberId, memberId, "a"), mock(Acknowledgment.class));
+        }
+
+        verify(container).pause();
+        assertThat(dispatcher.isPaused()).isTrue();
+    }
+}
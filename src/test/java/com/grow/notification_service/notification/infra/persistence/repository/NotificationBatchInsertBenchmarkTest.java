@@ -0,0 +1,140 @@
+package com.grow.notification_service.notification.infra.persistence.repository;
+
+import com.grow.notification_service.notification.domain.model.Notification;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 요청을 한 건씩 저장할 때(레코드마다 INSERT + 커밋)와 배치 리스너처럼 한 트랜잭션의 다건 INSERT로 저장할 때의
+ * 처리량과 메시지당 DB 왕복 수(문장 실행 + 커밋/롤백)를 비교합니다. 임베디드 H2 기준이므로 네트워크 지연은 포함되지 않으며,
+ * 실제 DB에서는 왕복 수 차이가 처리량 차이로 더 크게 나타납니다.
+ *
+ * <p>기본 test 태스크에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ */
+@Tag("benchmark")
+class NotificationBatchInsertBenchmarkTest {
+
+    private static final int MESSAGES = 5_000;
+    private static final int POLL_SIZE = 500;
+    private static final Set<String> ROUND_TRIPS = Set.of(
+        "execute", "executeUpdate", "executeQuery", "executeBatch", "commit", "rollback");
+
+    @Test
+    @DisplayName("benchmark: 한 건씩 저장 vs 배치 다건 INSERT의 처리량과 메시지당 DB 왕복 수")
+    void compareSingleAndBatchInsert() {
+        List<Notification> notifications = IntStream.rangeClosed(1, MESSAGES)
+            .mapToObj(NotificationJdbcRepositoryTest::notification)
+            .toList();
+
+        Result single = run("single", (repository, tx) -> {
+            for (Notification notification : notifications) {
+                tx.executeWithoutResult(status -> repository.insertAll(List.of(notification)));
+            }
+        });
+        Result batch = run("batch", (repository, tx) -> {
+            for (int from = 0; from < MESSAGES; from += POLL_SIZE) {
+                List<Notification> poll = notifications.subList(from, Math.min(MESSAGES, from + POLL_SIZE));
+                tx.executeWithoutResult(status -> repository.insertAll(poll));
+            }
+        });
+
+        System.out.printf("[Notification insert benchmark] messages=%d, pollSize=%d%n", MESSAGES, POLL_SIZE);
+        System.out.println(single);
+        System.out.println(batch);
+
+        assertThat(batch.roundTripsPerMessage()).isLessThan(single.roundTripsPerMessage());
+    }
+
+    private Result run(String mode, Workload workload) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        try {
+            new JdbcTemplate(database).execute(NotificationJdbcRepositoryTest.DDL);
+            CountingDataSource dataSource = new CountingDataSource(database);
+            NotificationJdbcRepository repository = new NotificationJdbcRepository(new JdbcTemplate(dataSource));
+            TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+            long start = System.nanoTime();
+            workload.run(repository, tx);
+            long elapsed = System.nanoTime() - start;
+
+            Long rows = new JdbcTemplate(database).queryForObject("SELECT COUNT(*) FROM notification", Long.class);
+            assertThat(rows).isEqualTo(MESSAGES);
+            return new Result(mode, MESSAGES * 1_000_000_000L / Math.max(1, elapsed),
+                (double) dataSource.roundTrips.get() / MESSAGES);
+        } finally {
+            database.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Workload {
+        void run(NotificationJdbcRepository repository, TransactionTemplate tx);
+    }
+
+    private record Result(String mode, long messagesPerSecond, double roundTripsPerMessage) {
+        @Override
+        public String toString() {
+            return String.format("  %-7s messages/s=%,d roundTrips/message=%.3f", mode, messagesPerSecond,
+                roundTripsPerMessage);
+        }
+    }
+
+    /** 문장 실행과 커밋/롤백 호출을 DB 왕복으로 셉니다. */
+    private static final class CountingDataSource extends DelegatingDataSource {
+
+        private final AtomicLong roundTrips = new AtomicLong();
+
+        CountingDataSource(EmbeddedDatabase target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(Connection.class, super.getConnection());
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T counting(Class<T> type, T target) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+                if (ROUND_TRIPS.contains(method.getName())) {
+                    roundTrips.incrementAndGet();
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (result instanceof PreparedStatement statement) {
+                    return counting(PreparedStatement.class, statement);
+                }
+                if (result instanceof Statement statement) {
+                    return counting(Statement.class, statement);
+                }
+                return result;
+            });
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.grow.notification_service.notification.infra.persistence.repository;
+
+import com.grow.notification_service.notification.domain.model.Notification;
+import com.grow.notification_service.notification.infra.persistence.entity.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationJdbcRepositoryTest {
+
+    static final String DDL = """
+        CREATE TABLE notification (
+            notification_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+            member_id BIGINT NOT NULL,
+            content VARCHAR(255) NOT NULL,
+            created_at TIMESTAMP NOT NULL,
+            is_read BOOLEAN NOT NULL,
+            notification_type VARCHAR(50) NOT NULL,
+            is_sent BOOLEAN NOT NULL
+        )""";
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private NotificationJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute(DDL);
+        repository = new NotificationJdbcRepository(jdbcTemplate);
+        ReflectionTestUtils.setField(repository, "chunkSize", 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    static Notification notification(long memberId) {
+        return Notification.of(null, memberId, "content-" + memberId, LocalDateTime.of(2026, 10, 18, 12, 0),
+            false, NotificationType.COMMENT, false);
+    }
+
+    @Test
+    @DisplayName("insertAll: chunk 단위 다건 INSERT로 저장하고 생성된 ID를 입력 순서대로 돌려준다")
+    void insertAll_returnsIdsInInputOrder() {
+        List<Notification> notifications = IntStream.rangeClosed(1, 7).mapToObj(i -> notification(i)).toList();
+
+        List<Long> ids = repository.insertAll(notifications);
+
+        assertThat(ids).hasSize(7).doesNotHaveDuplicates().isSorted();
+        for (int i = 0; i < ids.size(); i++) {
+            Long memberId = jdbcTemplate.queryForObject(
+                "SELECT member_id FROM notification WHERE notification_id = ?", Long.class, ids.get(i));
+            assertThat(memberId).isEqualTo(i + 1L);
+        }
+    }
+
+    @Test
+    @DisplayName("insertAll: 빈 목록이면 INSERT하지 않는다")
+    void insertAll_emptyList() {
+        assertThat(repository.insertAll(List.of())).isEmpty();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification", Long.class)).isZero();
+    }
+}